@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+
+/**
+ * Benchmarks for invoking methods on JDK dynamic proxies and CGLIB proxies,
+ * with an empty, a single and a longer interceptor chain, as well as for
+ * looking up the cached interceptor chain of a method by the method itself
+ * versus by a key object wrapping it.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ProxyInvocationBenchmark {
+
+	@Benchmark
+	public int invoke(ProxyState state) {
+		return state.proxy.increment(state.value);
+	}
+
+	@Benchmark
+	public List<Object> interceptorChainByMethod(ChainState state) {
+		return state.advised.getInterceptorsAndDynamicInterceptionAdvice(state.method, SimpleCounter.class);
+	}
+
+	@Benchmark
+	public List<Object> interceptorChainByMethodKey(ChainState state) {
+		return state.chainsByKey.get(new MethodKey(state.method));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ProxyState {
+
+		@Param({"jdk", "cglib"})
+		public String proxyType;
+
+		@Param({"0", "1", "3"})
+		public int interceptorCount;
+
+		@Param({"false", "true"})
+		public boolean frozen;
+
+		public Counter proxy;
+
+		public int value = 42;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			ProxyFactory factory = new ProxyFactory(new SimpleCounter());
+			factory.setProxyTargetClass("cglib".equals(this.proxyType));
+			if ("jdk".equals(this.proxyType)) {
+				factory.addInterface(Counter.class);
+			}
+			for (int i = 0; i < this.interceptorCount; i++) {
+				MethodInterceptor interceptor = invocation -> invocation.proceed();
+				NameMatchMethodPointcutAdvisor advisor = new NameMatchMethodPointcutAdvisor(interceptor);
+				advisor.setMappedName("increment");
+				factory.addAdvisor(advisor);
+			}
+			factory.setFrozen(this.frozen);
+			this.proxy = (Counter) factory.getProxy();
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ChainState {
+
+		public AdvisedSupport advised;
+
+		public Method method;
+
+		public Map<MethodKey, List<Object>> chainsByKey = new ConcurrentHashMap<>();
+
+		@Setup(Level.Trial)
+		public void setup() throws NoSuchMethodException {
+			ProxyFactory factory = new ProxyFactory(new SimpleCounter());
+			NameMatchMethodPointcutAdvisor advisor = new NameMatchMethodPointcutAdvisor(
+					(MethodInterceptor) invocation -> invocation.proceed());
+			advisor.setMappedName("increment");
+			factory.addAdvisor(advisor);
+			this.advised = factory;
+			this.method = Counter.class.getMethod("increment", int.class);
+			this.chainsByKey.put(new MethodKey(this.method),
+					factory.getInterceptorsAndDynamicInterceptionAdvice(this.method, SimpleCounter.class));
+		}
+	}
+
+
+	/**
+	 * Key wrapping a Method with identity semantics, as allocated per lookup
+	 * by the previous advisor chain cache.
+	 */
+	public static final class MethodKey {
+
+		private final Method method;
+
+		private final int hashCode;
+
+		public MethodKey(Method method) {
+			this.method = method;
+			this.hashCode = method.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return (this == other || (other instanceof MethodKey that && this.method == that.method));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	public interface Counter {
+
+		int increment(int value);
+	}
+
+
+	public static class SimpleCounter implements Counter {
+
+		@Override
+		public int increment(int value) {
+			return value + 1;
+		}
+	}
+
+}
@@ -108,7 +108,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 
 	/** Cache with Method as key and advisor chain List as value. */
 	@Nullable
-	private transient Map<MethodCacheKey, List<Object>> methodCache;
+	private transient Map<Method, List<Object>> methodCache;
 
 	/** Cache with shared interceptors which are not method-specific. */
 	@Nullable
@@ -500,8 +500,14 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 			return cachedInterceptors;
 		}
 
-		// Method-specific cache for method-specific pointcuts
-		return this.methodCache.computeIfAbsent(new MethodCacheKey(method), k ->
+		// Method-specific cache for method-specific pointcuts: keyed by the Method
+		// itself, which is usually the identical instance on every invocation, so
+		// that a plain lookup neither allocates a key nor calls Method.equals
+		List<Object> cached = this.methodCache.get(method);
+		if (cached != null) {
+			return cached;
+		}
+		return this.methodCache.computeIfAbsent(method, k ->
 				this.advisorChainFactory.getInterceptorsAndDynamicInterceptionAdvice(this, method, targetClass));
 	}
 
@@ -622,47 +628,6 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	}
 
 
-	/**
-	 * Simple wrapper class around a Method. Used as the key when
-	 * caching methods, for efficient equals and hashCode comparisons.
-	 */
-	private static final class MethodCacheKey implements Comparable<MethodCacheKey> {
-
-		private final Method method;
-
-		private final int hashCode;
-
-		public MethodCacheKey(Method method) {
-			this.method = method;
-			this.hashCode = method.hashCode();
-		}
-
-		@Override
-		public boolean equals(@Nullable Object other) {
-			return (this == other || (other instanceof MethodCacheKey that && this.method == that.method));
-		}
-
-		@Override
-		public int hashCode() {
-			return this.hashCode;
-		}
-
-		@Override
-		public String toString() {
-			return this.method.toString();
-		}
-
-		@Override
-		public int compareTo(MethodCacheKey other) {
-			int result = this.method.getName().compareTo(other.method.getName());
-			if (result == 0) {
-				result = this.method.toString().compareTo(other.method.toString());
-			}
-			return result;
-		}
-	}
-
-
 	/**
 	 * Stub for an {@link Advisor} instance that is just needed for key purposes,
 	 * allowing for efficient equals and hashCode comparisons against the
@@ -48,6 +48,8 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.core.SmartClassLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -364,11 +366,28 @@ public abstract class AbstractAutoProxyCreator extends ProxyProcessorSupport
 		}
 
 		// Create proxy if we have advice.
-		Object[] specificInterceptors = getAdvicesAndAdvisorsForBean(bean.getClass(), beanName, null);
+		ApplicationStartup applicationStartup = getApplicationStartup();
+		StartupStep advisorLookup = applicationStartup.start("spring.aop.advisors.find")
+				.tag("beanName", beanName);
+		Object[] specificInterceptors;
+		try {
+			specificInterceptors = getAdvicesAndAdvisorsForBean(bean.getClass(), beanName, null);
+		}
+		finally {
+			advisorLookup.end();
+		}
 		if (specificInterceptors != DO_NOT_PROXY) {
 			this.advisedBeans.put(cacheKey, Boolean.TRUE);
-			Object proxy = createProxy(
-					bean.getClass(), beanName, specificInterceptors, new SingletonTargetSource(bean));
+			StartupStep proxyCreation = applicationStartup.start("spring.aop.proxy.create")
+					.tag("beanName", beanName);
+			Object proxy;
+			try {
+				proxy = createProxy(
+						bean.getClass(), beanName, specificInterceptors, new SingletonTargetSource(bean));
+			}
+			finally {
+				proxyCreation.end();
+			}
 			this.proxyTypes.put(cacheKey, proxy.getClass());
 			return proxy;
 		}
@@ -377,6 +396,11 @@ public abstract class AbstractAutoProxyCreator extends ProxyProcessorSupport
 		return bean;
 	}
 
+	private ApplicationStartup getApplicationStartup() {
+		return (this.beanFactory instanceof ConfigurableBeanFactory cbf ?
+				cbf.getApplicationStartup() : ApplicationStartup.DEFAULT);
+	}
+
 	/**
 	 * Return whether the given bean class represents an infrastructure class
 	 * that should never be proxied.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.context.annotation;
 
+import java.lang.reflect.Method;
+
 import jakarta.annotation.Resource;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -32,9 +34,15 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
 
 /**
- * Benchmark for bean annotation processing with various annotations.
+ * Benchmark for bean annotation processing with various annotations,
+ * as well as for stereotype lookups through {@link MergedAnnotations}.
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -78,6 +86,35 @@ public class AnnotationProcessorBenchmark {
 		return tb.getSpouse();
 	}
 
+	@State(Scope.Benchmark)
+	public static class LookupState {
+
+		@Param({"DIRECT", "TYPE_HIERARCHY"})
+		public SearchStrategy searchStrategy;
+
+		public Method method;
+
+		@Setup
+		public void setup() throws Exception {
+			this.method = SubServiceBean.class.getMethod("setSpouse", ITestBean.class);
+		}
+	}
+
+	@Benchmark
+	public boolean stereotypeIsPresent(LookupState state) {
+		return MergedAnnotations.from(SubServiceBean.class, state.searchStrategy).isPresent(Component.class);
+	}
+
+	@Benchmark
+	public MergedAnnotation<Component> stereotypeGet(LookupState state) {
+		return MergedAnnotations.from(SubServiceBean.class, state.searchStrategy).get(Component.class);
+	}
+
+	@Benchmark
+	public boolean methodAnnotationIsPresent(LookupState state) {
+		return MergedAnnotations.from(state.method, state.searchStrategy).isPresent(Autowired.class);
+	}
+
 
 	private static class ResourceAnnotatedTestBean extends org.springframework.beans.testfixture.beans.TestBean {
 
@@ -99,4 +136,17 @@ public class AnnotationProcessorBenchmark {
 		}
 	}
 
+	@Service
+	private static class ServiceBean extends AutowiredAnnotatedTestBean {
+	}
+
+	private static class SubServiceBean extends ServiceBean {
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public void setSpouse(ITestBean spouse) {
+			super.setSpouse(spouse);
+		}
+	}
+
 }
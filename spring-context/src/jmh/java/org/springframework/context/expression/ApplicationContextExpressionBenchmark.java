@@ -19,6 +19,7 @@ package org.springframework.context.expression;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -28,10 +29,21 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 
 /**
- * Benchmark for application context expressions resolution during prototype bean creation.
+ * Benchmark for application context expressions resolution during prototype bean creation,
+ * and for the evaluation of cache key expressions.
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -68,4 +80,59 @@ public class ApplicationContextExpressionBenchmark {
 		bh.consume(tb.getName());
 		bh.consume(tb.getCountry());
 	}
+
+	@State(Scope.Benchmark)
+	public static class CacheKeyBenchmarkState {
+
+		@Param({"OFF", "MIXED"})
+		public SpelCompilerMode compilerMode;
+
+		public AnnotationConfigApplicationContext context;
+
+		public TenantService service;
+
+		@Setup
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(CacheConfiguration.class);
+			this.context.getBean(CacheInterceptor.class).setExpressionParserConfiguration(
+					new SpelParserConfiguration(this.compilerMode, getClass().getClassLoader()));
+			this.service = this.context.getBean(TenantService.class);
+		}
+
+		@TearDown
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void cacheableWithKeyExpression(CacheKeyBenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.find(42L, "acme"));
+	}
+
+
+	@Configuration
+	@EnableCaching
+	public static class CacheConfiguration {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("tenants");
+		}
+
+		@Bean
+		public TenantService tenantService() {
+			return new TenantService();
+		}
+	}
+
+
+	public static class TenantService {
+
+		@Cacheable(cacheNames = "tenants", key = "#tenant + ':' + #id.toString()")
+		public String find(long id, String tenant) {
+			return tenant + "-" + id;
+		}
+	}
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Benchmark for scheduling and cancelling timeout-like tasks with
+ * {@link ThreadPoolTaskScheduler} and {@link TimingWheelTaskScheduler},
+ * with a million tasks pending at the same time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskSchedulerBenchmark {
+
+	private static final int TASK_COUNT = 1_000_000;
+
+	private static final Runnable NO_OP = () -> {};
+
+
+	@State(Scope.Benchmark)
+	public static class SchedulerState {
+
+		@Param({"threadPool", "timingWheel"})
+		public String scheduler;
+
+		public ExecutorConfigurationSupport executor;
+
+		public TaskScheduler taskScheduler;
+
+		public ScheduledFuture<?>[] futures;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			if (this.scheduler.equals("threadPool")) {
+				ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+				threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+				this.executor = threadPoolTaskScheduler;
+				this.taskScheduler = threadPoolTaskScheduler;
+			}
+			else {
+				TimingWheelTaskScheduler timingWheelTaskScheduler = new TimingWheelTaskScheduler();
+				this.executor = timingWheelTaskScheduler;
+				this.taskScheduler = timingWheelTaskScheduler;
+			}
+			this.executor.afterPropertiesSet();
+			this.futures = new ScheduledFuture<?>[TASK_COUNT];
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.executor.shutdown();
+		}
+	}
+
+
+	/**
+	 * State with a million tasks pending in the scheduler,
+	 * such as session timeouts in the near future.
+	 */
+	@State(Scope.Benchmark)
+	public static class PendingTasksState {
+
+		public ScheduledFuture<?>[] futures;
+
+		@Setup(Level.Trial)
+		public void setup(SchedulerState state) {
+			this.futures = new ScheduledFuture<?>[TASK_COUNT];
+			Instant now = Instant.now();
+			for (int i = 0; i < this.futures.length; i++) {
+				this.futures[i] = state.taskScheduler.schedule(NO_OP, now.plusSeconds(600 + (i % 600)));
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			for (ScheduledFuture<?> future : this.futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+
+	/**
+	 * Schedule and cancel a million tasks, e.g. the timeouts
+	 * of as many sessions, measuring the time per task.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TASK_COUNT)
+	public void scheduleAndCancelAll(SchedulerState state) {
+		ScheduledFuture<?>[] futures = state.futures;
+		Instant now = Instant.now();
+		for (int i = 0; i < futures.length; i++) {
+			futures[i] = state.taskScheduler.schedule(NO_OP, now.plusSeconds(10 + (i % 60)));
+		}
+		for (ScheduledFuture<?> future : futures) {
+			future.cancel(false);
+		}
+	}
+
+	/**
+	 * Schedule and cancel a single task, e.g. a heartbeat that is rescheduled
+	 * on every message, while a million tasks are pending.
+	 */
+	@Benchmark
+	public ScheduledFuture<?> scheduleAndCancelWithPendingTasks(SchedulerState state, PendingTasksState pending) {
+		ScheduledFuture<?> future = state.taskScheduler.schedule(NO_OP, Instant.now().plus(Duration.ofSeconds(25)));
+		future.cancel(false);
+		return future;
+	}
+
+}
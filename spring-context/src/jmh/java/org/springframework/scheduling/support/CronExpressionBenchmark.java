@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for calculating the next matches of a {@link CronExpression}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CronExpressionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"0 */5 9-17 * * MON-FRI", "0 0 0 * * *", "*/10 * * * * *", "0 0 0 LW * *", "0 30 2 ? * 5#2"})
+		public String expression;
+
+		public CronExpression cronExpression;
+
+		public ZonedDateTime zonedDateTime;
+
+		public LocalDateTime localDateTime;
+
+		@Setup
+		public void setup() {
+			this.cronExpression = CronExpression.parse(this.expression);
+			this.zonedDateTime = ZonedDateTime.of(2024, 5, 2, 13, 47, 21, 0, ZoneId.of("Europe/Amsterdam"));
+			this.localDateTime = this.zonedDateTime.toLocalDateTime();
+		}
+	}
+
+
+	@Benchmark
+	public ZonedDateTime nextZonedDateTime(BenchmarkState state) {
+		return state.cronExpression.next(state.zonedDateTime);
+	}
+
+	@Benchmark
+	public LocalDateTime nextLocalDateTime(BenchmarkState state) {
+		return state.cronExpression.next(state.localDateTime);
+	}
+
+	@Benchmark
+	public List<ZonedDateTime> nextTenZonedDateTimes(BenchmarkState state) {
+		return state.cronExpression.next(state.zonedDateTime, 10);
+	}
+
+}
@@ -54,6 +54,9 @@ import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.SpringProperties;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -126,7 +129,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final StandardEvaluationContext originalEvaluationContext = new StandardEvaluationContext();
 
-	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator(
+	private CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator(
 			new CacheEvaluationContextFactory(this.originalEvaluationContext));
 
 	@Nullable
@@ -243,6 +246,22 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Set the {@link SpelParserConfiguration} to use for the SpEL expressions of
+	 * cache operations, such as their key, condition and unless expressions.
+	 * <p>For example, a configuration with {@link SpelCompilerMode#MIXED} compiles
+	 * these expressions once they have been evaluated a given number of times,
+	 * independently of the global {@code spring.expression.compiler.mode} setting.
+	 * <p>The default is a configuration with default settings.
+	 * @since 6.2
+	 * @see SpelParserConfiguration#SpelParserConfiguration(SpelCompilerMode, ClassLoader, int)
+	 */
+	public void setExpressionParserConfiguration(SpelParserConfiguration configuration) {
+		Assert.notNull(configuration, "SpelParserConfiguration must not be null");
+		this.evaluator = new CacheOperationExpressionEvaluator(
+				new CacheEvaluationContextFactory(this.originalEvaluationContext), new SpelExpressionParser(configuration));
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
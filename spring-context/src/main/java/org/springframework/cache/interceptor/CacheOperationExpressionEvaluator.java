@@ -26,6 +26,7 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 
 /**
@@ -68,7 +69,13 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 	private final CacheEvaluationContextFactory evaluationContextFactory;
 
 	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory) {
-		super();
+		this(evaluationContextFactory, new SpelExpressionParser());
+	}
+
+	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory,
+			SpelExpressionParser parser) {
+
+		super(parser);
 		this.evaluationContextFactory = evaluationContextFactory;
 		this.evaluationContextFactory.setParameterNameDiscoverer(this::getParameterNameDiscoverer);
 	}
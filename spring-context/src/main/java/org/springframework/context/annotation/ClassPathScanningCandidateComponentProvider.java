@@ -20,10 +20,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -107,11 +109,25 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	/**
+	 * System property that instructs Spring to read the class files found during
+	 * classpath scanning in parallel, as with {@link #setParallelScanning}, also
+	 * for scanners that are not directly configurable, e.g. for
+	 * {@link ComponentScan @ComponentScan}.
+	 * @since 6.2
+	 * @see #setParallelScanning
+	 */
+	public static final String PARALLEL_SCAN_PROPERTY_NAME = "spring.context.scan.parallel";
+
+	private static final int PARALLEL_SCAN_BATCH_SIZE = 256;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private String resourcePattern = DEFAULT_RESOURCE_PATTERN;
 
+	private boolean parallelScanning = SpringProperties.getFlag(PARALLEL_SCAN_PROPERTY_NAME);
+
 	private final List<TypeFilter> includeFilters = new ArrayList<>();
 
 	private final List<TypeFilter> excludeFilters = new ArrayList<>();
@@ -180,6 +196,25 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		this.resourcePattern = resourcePattern;
 	}
 
+	/**
+	 * Specify whether to read the class files found during classpath scanning
+	 * in parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Only reading and parsing of class files happens in parallel, in batches
+	 * of a bounded size: type filters and conditions are still applied by the
+	 * calling thread, in the order of the scanned resources, so that the
+	 * resulting candidates are the same as with sequential scanning. This
+	 * requires a thread-safe {@link #setMetadataReaderFactory MetadataReaderFactory},
+	 * as is the case for the default {@link CachingMetadataReaderFactory}.
+	 * <p>Default is "false", unless the {@value #PARALLEL_SCAN_PROPERTY_NAME}
+	 * system property is set to "true". Consider switching this on for
+	 * applications scanning a large number of classes on multi-core machines.
+	 * @since 6.2
+	 * @see #PARALLEL_SCAN_PROPERTY_NAME
+	 */
+	public void setParallelScanning(boolean parallelScanning) {
+		this.parallelScanning = parallelScanning;
+	}
+
 	/**
 	 * Add an include type filter to the <i>end</i> of the inclusion list.
 	 */
@@ -455,11 +490,16 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			MetadataReader[] metadataReaders = (this.parallelScanning ?
+					new MetadataReader[Math.min(resources.length, PARALLEL_SCAN_BATCH_SIZE)] : null);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			for (int i = 0; i < resources.length; i++) {
+				if (metadataReaders != null && i % metadataReaders.length == 0) {
+					readMetadataInParallel(resources, i, metadataReaders);
+				}
+				Resource resource = resources[i];
+				if (isCglibGeneratedClass(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -467,7 +507,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader =
+							(metadataReaders != null ? metadataReaders[i % metadataReaders.length] : null);
+					if (metadataReader == null) {
+						metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					}
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -517,6 +561,39 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Read the metadata of the next batch of the given class file resources in
+	 * parallel, starting at the given offset.
+	 * <p>Resources that could not be read are left {@code null} in the batch,
+	 * to be read again by the calling thread which applies the regular error
+	 * handling.
+	 * @param resources the class file resources to read
+	 * @param offset the index of the first resource of the batch
+	 * @param metadataReaders the array to hold the metadata readers of the
+	 * batch, in the order of the given resources
+	 */
+	private void readMetadataInParallel(Resource[] resources, int offset, MetadataReader[] metadataReaders) {
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		Arrays.fill(metadataReaders, null);
+		int count = Math.min(metadataReaders.length, resources.length - offset);
+		IntStream.range(0, count).parallel().forEach(i -> {
+			Resource resource = resources[offset + i];
+			if (!isCglibGeneratedClass(resource)) {
+				try {
+					metadataReaders[i] = metadataReaderFactory.getMetadataReader(resource);
+				}
+				catch (IOException | RuntimeException ex) {
+					// Ignore - to be read again with regular error handling
+				}
+			}
+		});
+	}
+
+	private static boolean isCglibGeneratedClass(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
@@ -63,9 +64,12 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PropertySourceDescriptor;
 import org.springframework.core.io.support.PropertySourceProcessor;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AssignableTypeFilter;
@@ -141,6 +145,10 @@ class ConfigurationClassParser {
 
 	private final SourceClass objectSourceClass = new SourceClass(Object.class);
 
+	private boolean parallelParsing = false;
+
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 
 	/**
 	 * Create a new {@link ConfigurationClassParser} instance that will be used
@@ -163,7 +171,39 @@ class ConfigurationClassParser {
 	}
 
 
+	/**
+	 * Specify whether to read the class metadata of the configuration classes
+	 * to parse in parallel, before processing them in the regular order.
+	 * <p>This also switches on {@linkplain ClassPathScanningCandidateComponentProvider#setParallelScanning
+	 * parallel scanning} for {@link ComponentScan @ComponentScan} processing.
+	 * @since 6.2
+	 * @see #preloadMetadata
+	 */
+	void setParallelParsing(boolean parallelParsing) {
+		this.parallelParsing = parallelParsing;
+		this.componentScanParser.setParallelScanning(parallelParsing);
+	}
+
+	/**
+	 * Set the {@link ApplicationStartup} to record the processing of individual
+	 * configuration classes and component scans with.
+	 * @since 6.2
+	 */
+	void setApplicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
 	public void parse(Set<BeanDefinitionHolder> configCandidates) {
+		if (this.parallelParsing && this.metadataReaderFactory instanceof CachingMetadataReaderFactory) {
+			StartupStep preload = this.applicationStartup.start("spring.context.config-classes.preload");
+			try {
+				preloadMetadata(configCandidates);
+			}
+			finally {
+				preload.end();
+			}
+		}
+
 		for (BeanDefinitionHolder holder : configCandidates) {
 			BeanDefinition bd = holder.getBeanDefinition();
 			try {
@@ -205,6 +245,73 @@ class ConfigurationClassParser {
 		processConfigurationClass(new ConfigurationClass(reader, beanName), DEFAULT_EXCLUSION_FILTER);
 	}
 
+	/**
+	 * Read the class metadata for the given configuration candidates and for
+	 * the classes that their processing is going to introspect, that is, their
+	 * superclasses, interfaces, member classes, annotations and statically
+	 * {@link Import imported} classes, in parallel and independent of each
+	 * other.
+	 * <p>This only populates the cache of the {@link CachingMetadataReaderFactory}:
+	 * the configuration classes are subsequently processed in the regular order,
+	 * with conditions being evaluated and bean definitions being registered on
+	 * the calling thread, so that the outcome is the same as without preloading.
+	 * Classes that cannot be read are ignored here, leaving it up to regular
+	 * processing to report the failure.
+	 * @param configCandidates the configuration candidates about to be parsed
+	 */
+	private void preloadMetadata(Set<BeanDefinitionHolder> configCandidates) {
+		Set<String> visited = ConcurrentHashMap.newKeySet();
+		List<String> classNames = new ArrayList<>(configCandidates.size());
+		for (BeanDefinitionHolder holder : configCandidates) {
+			String className = holder.getBeanDefinition().getBeanClassName();
+			if (isPreloadCandidate(className) && visited.add(className)) {
+				classNames.add(className);
+			}
+		}
+		while (!classNames.isEmpty()) {
+			classNames = classNames.parallelStream()
+					.flatMap(className -> preloadMetadata(className).stream())
+					.filter(visited::add)
+					.toList();
+		}
+	}
+
+	/**
+	 * Read the class metadata for the given class name.
+	 * @return the names of the related classes to read next
+	 */
+	private List<String> preloadMetadata(String className) {
+		AnnotationMetadata metadata;
+		try {
+			metadata = this.metadataReaderFactory.getMetadataReader(className).getAnnotationMetadata();
+		}
+		catch (Throwable ex) {
+			// Ignore - to be read again with regular error handling
+			return Collections.emptyList();
+		}
+		List<String> relatedClassNames = new ArrayList<>();
+		if (metadata.hasSuperClass()) {
+			relatedClassNames.add(metadata.getSuperClassName());
+		}
+		Collections.addAll(relatedClassNames, metadata.getInterfaceNames());
+		Collections.addAll(relatedClassNames, metadata.getMemberClassNames());
+		relatedClassNames.addAll(metadata.getAnnotationTypes());
+		MultiValueMap<String, Object> imports = metadata.getAllAnnotationAttributes(Import.class.getName(), true);
+		if (imports != null) {
+			for (Object value : imports.getOrDefault("value", Collections.emptyList())) {
+				if (value instanceof String[] importedClassNames) {
+					Collections.addAll(relatedClassNames, importedClassNames);
+				}
+			}
+		}
+		relatedClassNames.removeIf(relatedClassName -> !isPreloadCandidate(relatedClassName));
+		return relatedClassNames;
+	}
+
+	private static boolean isPreloadCandidate(@Nullable String className) {
+		return (className != null && !className.startsWith("java") && !DEFAULT_EXCLUSION_FILTER.test(className));
+	}
+
 	/**
 	 * Validate each {@link ConfigurationClass} object.
 	 * @see ConfigurationClass#validate
@@ -260,6 +367,8 @@ class ConfigurationClassParser {
 		}
 
 		// Recursively process the configuration class and its superclass hierarchy.
+		StartupStep processConfigClass = this.applicationStartup.start("spring.context.config-classes.process")
+				.tag("className", configClass.getMetadata().getClassName());
 		SourceClass sourceClass = null;
 		try {
 			sourceClass = asSourceClass(configClass, filter);
@@ -272,6 +381,9 @@ class ConfigurationClassParser {
 			throw new BeanDefinitionStoreException(
 					"I/O failure while processing configuration class [" + sourceClass + "]", ex);
 		}
+		finally {
+			processConfigClass.end();
+		}
 
 		this.configurationClasses.put(configClass, configClass);
 	}
@@ -327,8 +439,17 @@ class ConfigurationClassParser {
 			}
 			for (AnnotationAttributes componentScan : componentScans) {
 				// The config class is annotated with @ComponentScan -> perform the scan immediately
-				Set<BeanDefinitionHolder> scannedBeanDefinitions =
-						this.componentScanParser.parse(componentScan, sourceClass.getMetadata().getClassName());
+				StartupStep scan = this.applicationStartup.start("spring.context.component-scan")
+						.tag("className", sourceClass.getMetadata().getClassName());
+				Set<BeanDefinitionHolder> scannedBeanDefinitions;
+				try {
+					scannedBeanDefinitions =
+							this.componentScanParser.parse(componentScan, sourceClass.getMetadata().getClassName());
+					scan.tag("beanDefinitionCount", String.valueOf(scannedBeanDefinitions.size()));
+				}
+				finally {
+					scan.end();
+				}
 				// Check the set of scanned definitions for any further config classes and parse recursively if needed
 				for (BeanDefinitionHolder holder : scannedBeanDefinitions) {
 					BeanDefinition bdCand = holder.getBeanDefinition().getOriginatingBeanDefinition();
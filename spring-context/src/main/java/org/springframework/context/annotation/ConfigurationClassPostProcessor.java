@@ -82,6 +82,7 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.ConfigurationClassEnhancer.EnhancedConfiguration;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
@@ -142,6 +143,14 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	public static final AnnotationBeanNameGenerator IMPORT_BEAN_NAME_GENERATOR =
 			FullyQualifiedAnnotationBeanNameGenerator.INSTANCE;
 
+	/**
+	 * System property that instructs Spring to read the class metadata of
+	 * configuration classes in parallel, as with {@link #setParallelParsing}.
+	 * @since 6.2
+	 * @see #setParallelParsing
+	 */
+	public static final String PARALLEL_PARSING_PROPERTY_NAME = "spring.context.config-classes.parallel";
+
 	private static final String IMPORT_REGISTRY_BEAN_NAME =
 			ConfigurationClassPostProcessor.class.getName() + ".importRegistry";
 
@@ -164,6 +173,8 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 
 	private boolean setMetadataReaderFactoryCalled = false;
 
+	private boolean parallelParsing = SpringProperties.getFlag(PARALLEL_PARSING_PROPERTY_NAME);
+
 	private final Set<Integer> registriesPostProcessed = new HashSet<>();
 
 	private final Set<Integer> factoriesPostProcessed = new HashSet<>();
@@ -219,6 +230,30 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		this.setMetadataReaderFactoryCalled = true;
 	}
 
+	/**
+	 * Specify whether to parse configuration classes with parallel preloading
+	 * of their class metadata.
+	 * <p>If switched on, the class files of all configuration candidates as well
+	 * as of their superclasses, interfaces, member classes, annotations and
+	 * {@link Import imported} classes are read concurrently, each candidate's
+	 * subtree independent of the others, using the common
+	 * {@link java.util.concurrent.ForkJoinPool}. Processing of the configuration
+	 * classes, including condition evaluation and bean definition registration,
+	 * then happens in the regular order on the calling thread, with the
+	 * metadata served from the {@link CachingMetadataReaderFactory}. Classpath
+	 * scanning for {@link ComponentScan @ComponentScan} reads class files in
+	 * parallel as well.
+	 * <p>Default is "false", unless the {@value #PARALLEL_PARSING_PROPERTY_NAME}
+	 * system property is set to "true". This has no effect with a custom,
+	 * non-caching {@link #setMetadataReaderFactory MetadataReaderFactory}.
+	 * @since 6.2
+	 * @see #PARALLEL_PARSING_PROPERTY_NAME
+	 * @see ClassPathScanningCandidateComponentProvider#setParallelScanning
+	 */
+	public void setParallelParsing(boolean parallelParsing) {
+		this.parallelParsing = parallelParsing;
+	}
+
 	/**
 	 * Set the {@link BeanNameGenerator} to be used when triggering component scanning
 	 * from {@link Configuration} classes and when registering {@link Import}'ed
@@ -409,6 +444,8 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		ConfigurationClassParser parser = new ConfigurationClassParser(
 				this.metadataReaderFactory, this.problemReporter, this.environment,
 				this.resourceLoader, this.componentScanBeanNameGenerator, registry);
+		parser.setParallelParsing(this.parallelParsing);
+		parser.setApplicationStartup(this.applicationStartup);
 
 		Set<BeanDefinitionHolder> candidates = new LinkedHashSet<>(configCandidates);
 		Set<ConfigurationClass> alreadyParsed = CollectionUtils.newHashSet(configCandidates.size());
@@ -461,6 +498,8 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		this.propertySourceDescriptors = parser.getPropertySourceDescriptors();
 
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cachingMetadataReaderFactory) {
+			// Store metadata read during configuration class processing, if configured
+			cachingMetadataReaderFactory.savePersistentCache();
 			// Clear cache in externally provided MetadataReaderFactory; this is a no-op
 			// for a shared cache since it'll be cleared by the ApplicationContext.
 			cachingMetadataReaderFactory.clearCache();
@@ -26,6 +26,7 @@ import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
@@ -43,6 +44,11 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	EventExpressionEvaluator(StandardEvaluationContext originalEvaluationContext) {
+		this(originalEvaluationContext, new SpelExpressionParser());
+	}
+
+	EventExpressionEvaluator(StandardEvaluationContext originalEvaluationContext, SpelExpressionParser parser) {
+		super(parser);
 		this.originalEvaluationContext = originalEvaluationContext;
 	}
 
@@ -43,6 +43,9 @@ import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -79,7 +82,7 @@ public class EventListenerMethodProcessor
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	@Nullable
-	private final EventExpressionEvaluator evaluator;
+	private EventExpressionEvaluator evaluator;
 
 	private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet(64);
 
@@ -89,6 +92,22 @@ public class EventListenerMethodProcessor
 		this.evaluator = new EventExpressionEvaluator(this.originalEvaluationContext);
 	}
 
+	/**
+	 * Set the {@link SpelParserConfiguration} to use for the SpEL expressions
+	 * of {@link EventListener#condition() event listener conditions}.
+	 * <p>For example, a configuration with {@link SpelCompilerMode#MIXED} compiles
+	 * these expressions once they have been evaluated a given number of times,
+	 * independently of the global {@code spring.expression.compiler.mode} setting.
+	 * <p>The default is a configuration with default settings.
+	 * @since 6.2
+	 * @see SpelParserConfiguration#SpelParserConfiguration(SpelCompilerMode, ClassLoader, int)
+	 */
+	public void setExpressionParserConfiguration(SpelParserConfiguration configuration) {
+		Assert.notNull(configuration, "SpelParserConfiguration must not be null");
+		this.evaluator = new EventExpressionEvaluator(
+				this.originalEvaluationContext, new SpelExpressionParser(configuration));
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		Assert.isTrue(applicationContext instanceof ConfigurableApplicationContext,
@@ -41,6 +41,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
 import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
@@ -60,6 +61,7 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.CronTask;
 import org.springframework.scheduling.config.FixedDelayTask;
 import org.springframework.scheduling.config.FixedRateTask;
@@ -69,11 +71,14 @@ import org.springframework.scheduling.config.ScheduledTaskHolder;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.scheduling.config.TaskSchedulerRouter;
 import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.ScheduledLockRunnable;
+import org.springframework.scheduling.support.ScheduledLockStore;
 import org.springframework.scheduling.support.ScheduledMethodRunnable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.StringValueResolver;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Bean post-processor that registers methods annotated with
@@ -119,6 +124,8 @@ public class ScheduledAnnotationBeanPostProcessor
 	 */
 	public static final String DEFAULT_TASK_SCHEDULER_BEAN_NAME = TaskSchedulerRouter.DEFAULT_TASK_SCHEDULER_BEAN_NAME;
 
+	private static final Duration DEFAULT_LOCK_LEASE_TIME = Duration.ofSeconds(30);
+
 
 	/**
 	 * Reactive Streams API present on the classpath?
@@ -148,6 +155,23 @@ public class ScheduledAnnotationBeanPostProcessor
 	@Nullable
 	private TaskSchedulerRouter localScheduler;
 
+	@Nullable
+	private ScheduledLockStore lockStore;
+
+	@Nullable
+	private TaskScheduler lockRenewalScheduler;
+
+	@Nullable
+	private ThreadPoolTaskScheduler localLockRenewalScheduler;
+
+	private final SingletonSupplier<ScheduledLockStore> lockStoreSupplier =
+			SingletonSupplier.of(this::resolveLockStore);
+
+	private final SingletonSupplier<TaskScheduler> lockRenewalSchedulerSupplier =
+			SingletonSupplier.of(this::resolveLockRenewalScheduler);
+
+	private volatile boolean lockedTasksPresent;
+
 	private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet(64);
 
 	private final Map<Object, Set<ScheduledTask>> scheduledTasks = new IdentityHashMap<>(16);
@@ -195,6 +219,29 @@ public class ScheduledAnnotationBeanPostProcessor
 		this.scheduler = scheduler;
 	}
 
+	/**
+	 * Set the {@link ScheduledLockStore} to coordinate {@link ScheduledLock @ScheduledLock}
+	 * methods across application instances with.
+	 * <p>If not specified, a unique {@code ScheduledLockStore} bean is looked up
+	 * in the context once {@code @ScheduledLock} methods are found.
+	 * @since 6.2
+	 */
+	public void setLockStore(ScheduledLockStore lockStore) {
+		this.lockStore = lockStore;
+	}
+
+	/**
+	 * Set the {@link TaskScheduler} to renew the leases of locks held by running
+	 * {@link ScheduledLock @ScheduledLock} methods on.
+	 * <p>This must not be the scheduler that runs the methods themselves unless
+	 * it has enough threads to renew leases while the methods are running. If not
+	 * specified, a local single-threaded scheduler will be created on demand.
+	 * @since 6.2
+	 */
+	public void setLockRenewalScheduler(TaskScheduler lockRenewalScheduler) {
+		this.lockRenewalScheduler = lockRenewalScheduler;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -261,6 +308,11 @@ public class ScheduledAnnotationBeanPostProcessor
 		}
 
 		this.registrar.afterPropertiesSet();
+
+		if (this.lockedTasksPresent) {
+			// Fail early if there is no lock store for @ScheduledLock methods
+			this.lockStoreSupplier.obtain();
+		}
 	}
 
 
@@ -343,6 +395,10 @@ public class ScheduledAnnotationBeanPostProcessor
 		Runnable task;
 		try {
 			task = createRunnable(bean, method, scheduled.scheduler());
+			ScheduledLock scheduledLock = AnnotatedElementUtils.findMergedAnnotation(method, ScheduledLock.class);
+			if (scheduledLock != null) {
+				task = createLockRunnable(task, scheduledLock, method);
+			}
 		}
 		catch (IllegalArgumentException ex) {
 			throw new IllegalStateException("Could not create recurring task for @Scheduled method '" +
@@ -366,6 +422,10 @@ public class ScheduledAnnotationBeanPostProcessor
 	 * @see ScheduledAnnotationReactiveSupport
 	 */
 	private void processScheduledAsync(Scheduled scheduled, Method method, Object bean) {
+		if (AnnotatedElementUtils.hasAnnotation(method, ScheduledLock.class)) {
+			throw new IllegalStateException("@ScheduledLock is not supported on reactive @Scheduled method '" +
+					method.getName() + "'");
+		}
 		Runnable task;
 		try {
 			task = ScheduledAnnotationReactiveSupport.createSubscriptionRunnable(method, bean, scheduled,
@@ -546,6 +606,73 @@ public class ScheduledAnnotationBeanPostProcessor
 		return null;
 	}
 
+	/**
+	 * Wrap the given task so that it only runs while holding the lock
+	 * declared by the given {@code @ScheduledLock} annotation.
+	 */
+	private Runnable createLockRunnable(Runnable task, ScheduledLock scheduledLock, Method method) {
+		String lockName = scheduledLock.name();
+		String leaseTimeString = scheduledLock.leaseTime();
+		String lockAtLeastForString = scheduledLock.lockAtLeastFor();
+		if (this.embeddedValueResolver != null) {
+			lockName = this.embeddedValueResolver.resolveStringValue(lockName);
+			leaseTimeString = this.embeddedValueResolver.resolveStringValue(leaseTimeString);
+			lockAtLeastForString = this.embeddedValueResolver.resolveStringValue(lockAtLeastForString);
+		}
+		if (!StringUtils.hasText(lockName)) {
+			lockName = method.getDeclaringClass().getName() + "." + method.getName();
+		}
+		Duration leaseTime = DEFAULT_LOCK_LEASE_TIME;
+		if (StringUtils.hasText(leaseTimeString)) {
+			try {
+				leaseTime = toDuration(leaseTimeString, TimeUnit.MILLISECONDS);
+			}
+			catch (RuntimeException ex) {
+				throw new IllegalArgumentException(
+						"Invalid leaseTime value \"" + leaseTimeString + "\" - cannot parse into long");
+			}
+		}
+		Duration lockAtLeastFor = Duration.ZERO;
+		if (StringUtils.hasText(lockAtLeastForString)) {
+			try {
+				lockAtLeastFor = toDuration(lockAtLeastForString, TimeUnit.MILLISECONDS);
+			}
+			catch (RuntimeException ex) {
+				throw new IllegalArgumentException(
+						"Invalid lockAtLeastFor value \"" + lockAtLeastForString + "\" - cannot parse into long");
+			}
+		}
+		this.lockedTasksPresent = true;
+		return new ScheduledLockRunnable(task, lockName, leaseTime, lockAtLeastFor, this.lockStoreSupplier,
+				this.lockRenewalSchedulerSupplier, this.registrar::getObservationRegistry);
+	}
+
+	private ScheduledLockStore resolveLockStore() {
+		if (this.lockStore != null) {
+			return this.lockStore;
+		}
+		Assert.state(this.beanFactory != null, "BeanFactory required for resolving a ScheduledLockStore");
+		try {
+			return this.beanFactory.getBean(ScheduledLockStore.class);
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			throw new IllegalStateException("@ScheduledLock methods require a unique ScheduledLockStore bean " +
+					"or a lock store set on ScheduledAnnotationBeanPostProcessor", ex);
+		}
+	}
+
+	private synchronized TaskScheduler resolveLockRenewalScheduler() {
+		if (this.lockRenewalScheduler != null) {
+			return this.lockRenewalScheduler;
+		}
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("scheduled-lock-renewal-");
+		scheduler.setDaemon(true);
+		scheduler.initialize();
+		this.localLockRenewalScheduler = scheduler;
+		return scheduler;
+	}
+
 	private static Duration toDuration(long value, TimeUnit timeUnit) {
 		try {
 			return Duration.of(value, timeUnit.toChronoUnit());
@@ -640,6 +767,11 @@ public class ScheduledAnnotationBeanPostProcessor
 		if (this.localScheduler != null) {
 			this.localScheduler.destroy();
 		}
+		synchronized (this) {
+			if (this.localLockRenewalScheduler != null) {
+				this.localLockRenewalScheduler.destroy();
+			}
+		}
 	}
 
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * Annotation that marks a {@link Scheduled @Scheduled} method to be run by
+ * only one application instance at a time, for applications deployed to several
+ * nodes that all schedule the same tasks.
+ *
+ * <p>Before each execution, the scheduling infrastructure tries to acquire the
+ * named lock from the {@link org.springframework.scheduling.support.ScheduledLockStore}
+ * bean in the application context, and skips the execution if the lock is held
+ * by another instance. The lease of the lock is renewed while the method is
+ * running; if it gets lost nevertheless, the thread running the method gets
+ * interrupted.
+ *
+ * <p>Only supported for synchronous methods, not for reactive methods.
+ *
+ * @since 6.2
+ * @see ScheduledAnnotationBeanPostProcessor#setLockStore
+ * @see org.springframework.scheduling.support.ScheduledLockRunnable
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ScheduledLock {
+
+	/**
+	 * Alias for {@link #name}.
+	 */
+	@AliasFor("name")
+	String value() default "";
+
+	/**
+	 * The name of the lock, shared by all application instances.
+	 * <p>Defaults to the fully qualified name of the declaring class
+	 * followed by the method name.
+	 * <p>This attribute supports Spring-style "${...}" placeholders
+	 * as well as SpEL expressions.
+	 */
+	@AliasFor("value")
+	String name() default "";
+
+	/**
+	 * The time after which the lock expires unless renewed, as a
+	 * {@link java.time.Duration#parse java.time.Duration} compliant value
+	 * or a number of milliseconds.
+	 * <p>The lease is renewed at a third of this time while the method is
+	 * running, so this merely bounds how long the lock remains unavailable
+	 * after an instance stopped without releasing it. Defaults to 30 seconds.
+	 * <p>This attribute supports Spring-style "${...}" placeholders
+	 * as well as SpEL expressions.
+	 */
+	String leaseTime() default "";
+
+	/**
+	 * The minimum time to keep the lock after an execution started, as a
+	 * {@link java.time.Duration#parse java.time.Duration} compliant value
+	 * or a number of milliseconds.
+	 * <p>An execution that completes faster than this keeps the lock until this
+	 * time has passed, so that instances whose trigger for the same execution
+	 * fires slightly later, due to clock skew or scheduling jitter, skip it
+	 * rather than run it again. This needs to be shorter than the interval
+	 * between executions, which are skipped otherwise, and must not exceed the
+	 * {@link #leaseTime}. Defaults to none, releasing the lock right away.
+	 * <p>This attribute supports Spring-style "${...}" placeholders
+	 * as well as SpEL expressions.
+	 */
+	String lockAtLeastFor() default "";
+
+}
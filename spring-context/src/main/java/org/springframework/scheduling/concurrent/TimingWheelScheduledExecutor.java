@@ -0,0 +1,539 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ScheduledExecutorService} implementation based on a hashed timing wheel,
+ * as described by Varghese and Lauck.
+ *
+ * <p>Scheduled tasks are kept in an array of buckets, one per tick, with tasks
+ * that are further away than one revolution of the wheel carrying the number of
+ * remaining rounds. Scheduling and cancelling a task are constant-time operations
+ * on lock-free queues, independent of the number of pending tasks, at the expense
+ * of a timing precision limited to the tick duration: a task never runs before
+ * its scheduled time but may run up to one tick later.
+ *
+ * <p>A single timer thread advances the wheel and hands expired tasks to the
+ * given target {@link Executor}, or runs them itself if none is specified.
+ * Periodic tasks never run concurrently with themselves: the next execution is
+ * only scheduled once the current one has completed.
+ *
+ * <p>On {@link #shutdown()}, delayed one-shot tasks still run when due while
+ * periodic tasks are cancelled, in line with the default policies of
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}. On {@link #shutdownNow()},
+ * all remaining tasks are cancelled by the timer thread rather than returned.
+ *
+ * @since 6.2
+ * @see TimingWheelTaskScheduler
+ */
+class TimingWheelScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+	private static final int RUNNING = 0;
+
+	private static final int SHUTDOWN = 1;
+
+	private static final int STOP = 2;
+
+	private static final long MAX_DELAY = Long.MAX_VALUE >> 2;
+
+
+	private final long tickNanos;
+
+	private final Bucket[] wheel;
+
+	private final int mask;
+
+	@Nullable
+	private final Executor taskExecutor;
+
+	private final Queue<WheelTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+	/** Tasks that have been scheduled but have neither expired nor been removed yet. */
+	private final AtomicLong taskCount = new AtomicLong();
+
+	private final AtomicLong sequencer = new AtomicLong();
+
+	private final CountDownLatch termination = new CountDownLatch(1);
+
+	private final LongSupplier nanoClock;
+
+	private final long startTime;
+
+	private final Thread timerThread;
+
+	private volatile int state = RUNNING;
+
+	private volatile boolean idle;
+
+	/** The tick being processed, only accessed by the timer thread. */
+	private long tick;
+
+	/** Whether periodic tasks have been cancelled on shutdown, only accessed by the timer thread. */
+	private boolean periodicTasksCancelled;
+
+
+	/**
+	 * Create a new {@code TimingWheelScheduledExecutor}.
+	 * @param tickNanos the duration of a tick in nanoseconds
+	 * @param ticksPerWheel the number of ticks per revolution of the wheel,
+	 * rounded up to the next power of two
+	 * @param threadFactory the factory for the timer thread
+	 * @param taskExecutor the executor to hand expired tasks to,
+	 * or {@code null} to run them on the timer thread
+	 */
+	TimingWheelScheduledExecutor(long tickNanos, int ticksPerWheel,
+			ThreadFactory threadFactory, @Nullable Executor taskExecutor) {
+
+		this(tickNanos, ticksPerWheel, threadFactory, taskExecutor, System::nanoTime);
+	}
+
+	/**
+	 * Variant of the {@linkplain #TimingWheelScheduledExecutor(long, int, ThreadFactory, Executor)
+	 * regular constructor} with the given source of the current time in nanoseconds,
+	 * which is {@link System#nanoTime()} by default.
+	 */
+	TimingWheelScheduledExecutor(long tickNanos, int ticksPerWheel,
+			ThreadFactory threadFactory, @Nullable Executor taskExecutor, LongSupplier nanoClock) {
+
+		Assert.isTrue(tickNanos > 0, "Tick duration must be positive");
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "Ticks per wheel must be between 1 and 2^30");
+		int wheelSize = (ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1);
+		this.tickNanos = tickNanos;
+		this.wheel = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+		this.taskExecutor = taskExecutor;
+		this.nanoClock = nanoClock;
+		this.timerThread = threadFactory.newThread(this::runTimer);
+		this.startTime = nanoClock.getAsLong();
+		this.timerThread.start();
+	}
+
+
+	/**
+	 * Return the number of tasks currently scheduled, including cancelled
+	 * tasks that have not been removed from the wheel yet.
+	 */
+	long getTaskCount() {
+		return this.taskCount.get();
+	}
+
+
+	// ScheduledExecutorService implementation
+
+	@Override
+	public void execute(Runnable command) {
+		schedule(command, 0, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		return enqueue(new WheelTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0));
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		return enqueue(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		Assert.isTrue(period > 0, "Period must be positive");
+		return enqueue(new WheelTask<>(Executors.callable(command, null),
+				triggerTime(initialDelay, unit), Math.min(unit.toNanos(period), MAX_DELAY)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+		Assert.isTrue(delay > 0, "Delay must be positive");
+		return enqueue(new WheelTask<>(Executors.callable(command, null),
+				triggerTime(initialDelay, unit), -Math.min(unit.toNanos(delay), MAX_DELAY)));
+	}
+
+	@Override
+	public void shutdown() {
+		if (this.state == RUNNING) {
+			this.state = SHUTDOWN;
+		}
+		LockSupport.unpark(this.timerThread);
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		this.state = STOP;
+		this.timerThread.interrupt();
+		return Collections.emptyList();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return (this.state != RUNNING);
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return (this.termination.getCount() == 0);
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return this.termination.await(timeout, unit);
+	}
+
+
+	private long triggerTime(long delay, TimeUnit unit) {
+		long delayNanos = Math.min(Math.max(unit.toNanos(delay), 0), MAX_DELAY);
+		return this.nanoClock.getAsLong() + delayNanos;
+	}
+
+	private <V> WheelTask<V> enqueue(WheelTask<V> task) {
+		if (this.state != RUNNING) {
+			throw new RejectedExecutionException("Executor has been shut down");
+		}
+		this.taskCount.incrementAndGet();
+		this.pendingTasks.add(task);
+		if (this.idle) {
+			LockSupport.unpark(this.timerThread);
+		}
+		return task;
+	}
+
+	private void reschedule(WheelTask<?> task) {
+		if (this.state == RUNNING) {
+			this.taskCount.incrementAndGet();
+			this.pendingTasks.add(task);
+			if (this.idle) {
+				LockSupport.unpark(this.timerThread);
+			}
+		}
+		else {
+			task.cancel(false);
+		}
+	}
+
+
+	// Timer thread
+
+	private void runTimer() {
+		try {
+			while (awaitNextTick()) {
+				transferPendingTasks();
+				removeCancelledTasks();
+				if (this.state != RUNNING && !this.periodicTasksCancelled) {
+					cancelPeriodicTasks();
+				}
+				expireTasks(this.wheel[(int) (this.tick & this.mask)]);
+				this.tick++;
+			}
+			cancelRemainingTasks();
+		}
+		finally {
+			this.termination.countDown();
+		}
+	}
+
+	/**
+	 * Wait until the end of the current tick, parking the timer thread
+	 * indefinitely while there are no tasks at all.
+	 * @return {@code true} to process the current tick, {@code false} to terminate
+	 */
+	private boolean awaitNextTick() {
+		if (this.taskCount.get() == 0) {
+			this.idle = true;
+			while (this.taskCount.get() == 0 && this.state == RUNNING) {
+				LockSupport.park(this);
+				Thread.interrupted();
+			}
+			this.idle = false;
+			if (this.taskCount.get() == 0) {
+				return false;
+			}
+			// The wheel is empty: skip the ticks elapsed while idle
+			this.tick = Math.max(this.tick, (this.nanoClock.getAsLong() - this.startTime) / this.tickNanos);
+		}
+		long tickDeadline = this.tickNanos * (this.tick + 1);
+		while (true) {
+			if (this.state == STOP) {
+				return false;
+			}
+			long sleepNanos = tickDeadline - (this.nanoClock.getAsLong() - this.startTime);
+			if (sleepNanos <= 0) {
+				return true;
+			}
+			LockSupport.parkNanos(this, sleepNanos);
+			Thread.interrupted();
+		}
+	}
+
+	/**
+	 * Transfer all pending tasks to the wheel before the current bucket expires,
+	 * so that a burst of tasks due within the current tick does not run late.
+	 */
+	private void transferPendingTasks() {
+		WheelTask<?> task;
+		while ((task = this.pendingTasks.poll()) != null) {
+			if (task.isPeriodic() && this.state != RUNNING) {
+				task.cancel(false);
+			}
+			if (task.isCancelled()) {
+				this.taskCount.decrementAndGet();
+				continue;
+			}
+			// A task that is already due goes into the current bucket
+			long calculatedTick = (task.deadline - this.startTime) / this.tickNanos;
+			long targetTick = Math.max(calculatedTick, this.tick);
+			task.remainingRounds = (targetTick - this.tick) / this.wheel.length;
+			this.wheel[(int) (targetTick & this.mask)].add(task);
+		}
+	}
+
+	private void removeCancelledTasks() {
+		WheelTask<?> task;
+		while ((task = this.cancelledTasks.poll()) != null) {
+			Bucket bucket = task.bucket;
+			if (bucket != null) {
+				bucket.remove(task);
+				this.taskCount.decrementAndGet();
+			}
+		}
+	}
+
+	private void expireTasks(Bucket bucket) {
+		WheelTask<?> task = bucket.head;
+		while (task != null) {
+			WheelTask<?> next = task.next;
+			if (task.isCancelled()) {
+				bucket.remove(task);
+				this.taskCount.decrementAndGet();
+			}
+			else if (task.remainingRounds <= 0) {
+				bucket.remove(task);
+				this.taskCount.decrementAndGet();
+				dispatch(task);
+			}
+			else {
+				task.remainingRounds--;
+			}
+			task = next;
+		}
+	}
+
+	private void dispatch(WheelTask<?> task) {
+		if (this.taskExecutor != null) {
+			try {
+				this.taskExecutor.execute(task);
+			}
+			catch (RejectedExecutionException ex) {
+				task.reject(ex);
+			}
+		}
+		else {
+			task.run();
+			Thread.interrupted();
+		}
+	}
+
+	private void cancelPeriodicTasks() {
+		this.periodicTasksCancelled = true;
+		for (Bucket bucket : this.wheel) {
+			for (WheelTask<?> task = bucket.head; task != null; task = task.next) {
+				if (task.isPeriodic()) {
+					task.cancel(false);
+				}
+			}
+		}
+		removeCancelledTasks();
+	}
+
+	private void cancelRemainingTasks() {
+		for (Bucket bucket : this.wheel) {
+			WheelTask<?> task = bucket.head;
+			while (task != null) {
+				WheelTask<?> next = task.next;
+				bucket.remove(task);
+				task.cancel(false);
+				task = next;
+			}
+		}
+		WheelTask<?> task;
+		while ((task = this.pendingTasks.poll()) != null) {
+			task.cancel(false);
+		}
+		this.cancelledTasks.clear();
+		this.taskCount.set(0);
+	}
+
+
+	/**
+	 * A doubly-linked list of tasks, only accessed by the timer thread.
+	 */
+	private static final class Bucket {
+
+		@Nullable
+		WheelTask<?> head;
+
+		@Nullable
+		WheelTask<?> tail;
+
+		void add(WheelTask<?> task) {
+			task.bucket = this;
+			if (this.head == null) {
+				this.head = task;
+				this.tail = task;
+			}
+			else {
+				this.tail.next = task;
+				task.prev = this.tail;
+				this.tail = task;
+			}
+		}
+
+		void remove(WheelTask<?> task) {
+			WheelTask<?> next = task.next;
+			if (task.prev != null) {
+				task.prev.next = next;
+			}
+			if (next != null) {
+				next.prev = task.prev;
+			}
+			if (task == this.head) {
+				this.head = next;
+			}
+			if (task == this.tail) {
+				this.tail = task.prev;
+			}
+			task.prev = null;
+			task.next = null;
+			task.bucket = null;
+		}
+	}
+
+
+	/**
+	 * A task in the wheel, exposed as a {@link ScheduledFuture}.
+	 */
+	private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+		private final long sequenceNumber;
+
+		/**
+		 * Period in nanoseconds: positive for fixed-rate tasks, negative
+		 * for fixed-delay tasks, and 0 for one-shot tasks.
+		 */
+		private final long period;
+
+		private volatile long deadline;
+
+		// Wheel state, only accessed by the timer thread
+
+		long remainingRounds;
+
+		@Nullable
+		Bucket bucket;
+
+		@Nullable
+		WheelTask<?> prev;
+
+		@Nullable
+		WheelTask<?> next;
+
+		WheelTask(Callable<V> callable, long deadline, long period) {
+			super(callable);
+			this.sequenceNumber = sequencer.getAndIncrement();
+			this.deadline = deadline;
+			this.period = period;
+		}
+
+		@Override
+		public boolean isPeriodic() {
+			return (this.period != 0);
+		}
+
+		@Override
+		public void run() {
+			if (!isPeriodic()) {
+				super.run();
+			}
+			else if (super.runAndReset()) {
+				this.deadline = (this.period > 0 ? this.deadline + this.period : nanoClock.getAsLong() - this.period);
+				reschedule(this);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				cancelledTasks.add(this);
+			}
+			return cancelled;
+		}
+
+		void reject(RejectedExecutionException ex) {
+			setException(ex);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - nanoClock.getAsLong(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (other == this) {
+				return 0;
+			}
+			if (other instanceof WheelTask<?> that) {
+				long diff = this.deadline - that.deadline;
+				if (diff != 0) {
+					return (diff < 0 ? -1 : 1);
+				}
+				return (this.sequenceNumber < that.sequenceNumber ? -1 : 1);
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Implementation of Spring's {@link TaskScheduler} interface based on a hashed
+ * timing wheel, for applications that keep a large number of pending tasks such
+ * as per-session timeouts and heartbeats.
+ *
+ * <p>In contrast to {@link ThreadPoolTaskScheduler}, whose underlying
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} keeps tasks in a
+ * binary heap guarded by a single lock, scheduling and cancelling a task take
+ * constant time here, regardless of the number of pending tasks. In exchange,
+ * tasks are triggered with the precision of the configured
+ * {@link #setTickDuration tick duration}: never early, but up to one tick late.
+ *
+ * <p>A single timer thread advances the wheel. Expired tasks are handed to the
+ * {@link #setTaskExecutor target executor}, for example a
+ * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with
+ * {@linkplain org.springframework.core.task.SimpleAsyncTaskExecutor#setVirtualThreads
+ * virtual threads} or a {@link ThreadPoolTaskExecutor}. Without a target executor,
+ * tasks run on the timer thread itself, which is only appropriate for short tasks.
+ *
+ * @since 6.2
+ * @see #setTickDuration
+ * @see #setTicksPerWheel
+ * @see #setTaskExecutor
+ * @see #setErrorHandler
+ */
+@SuppressWarnings("serial")
+public class TimingWheelTaskScheduler extends ExecutorConfigurationSupport implements TaskScheduler {
+
+	private static final TimeUnit NANO = TimeUnit.NANOSECONDS;
+
+
+	private Duration tickDuration = Duration.ofMillis(10);
+
+	private int ticksPerWheel = 512;
+
+	@Nullable
+	private Executor taskExecutor;
+
+	@Nullable
+	private ErrorHandler errorHandler;
+
+	private Clock clock = Clock.systemDefaultZone();
+
+	@Nullable
+	private ScheduledExecutorService scheduledExecutor;
+
+
+	/**
+	 * Set the duration of a tick, that is, the precision with which tasks
+	 * are triggered.
+	 * <p>Default is 10 milliseconds. Shorter ticks increase the precision
+	 * at the expense of more frequent wake-ups of the timer thread.
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.isTrue(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be positive");
+		this.tickDuration = tickDuration;
+	}
+
+	/**
+	 * Set the number of ticks per revolution of the wheel, rounded up to
+	 * the next power of two.
+	 * <p>Default is 512. Tasks scheduled further into the future than one
+	 * revolution remain in the wheel for several rounds, so this should be
+	 * raised for long delays combined with a short tick duration.
+	 */
+	public void setTicksPerWheel(int ticksPerWheel) {
+		Assert.isTrue(ticksPerWheel > 0, "Ticks per wheel must be positive");
+		this.ticksPerWheel = ticksPerWheel;
+	}
+
+	/**
+	 * Specify the target executor to hand expired tasks to.
+	 * <p>Default is none, running tasks on the timer thread.
+	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor#setVirtualThreads
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Provide an {@link ErrorHandler} strategy.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	@Override
+	protected ExecutorService initializeExecutor(
+			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		this.scheduledExecutor = new TimingWheelScheduledExecutor(
+				this.tickDuration.toNanos(), this.ticksPerWheel, threadFactory, this.taskExecutor);
+		return this.scheduledExecutor;
+	}
+
+	/**
+	 * Return the underlying ScheduledExecutorService for native access.
+	 * @return the underlying ScheduledExecutorService (never {@code null})
+	 * @throws IllegalStateException if the TimingWheelTaskScheduler hasn't been initialized yet
+	 */
+	public ScheduledExecutorService getScheduledExecutor() throws IllegalStateException {
+		Assert.state(this.scheduledExecutor != null, "TimingWheelTaskScheduler not initialized");
+		return this.scheduledExecutor;
+	}
+
+
+	// TaskScheduler implementation
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			ErrorHandler errorHandler = this.errorHandler;
+			if (errorHandler == null) {
+				errorHandler = TaskUtils.getDefaultErrorHandler(true);
+			}
+			return new ReschedulingRunnable(task, trigger, this.clock, executor, errorHandler).schedule();
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration delay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.schedule(errorHandlingTask(task, false), NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration initialDelay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true),
+					NANO.convert(initialDelay), NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true),
+					0, NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration initialDelay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true),
+					NANO.convert(initialDelay), NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true),
+					0, NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+
+	private Runnable errorHandlingTask(Runnable task, boolean isRepeatingTask) {
+		return TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, isRepeatingTask);
+	}
+
+}
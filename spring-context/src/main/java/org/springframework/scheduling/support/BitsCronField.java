@@ -205,7 +205,7 @@ final class BitsCronField extends CronField {
 		return (this.bits & (1L << index)) != 0;
 	}
 
-	private int nextSetBit(int fromIndex) {
+	int nextSetBit(int fromIndex) {
 		long result = this.bits & (MASK << fromIndex);
 		if (result != 0) {
 			return Long.numberOfTrailingZeros(result);
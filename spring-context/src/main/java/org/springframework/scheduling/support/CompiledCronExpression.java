@@ -0,0 +1,273 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Compiled form of a {@link CronExpression}, determining the next match for
+ * common date-time types without iterating field by field.
+ *
+ * <p>The time of day is found with a few bit scans over the second, minute
+ * and hour fields, which are the same for every matching day. The matching
+ * days are determined once per month, from the month, day-of-month and
+ * day-of-week fields, and cached as a bit mask; since consecutive matches
+ * typically fall into the same month, most calculations only consist of
+ * bit operations.
+ *
+ * <p>Supports {@link LocalDateTime}, {@link OffsetDateTime} and
+ * {@link ZonedDateTime}, the latter only as long as there is no time-zone
+ * offset transition until the next match. In all other cases, {@link #next}
+ * returns {@code null}, and the caller is expected to fall back to the
+ * field-by-field calculation.
+ *
+ * @since 6.2
+ */
+final class CompiledCronExpression {
+
+	/** The maximum number of months to search for a matching day. */
+	private static final int MAX_MONTHS = 48;
+
+
+	private final BitsCronField seconds;
+
+	private final BitsCronField minutes;
+
+	private final BitsCronField hours;
+
+	private final BitsCronField months;
+
+	private final CronField daysOfMonth;
+
+	private final CronField daysOfWeek;
+
+	private final int firstSecondOfDay;
+
+	@Nullable
+	private volatile MonthSchedule monthSchedule;
+
+
+	private CompiledCronExpression(BitsCronField seconds, BitsCronField minutes, BitsCronField hours,
+			BitsCronField months, CronField daysOfMonth, CronField daysOfWeek) {
+
+		this.seconds = seconds;
+		this.minutes = minutes;
+		this.hours = hours;
+		this.months = months;
+		this.daysOfMonth = daysOfMonth;
+		this.daysOfWeek = daysOfWeek;
+		this.firstSecondOfDay = toSecondOfDay(hours.nextSetBit(0), minutes.nextSetBit(0), seconds.nextSetBit(0));
+	}
+
+
+	/**
+	 * Compile the given fields, if possible.
+	 * @return the compiled expression, or {@code null} if the time fields are
+	 * not bit-based or do not match any value
+	 */
+	@Nullable
+	static CompiledCronExpression compile(CronField seconds, CronField minutes, CronField hours,
+			CronField daysOfMonth, CronField months, CronField daysOfWeek) {
+
+		if (seconds instanceof BitsCronField bitsSeconds && bitsSeconds.nextSetBit(0) != -1 &&
+				minutes instanceof BitsCronField bitsMinutes && bitsMinutes.nextSetBit(0) != -1 &&
+				hours instanceof BitsCronField bitsHours && bitsHours.nextSetBit(0) != -1 &&
+				months instanceof BitsCronField bitsMonths) {
+			return new CompiledCronExpression(bitsSeconds, bitsMinutes, bitsHours, bitsMonths, daysOfMonth, daysOfWeek);
+		}
+		return null;
+	}
+
+
+	/**
+	 * Calculate the next temporal strictly after the given one that matches
+	 * the expression.
+	 * @param temporal the seed value
+	 * @return the next match, or {@code null} if the given temporal is not
+	 * supported or no match could be found within the search range
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T extends Temporal & Comparable<? super T>> T next(T temporal) {
+		try {
+			if (temporal instanceof LocalDateTime localDateTime) {
+				return (T) next(localDateTime);
+			}
+			else if (temporal instanceof ZonedDateTime zonedDateTime) {
+				return (T) next(zonedDateTime);
+			}
+			else if (temporal instanceof OffsetDateTime offsetDateTime) {
+				LocalDateTime next = next(offsetDateTime.toLocalDateTime());
+				return (next != null ? (T) next.atOffset(offsetDateTime.getOffset()) : null);
+			}
+		}
+		catch (DateTimeException ex) {
+			// Out of the supported range: leave it to the field-by-field calculation
+		}
+		return null;
+	}
+
+	@Nullable
+	private ZonedDateTime next(ZonedDateTime zonedDateTime) {
+		LocalDateTime next = next(zonedDateTime.toLocalDateTime());
+		if (next == null) {
+			return null;
+		}
+		ZoneRules rules = zonedDateTime.getZone().getRules();
+		if (!rules.isFixedOffset()) {
+			ZoneOffsetTransition transition = rules.nextTransition(zonedDateTime.toInstant());
+			if (transition != null &&
+					next.toEpochSecond(zonedDateTime.getOffset()) >= transition.toEpochSecond()) {
+				return null;
+			}
+		}
+		return ZonedDateTime.ofLocal(next, zonedDateTime.getZone(), zonedDateTime.getOffset());
+	}
+
+	@Nullable
+	private LocalDateTime next(LocalDateTime localDateTime) {
+		LocalDate date = localDateTime.toLocalDate();
+		if (isMatchingDay(date)) {
+			// Matches have no fractional seconds, so the next one is at least one second later
+			int secondOfDay = nextSecondOfDay(
+					localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond() + 1);
+			if (secondOfDay != -1) {
+				return date.atStartOfDay().plusSeconds(secondOfDay);
+			}
+		}
+		LocalDate nextDate = nextMatchingDay(date.plusDays(1));
+		return (nextDate != null ? nextDate.atStartOfDay().plusSeconds(this.firstSecondOfDay) : null);
+	}
+
+	/**
+	 * Determine the first matching time of day at or after the given time.
+	 * @return the matching second of the day, or {@code -1} if none
+	 */
+	private int nextSecondOfDay(int hour, int minute, int second) {
+		if (second == 60) {
+			second = 0;
+			minute++;
+		}
+		if (minute == 60) {
+			minute = 0;
+			hour++;
+		}
+		if (hour == 24) {
+			return -1;
+		}
+		int nextHour = this.hours.nextSetBit(hour);
+		if (nextHour == -1) {
+			return -1;
+		}
+		if (nextHour > hour) {
+			return toSecondOfDay(nextHour, this.minutes.nextSetBit(0), this.seconds.nextSetBit(0));
+		}
+		int nextMinute = this.minutes.nextSetBit(minute);
+		if (nextMinute == minute) {
+			int nextSecond = this.seconds.nextSetBit(second);
+			if (nextSecond != -1) {
+				return toSecondOfDay(hour, minute, nextSecond);
+			}
+			nextMinute = this.minutes.nextSetBit(minute + 1);
+		}
+		if (nextMinute != -1) {
+			return toSecondOfDay(hour, nextMinute, this.seconds.nextSetBit(0));
+		}
+		nextHour = this.hours.nextSetBit(hour + 1);
+		if (nextHour != -1) {
+			return toSecondOfDay(nextHour, this.minutes.nextSetBit(0), this.seconds.nextSetBit(0));
+		}
+		return -1;
+	}
+
+	private boolean isMatchingDay(LocalDate date) {
+		return (getMatchingDays(date.getYear(), date.getMonthValue()) & (1L << date.getDayOfMonth())) != 0;
+	}
+
+	@Nullable
+	private LocalDate nextMatchingDay(LocalDate date) {
+		int year = date.getYear();
+		int month = date.getMonthValue();
+		int day = date.getDayOfMonth();
+		for (int i = 0; i < MAX_MONTHS; i++) {
+			long days = getMatchingDays(year, month) & (-1L << day);
+			if (days != 0) {
+				return LocalDate.of(year, month, Long.numberOfTrailingZeros(days));
+			}
+			day = 1;
+			if (++month > 12) {
+				month = 1;
+				year++;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the matching days of the given month as a bit mask,
+	 * with bit {@code n} set if day of month {@code n} matches.
+	 */
+	private long getMatchingDays(int year, int month) {
+		MonthSchedule monthSchedule = this.monthSchedule;
+		if (monthSchedule == null || monthSchedule.year != year || monthSchedule.month != month) {
+			monthSchedule = new MonthSchedule(year, month, computeMatchingDays(year, month));
+			this.monthSchedule = monthSchedule;
+		}
+		return monthSchedule.days;
+	}
+
+	private long computeMatchingDays(int year, int month) {
+		long days = 0;
+		if (this.months.getBit(month)) {
+			LocalDate date = LocalDate.of(year, month, 1);
+			int lengthOfMonth = date.lengthOfMonth();
+			for (int day = 1; day <= lengthOfMonth; day++) {
+				LocalDateTime startOfDay = date.withDayOfMonth(day).atStartOfDay();
+				if (matches(this.daysOfMonth, startOfDay) && matches(this.daysOfWeek, startOfDay)) {
+					days |= (1L << day);
+				}
+			}
+		}
+		return days;
+	}
+
+	private static boolean matches(CronField field, LocalDateTime startOfDay) {
+		LocalDateTime result = field.nextOrSame(startOfDay);
+		return (result != null && result.toLocalDate().equals(startOfDay.toLocalDate()));
+	}
+
+	private static int toSecondOfDay(int hour, int minute, int second) {
+		return (hour * 3600 + minute * 60 + second);
+	}
+
+
+	/**
+	 * The matching days of a specific month.
+	 */
+	private record MonthSchedule(int year, int month, long days) {
+	}
+
+}
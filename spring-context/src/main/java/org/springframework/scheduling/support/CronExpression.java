@@ -18,7 +18,9 @@ package org.springframework.scheduling.support;
 
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -59,6 +61,9 @@ public final class CronExpression {
 
 	private final CronField[] fields;
 
+	@Nullable
+	private final CompiledCronExpression compiled;
+
 	private final String expression;
 
 
@@ -68,6 +73,7 @@ public final class CronExpression {
 		// Reverse order, to make big changes first.
 		// To make sure we end up at 0 nanos, we add an extra field.
 		this.fields = new CronField[] {daysOfWeek, months, daysOfMonth, hours, minutes, seconds, CronField.zeroNanos()};
+		this.compiled = CompiledCronExpression.compile(seconds, minutes, hours, daysOfMonth, months, daysOfWeek);
 		this.expression = expression;
 	}
 
@@ -238,9 +244,40 @@ public final class CronExpression {
 	 */
 	@Nullable
 	public <T extends Temporal & Comparable<? super T>> T next(T temporal) {
+		if (this.compiled != null) {
+			T result = this.compiled.next(temporal);
+			if (result != null) {
+				return result;
+			}
+		}
 		return nextOrSame(ChronoUnit.NANOS.addTo(temporal, 1));
 	}
 
+	/**
+	 * Calculate the given number of consecutive {@link Temporal temporals}
+	 * that match this expression, for instance to preview upcoming executions.
+	 * @param temporal the seed value
+	 * @param count the maximum number of matches to calculate
+	 * @param <T> the type of temporal
+	 * @return the next matches in chronological order, with fewer elements
+	 * than requested if no further matches can be found
+	 * @since 6.2
+	 * @see #next(Temporal)
+	 */
+	public <T extends Temporal & Comparable<? super T>> List<T> next(T temporal, int count) {
+		Assert.isTrue(count >= 0, "Count must not be negative");
+		List<T> result = new ArrayList<>();
+		T next = temporal;
+		while (result.size() < count) {
+			next = next(next);
+			if (next == null) {
+				break;
+			}
+			result.add(next);
+		}
+		return result;
+	}
+
 
 	@Nullable
 	private <T extends Temporal & Comparable<? super T>> T nextOrSame(T temporal) {
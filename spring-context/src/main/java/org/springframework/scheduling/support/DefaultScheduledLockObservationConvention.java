@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.scheduling.support.ScheduledLockObservationContext.Operation;
+import org.springframework.scheduling.support.ScheduledLockObservationDocumentation.LowCardinalityKeyNames;
+
+/**
+ * Default implementation for {@link ScheduledLockObservationConvention}.
+ *
+ * @since 6.2
+ */
+public class DefaultScheduledLockObservationConvention implements ScheduledLockObservationConvention {
+
+	private static final String DEFAULT_NAME = "tasks.scheduled.lock";
+
+	private static final KeyValue OPERATION_ACQUIRE = KeyValue.of(LowCardinalityKeyNames.OPERATION, "acquire");
+
+	private static final KeyValue OPERATION_RENEW = KeyValue.of(LowCardinalityKeyNames.OPERATION, "renew");
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private static final KeyValue OUTCOME_ACQUIRED = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "ACQUIRED");
+
+	private static final KeyValue OUTCOME_SKIPPED = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "SKIPPED");
+
+	private static final KeyValue OUTCOME_RENEWED = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "RENEWED");
+
+	private static final KeyValue OUTCOME_LOST = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "LOST");
+
+	private static final KeyValue OUTCOME_ERROR = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "ERROR");
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(ScheduledLockObservationContext context) {
+		return (context.getOperation() == Operation.ACQUIRE ? "acquire lock " : "renew lock ") + context.getLockName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ScheduledLockObservationContext context) {
+		return KeyValues.of(lockName(context), operation(context), exception(context), outcome(context));
+	}
+
+	protected KeyValue lockName(ScheduledLockObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.LOCK_NAME, context.getLockName());
+	}
+
+	protected KeyValue operation(ScheduledLockObservationContext context) {
+		return (context.getOperation() == Operation.ACQUIRE ? OPERATION_ACQUIRE : OPERATION_RENEW);
+	}
+
+	protected KeyValue exception(ScheduledLockObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.EXCEPTION, context.getError().getClass().getSimpleName());
+		}
+		return EXCEPTION_NONE;
+	}
+
+	protected KeyValue outcome(ScheduledLockObservationContext context) {
+		if (context.getError() != null) {
+			return OUTCOME_ERROR;
+		}
+		if (context.getOperation() == Operation.ACQUIRE) {
+			return (context.isSuccessful() ? OUTCOME_ACQUIRED : OUTCOME_SKIPPED);
+		}
+		return (context.isSuccessful() ? OUTCOME_RENEWED : OUTCOME_LOST);
+	}
+
+}
@@ -257,45 +257,46 @@ final class QuartzCronField extends CronField {
 	 */
 	private static TemporalAdjuster weekdayNearestTo(int dayOfMonth) {
 		return temporal -> {
-			int current = Type.DAY_OF_MONTH.get(temporal);
-			DayOfWeek dayOfWeek = DayOfWeek.from(temporal);
-
-			if ((current == dayOfMonth && isWeekday(dayOfWeek)) ||  // dayOfMonth is a weekday
-					(dayOfWeek == DayOfWeek.FRIDAY && current == dayOfMonth - 1) ||  // dayOfMonth is a Saturday, so Friday before
-					(dayOfWeek == DayOfWeek.MONDAY && current == dayOfMonth + 1) ||  // dayOfMonth is a Sunday, so Monday after
-					(dayOfWeek == DayOfWeek.MONDAY && dayOfMonth == 1 && current == 3)) {  // dayOfMonth is Saturday 1st, so Monday 3rd
-				return temporal;
-			}
 			int count = 0;
 			while (count++ < CronExpression.MAX_ATTEMPTS) {
-				if (current == dayOfMonth) {
-					dayOfWeek = DayOfWeek.from(temporal);
-
-					if (dayOfWeek == DayOfWeek.SATURDAY) {
-						if (dayOfMonth != 1) {
-							temporal = temporal.minus(1, ChronoUnit.DAYS);
-						}
-						else {
-							// exception for "1W" fields: execute on next Monday
-							temporal = temporal.plus(2, ChronoUnit.DAYS);
-						}
-					}
-					else if (dayOfWeek == DayOfWeek.SUNDAY) {
-						temporal = temporal.plus(1, ChronoUnit.DAYS);
-					}
-					return atMidnight().adjustInto(temporal);
+				int current = Type.DAY_OF_MONTH.get(temporal);
+				int weekday = weekdayNearestTo(dayOfMonth, temporal, current);
+				if (current == weekday) {
+					return temporal;
 				}
-				else {
-					temporal = Type.DAY_OF_MONTH.elapseUntil(cast(temporal), dayOfMonth);
-					current = Type.DAY_OF_MONTH.get(temporal);
+				else if (current < weekday) {
+					// The weekday is still ahead in this month, including
+					// Monday 3rd for "1W" when the 1st is a Saturday
+					return atMidnight().adjustInto(temporal.plus(weekday - current, ChronoUnit.DAYS));
 				}
+				temporal = atMidnight().adjustInto(temporal.with(TemporalAdjusters.firstDayOfNextMonth()));
 			}
 			return null;
 		};
 	}
 
-	private static boolean isWeekday(DayOfWeek dayOfWeek) {
-		return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+	/**
+	 * Determine the day-of-month of the weekday nearest to the given
+	 * day-of-month within the month of the given temporal, without crossing
+	 * the boundaries of the month.
+	 * @return the day-of-month of the weekday, or -1 if there is none in
+	 * this month
+	 */
+	private static int weekdayNearestTo(int dayOfMonth, Temporal temporal, int current) {
+		int lengthOfMonth = (int) temporal.range(ChronoField.DAY_OF_MONTH).getMaximum();
+		if (dayOfMonth > lengthOfMonth) {
+			return -1;
+		}
+		DayOfWeek dayOfWeek = DayOfWeek.from(temporal).plus(dayOfMonth - current);
+		if (dayOfWeek == DayOfWeek.SATURDAY) {
+			// Friday before, or Monday 3rd for a Saturday 1st
+			return (dayOfMonth != 1 ? dayOfMonth - 1 : 3);
+		}
+		else if (dayOfWeek == DayOfWeek.SUNDAY) {
+			// Monday after, unless in the next month
+			return (dayOfMonth != lengthOfMonth ? dayOfMonth + 1 : -1);
+		}
+		return dayOfMonth;
 	}
 
 	/**
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Context that holds information for observation metadata collection during
+ * {@link ScheduledLockObservationDocumentation#TASKS_SCHEDULED_LOCK lock operations}
+ * for scheduled tasks.
+ *
+ * @since 6.2
+ * @see ScheduledLockRunnable
+ */
+public class ScheduledLockObservationContext extends Observation.Context {
+
+	private final String lockName;
+
+	private final Operation operation;
+
+	private boolean successful;
+
+
+	/**
+	 * Create a new observation context for an operation on the given lock.
+	 * @param lockName the name of the lock
+	 * @param operation the lock operation
+	 */
+	public ScheduledLockObservationContext(String lockName, Operation operation) {
+		this.lockName = lockName;
+		this.operation = operation;
+	}
+
+
+	/**
+	 * Return the name of the lock.
+	 */
+	public String getLockName() {
+		return this.lockName;
+	}
+
+	/**
+	 * Return the lock operation.
+	 */
+	public Operation getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Return whether the lock has been acquired or renewed, respectively.
+	 * <p>If an observation has ended and the operation was not successful
+	 * without an {@link #getError() error}, this means that the task execution
+	 * got skipped or that its lease got lost.
+	 */
+	public boolean isSuccessful() {
+		return this.successful;
+	}
+
+	/**
+	 * Set whether the lock has been acquired or renewed, respectively.
+	 */
+	public void setSuccessful(boolean successful) {
+		this.successful = successful;
+	}
+
+
+	/**
+	 * Operations on a lock for a scheduled task.
+	 */
+	public enum Operation {
+
+		/**
+		 * Acquisition of the lock before an execution of the task.
+		 */
+		ACQUIRE,
+
+		/**
+		 * Renewal of the lease during an execution of the task.
+		 */
+		RENEW
+	}
+
+}
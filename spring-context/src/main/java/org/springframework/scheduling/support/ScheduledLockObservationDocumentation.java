@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for the observations on
+ * lock operations for {@link org.springframework.scheduling.annotation.ScheduledLock locked}
+ * scheduled tasks.
+ *
+ * <p>The duration of lock acquisitions reflects the latency of the lock store,
+ * while their outcome tells executions that were run from those that were skipped
+ * because another application instance held the lock.
+ *
+ * <p>This class is used by automated tools to document KeyValues attached to the
+ * {@code @ScheduledLock} observations.
+ *
+ * @since 6.2
+ */
+public enum ScheduledLockObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Observations on the acquisition and renewal of locks for scheduled tasks.
+	 */
+	TASKS_SCHEDULED_LOCK {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultScheduledLockObservationConvention.class;
+		}
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return new KeyName[] {};
+		}
+	};
+
+
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the lock.
+		 */
+		LOCK_NAME {
+			@Override
+			public String asString() {
+				return "lock.name";
+			}
+		},
+
+		/**
+		 * Lock operation, either "acquire" or "renew".
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "operation";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown by the lock store, or {@value KeyValue#NONE_VALUE} if no exception was thrown.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		},
+
+		/**
+		 * Outcome of the lock operation: "ACQUIRED" or "SKIPPED" for acquisitions,
+		 * "RENEWED" or "LOST" for renewals, or "ERROR".
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.SchedulingAwareRunnable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.ScheduledLockObservationContext.Operation;
+import org.springframework.util.Assert;
+
+/**
+ * Runnable wrapper that only runs the target task if it can acquire a named
+ * lock from a {@link ScheduledLockStore} shared between application instances,
+ * skipping the execution otherwise.
+ *
+ * <p>While the task is running, the lease of the lock is renewed at a third of
+ * the lease time. If a renewal fails because the lock is not held anymore, or
+ * because the lease expired while the lock store was not reachable, the thread
+ * running the task gets interrupted. The lock is released once the task
+ * completes, yet held for a minimum time since its acquisition, so that other
+ * instances do not repeat an execution that completed quickly.
+ *
+ * <p>Lock acquisitions and renewals are observed as
+ * {@link ScheduledLockObservationDocumentation#TASKS_SCHEDULED_LOCK}.
+ *
+ * @since 6.2
+ * @see org.springframework.scheduling.annotation.ScheduledLock
+ */
+public class ScheduledLockRunnable implements SchedulingAwareRunnable {
+
+	private static final Log logger = LogFactory.getLog(ScheduledLockRunnable.class);
+
+	private static final ScheduledLockObservationConvention DEFAULT_CONVENTION =
+			new DefaultScheduledLockObservationConvention();
+
+	private static final String INSTANCE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+	private static final AtomicLong executionCounter = new AtomicLong();
+
+
+	private final Runnable delegate;
+
+	private final String lockName;
+
+	private final Duration leaseTime;
+
+	private final Duration lockAtLeastFor;
+
+	private final Supplier<ScheduledLockStore> lockStoreSupplier;
+
+	private final Supplier<TaskScheduler> renewalSchedulerSupplier;
+
+	private final Supplier<ObservationRegistry> observationRegistrySupplier;
+
+
+	/**
+	 * Create a {@code ScheduledLockRunnable} for the given target task.
+	 * @param delegate the target task to run while holding the lock
+	 * @param lockName the name of the lock
+	 * @param leaseTime the time after which the lock expires unless renewed
+	 * @param lockAtLeastFor the minimum time to hold the lock for after its
+	 * acquisition, not longer than the lease time
+	 * @param lockStoreSupplier a supplier for the lock store to use
+	 * @param renewalSchedulerSupplier a supplier for the scheduler to renew
+	 * leases on, which must not be blocked by the task itself
+	 * @param observationRegistrySupplier a supplier for the observation registry to use
+	 */
+	public ScheduledLockRunnable(Runnable delegate, String lockName, Duration leaseTime, Duration lockAtLeastFor,
+			Supplier<ScheduledLockStore> lockStoreSupplier, Supplier<TaskScheduler> renewalSchedulerSupplier,
+			Supplier<ObservationRegistry> observationRegistrySupplier) {
+
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.hasText(lockName, "Lock name must not be empty");
+		Assert.isTrue(!leaseTime.isNegative() && !leaseTime.isZero(), "Lease time must be positive");
+		Assert.isTrue(!lockAtLeastFor.isNegative(), "Minimum hold time must not be negative");
+		Assert.isTrue(lockAtLeastFor.compareTo(leaseTime) <= 0, "Minimum hold time must not exceed lease time");
+		this.delegate = delegate;
+		this.lockName = lockName;
+		this.leaseTime = leaseTime;
+		this.lockAtLeastFor = lockAtLeastFor;
+		this.lockStoreSupplier = lockStoreSupplier;
+		this.renewalSchedulerSupplier = renewalSchedulerSupplier;
+		this.observationRegistrySupplier = observationRegistrySupplier;
+	}
+
+
+	/**
+	 * Return the target task to run while holding the lock.
+	 */
+	public Runnable getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Return the name of the lock.
+	 */
+	public String getLockName() {
+		return this.lockName;
+	}
+
+	/**
+	 * Return the time after which the lock expires unless renewed.
+	 */
+	public Duration getLeaseTime() {
+		return this.leaseTime;
+	}
+
+	/**
+	 * Return the minimum time to hold the lock for after its acquisition.
+	 */
+	public Duration getLockAtLeastFor() {
+		return this.lockAtLeastFor;
+	}
+
+	@Override
+	@Nullable
+	public String getQualifier() {
+		return (this.delegate instanceof SchedulingAwareRunnable sar ? sar.getQualifier() : null);
+	}
+
+
+	@Override
+	public void run() {
+		ScheduledLockStore lockStore = this.lockStoreSupplier.get();
+		String owner = INSTANCE_ID + '/' + executionCounter.incrementAndGet();
+		Lease lease = new Lease(lockStore, owner);
+		if (!lease.acquire()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Skipping execution of " + this.delegate + ": lock '" + this.lockName +
+						"' is held by another instance");
+			}
+			return;
+		}
+		Duration renewalPeriod = this.leaseTime.dividedBy(3);
+		if (renewalPeriod.isZero()) {
+			renewalPeriod = Duration.ofMillis(1);
+		}
+		TaskScheduler renewalScheduler = this.renewalSchedulerSupplier.get();
+		ScheduledFuture<?> renewal = renewalScheduler.scheduleWithFixedDelay(
+				lease::renew, renewalScheduler.getClock().instant().plus(renewalPeriod), renewalPeriod);
+		try {
+			this.delegate.run();
+		}
+		finally {
+			renewal.cancel(false);
+			if (lease.complete()) {
+				// Clear the interrupt that signalled the lost lease
+				Thread.interrupted();
+			}
+			else {
+				lease.release();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.delegate.toString();
+	}
+
+
+	/**
+	 * The lease on the lock for a single execution of the task.
+	 */
+	private class Lease {
+
+		private final ScheduledLockStore lockStore;
+
+		private final String owner;
+
+		private final Thread thread = Thread.currentThread();
+
+		private volatile long expiryTime;
+
+		private boolean completed;
+
+		private boolean lost;
+
+		Lease(ScheduledLockStore lockStore, String owner) {
+			this.lockStore = lockStore;
+			this.owner = owner;
+		}
+
+		boolean acquire() {
+			this.expiryTime = System.nanoTime() + leaseTime.toNanos();
+			return observe(Operation.ACQUIRE, () -> this.lockStore.tryAcquire(lockName, this.owner, leaseTime));
+		}
+
+		/**
+		 * Renew the lease, unless the execution is complete. Synchronized with
+		 * {@link #complete()} and {@link #release()}, so that a renewal in
+		 * progress finishes before the lock gets released, and no renewal
+		 * extends the lease after its release.
+		 */
+		synchronized void renew() {
+			if (this.completed || this.lost) {
+				return;
+			}
+			long renewalTime = System.nanoTime();
+			boolean renewed;
+			try {
+				renewed = observe(Operation.RENEW, () -> this.lockStore.renew(lockName, this.owner, leaseTime));
+			}
+			catch (RuntimeException ex) {
+				if (renewalTime - this.expiryTime < 0) {
+					logger.warn("Failed to renew lease on lock '" + lockName + "' - retrying", ex);
+					return;
+				}
+				logger.warn("Failed to renew lease on lock '" + lockName + "' before its expiry", ex);
+				renewed = false;
+			}
+			if (renewed) {
+				this.expiryTime = renewalTime + leaseTime.toNanos();
+			}
+			else {
+				lost();
+			}
+		}
+
+		private synchronized void lost() {
+			if (!this.completed) {
+				logger.warn("Lease on lock '" + lockName + "' lost - interrupting execution of " + delegate);
+				this.lost = true;
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * Mark the execution as complete.
+		 * @return whether the lease got lost during the execution
+		 */
+		synchronized boolean complete() {
+			this.completed = true;
+			return this.lost;
+		}
+
+		synchronized void release() {
+			try {
+				this.lockStore.release(lockName, this.owner, lockAtLeastFor);
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Failed to release lock '" + lockName + "' - it will expire after its lease time", ex);
+			}
+		}
+
+		private boolean observe(Operation operation, Supplier<Boolean> action) {
+			ScheduledLockObservationContext context = new ScheduledLockObservationContext(lockName, operation);
+			Observation observation = ScheduledLockObservationDocumentation.TASKS_SCHEDULED_LOCK.observation(
+					null, DEFAULT_CONVENTION, () -> context, observationRegistrySupplier.get());
+			return observation.observe(() -> {
+				boolean successful = action.get();
+				context.setSuccessful(successful);
+				return successful;
+			});
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.Duration;
+
+/**
+ * Strategy interface for a store of named locks with a lease time, shared
+ * between application instances to make sure that only one of them runs a
+ * given execution of a scheduled task.
+ *
+ * <p>A lock is held by an owner until it is released or its lease expires,
+ * unless the lease is renewed in time. Implementations need to make sure that
+ * acquiring, renewing and releasing a lock are atomic across all application
+ * instances sharing the store.
+ *
+ * @since 6.2
+ * @see ScheduledLockRunnable
+ * @see org.springframework.scheduling.annotation.ScheduledLock
+ */
+public interface ScheduledLockStore {
+
+	/**
+	 * Try to acquire the given lock, if not currently held or if its lease
+	 * has expired.
+	 * @param lockName the name of the lock
+	 * @param owner a unique identifier of the owner of the lock
+	 * @param leaseTime the time after which the lock expires unless renewed
+	 * @return {@code true} if the lock has been acquired, {@code false} if it
+	 * is held by a different owner
+	 */
+	boolean tryAcquire(String lockName, String owner, Duration leaseTime);
+
+	/**
+	 * Renew the lease of the given lock, if still held by the given owner.
+	 * @param lockName the name of the lock
+	 * @param owner the owner that acquired the lock
+	 * @param leaseTime the time from now after which the lock expires unless
+	 * renewed again
+	 * @return {@code true} if the lease has been renewed, {@code false} if
+	 * the lock is not held by the given owner anymore
+	 */
+	boolean renew(String lockName, String owner, Duration leaseTime);
+
+	/**
+	 * Release the given lock, if still held by the given owner.
+	 * <p>The lock remains unavailable to other owners until the given minimum
+	 * hold time has passed since it was acquired, or is released immediately
+	 * if that time has passed already.
+	 * @param lockName the name of the lock
+	 * @param owner the owner that acquired the lock
+	 * @param lockAtLeastFor the minimum time to hold the lock for, measured
+	 * from its acquisition; not longer than the lease time
+	 */
+	void release(String lockName, String owner, Duration lockAtLeastFor);
+
+}
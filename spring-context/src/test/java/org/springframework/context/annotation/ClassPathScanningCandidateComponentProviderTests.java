@@ -125,6 +125,31 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelScanning(true);
+		testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
+	}
+
+	@Test
+	void parallelScanRetainsOrderOfSequentialScan() {
+		ClassLoader classLoader = CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader());
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		ClassPathScanningCandidateComponentProvider parallelProvider = new ClassPathScanningCandidateComponentProvider(true);
+		parallelProvider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		parallelProvider.setParallelScanning(true);
+
+		List<String> beanClassNames = provider.findCandidateComponents("example").stream()
+				.map(BeanDefinition::getBeanClassName).toList();
+		assertThat(beanClassNames).isNotEmpty();
+		assertThat(parallelProvider.findCandidateComponents("example").stream()
+				.map(BeanDefinition::getBeanClassName).toList()).isEqualTo(beanClassNames);
+	}
+
 	@Test
 	void defaultsWithIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
@@ -309,6 +309,40 @@ class ConfigurationClassPostProcessorTests {
 		assertSupportForComposedAnnotation(beanDefinition);
 	}
 
+	@Test
+	void postProcessorWorksWithMetaComponentScanConfigurationWithAttributeOverridesSubclassUsingParallelParsing() {
+		beanFactory.registerBeanDefinition("config", new RootBeanDefinition(
+				SubMetaComponentScanConfigurationWithAttributeOverridesClass.class.getName()));
+		ConfigurationClassPostProcessor pp = new ConfigurationClassPostProcessor();
+		pp.setEnvironment(new StandardEnvironment());
+		pp.setParallelParsing(true);
+		pp.postProcessBeanFactory(beanFactory);
+		SimpleComponent simpleComponent = beanFactory.getBean(SimpleComponent.class);
+		assertThat(simpleComponent).isNotNull();
+	}
+
+	@Test
+	void parallelParsingRegistersSameBeanDefinitionsAsSequentialParsing() {
+		DefaultListableBeanFactory sequential = parseParallelParsingConfigs(false);
+		DefaultListableBeanFactory parallel = parseParallelParsingConfigs(true);
+		assertThat(parallel.getBeanDefinitionNames()).containsExactly(sequential.getBeanDefinitionNames());
+		assertThat(parallel.getBeanDefinitionNames()).contains("importedFoo", "superBar", "nestedBar")
+				.doesNotContain("skippedFoo");
+		assertThat(parallel.getBean("nestedBar", Bar.class).foo).isSameAs(parallel.getBean("importedFoo"));
+	}
+
+	private DefaultListableBeanFactory parseParallelParsingConfigs(boolean parallelParsing) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("config1", new RootBeanDefinition(ParallelParsingConfig.class.getName()));
+		beanFactory.registerBeanDefinition("config2", new RootBeanDefinition(ParallelParsingSkippedConfig.class));
+		beanFactory.registerBeanDefinition("config3", new RootBeanDefinition(SingletonBeanConfig.class.getName()));
+		ConfigurationClassPostProcessor pp = new ConfigurationClassPostProcessor();
+		pp.setEnvironment(new StandardEnvironment());
+		pp.setParallelParsing(parallelParsing);
+		pp.postProcessBeanFactory(beanFactory);
+		return beanFactory;
+	}
+
 	private void assertSupportForComposedAnnotation(RootBeanDefinition beanDefinition) {
 		beanFactory.registerBeanDefinition("config", beanDefinition);
 		ConfigurationClassPostProcessor pp = new ConfigurationClassPostProcessor();
@@ -1267,6 +1301,43 @@ class ConfigurationClassPostProcessorTests {
 		}
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@Import(ParallelParsingImportedConfig.class)
+	static class ParallelParsingConfig {
+
+		@Configuration(proxyBeanMethods = false)
+		static class NestedConfig {
+
+			@Bean public Bar nestedBar(Foo importedFoo) {
+				return new Bar(importedFoo);
+			}
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelParsingImportedConfig extends ParallelParsingSuperConfig {
+
+		@Bean public Foo importedFoo() {
+			return new Foo();
+		}
+	}
+
+	static class ParallelParsingSuperConfig {
+
+		@Bean public Bar superBar() {
+			return new Bar(new Foo());
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Profile("missing")
+	static class ParallelParsingSkippedConfig {
+
+		@Bean public Foo skippedFoo() {
+			return new Foo();
+		}
+	}
+
 	static class Foo {
 	}
 
@@ -16,13 +16,18 @@
 
 package org.springframework.context.expression;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
@@ -67,10 +72,40 @@ class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache).as("Cached expression should be based on type").hasSize(2);
 	}
 
+	@Test
+	void compileExpressionWithParserConfiguration() {
+		SpelParserConfiguration configuration = new SpelParserConfiguration(SpelCompilerMode.MIXED, null, 2);
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(new SpelExpressionParser(configuration));
+		Method method = ReflectionUtils.findMethod(getClass(), "concat", String.class, String.class);
+		Expression expression = evaluator.getTestExpression("#first + ':' + #second", method, getClass());
+
+		for (int i = 0; i < 3; i++) {
+			MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(this, method,
+					new Object[] {"id", "tenant" + i}, evaluator.getParameterNameDiscoverer());
+			assertThat(expression.getValue(context)).isEqualTo("id:tenant" + i);
+		}
+		Field field = ReflectionUtils.findField(SpelExpression.class, "compiledAst");
+		ReflectionUtils.makeAccessible(field);
+		assertThat(ReflectionUtils.getField(field, expression)).isNotNull();
+	}
+
+	@Test
+	void cacheParameterNames() {
+		Method method = ReflectionUtils.findMethod(getClass(), "concat", String.class, String.class);
+		ParameterNameDiscoverer parameterNameDiscoverer = expressionEvaluator.getParameterNameDiscoverer();
+		String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+		assertThat(parameterNames).containsExactly("first", "second");
+		assertThat(parameterNameDiscoverer.getParameterNames(method)).isSameAs(parameterNames);
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
 
+	String concat(String first, String second) {
+		return first + ":" + second;
+	}
+
 	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
 
 		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
@@ -79,6 +114,15 @@ class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelExpressionParser parser) {
+			super(parser);
+		}
+
+		@Override
+		public ParameterNameDiscoverer getParameterNameDiscoverer() {
+			return super.getParameterNameDiscoverer();
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
@@ -61,6 +61,8 @@ import org.springframework.scheduling.config.OneTimeTask;
 import org.springframework.scheduling.config.ScheduledTaskHolder;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.ScheduledLockRunnable;
+import org.springframework.scheduling.support.ScheduledLockStore;
 import org.springframework.scheduling.support.ScheduledMethodRunnable;
 import org.springframework.scheduling.support.SimpleTriggerContext;
 import org.springframework.stereotype.Component;
@@ -751,6 +753,56 @@ class ScheduledAnnotationBeanPostProcessorTests {
 		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(context::refresh);
 	}
 
+	@Test
+	void scheduledLock() {
+		BeanDefinition processorDefinition = new RootBeanDefinition(ScheduledAnnotationBeanPostProcessor.class);
+		BeanDefinition placeholderDefinition = new RootBeanDefinition(PropertySourcesPlaceholderConfigurer.class);
+		Properties properties = new Properties();
+		properties.setProperty("lock.name", "reportLock");
+		properties.setProperty("lock.leaseTime", "PT2M");
+		placeholderDefinition.getPropertyValues().addPropertyValue("properties", properties);
+		BeanDefinition lockStoreDefinition = new RootBeanDefinition(NoOpLockStore.class);
+		BeanDefinition targetDefinition = new RootBeanDefinition(ScheduledLockTestBean.class);
+		context.registerBeanDefinition("postProcessor", processorDefinition);
+		context.registerBeanDefinition("placeholder", placeholderDefinition);
+		context.registerBeanDefinition("lockStore", lockStoreDefinition);
+		context.registerBeanDefinition("target", targetDefinition);
+		context.refresh();
+
+		ScheduledTaskHolder postProcessor = context.getBean("postProcessor", ScheduledTaskHolder.class);
+		assertThat(postProcessor.getScheduledTasks()).hasSize(2);
+
+		ScheduledTaskRegistrar registrar = (ScheduledTaskRegistrar)
+				new DirectFieldAccessor(postProcessor).getPropertyValue("registrar");
+		@SuppressWarnings("unchecked")
+		List<IntervalTask> fixedDelayTasks = (List<IntervalTask>)
+				new DirectFieldAccessor(registrar).getPropertyValue("fixedDelayTasks");
+		assertThat(fixedDelayTasks).hasSize(2);
+		Map<String, ScheduledLockRunnable> runnables = new HashMap<>();
+		for (IntervalTask task : fixedDelayTasks) {
+			ScheduledLockRunnable runnable = (ScheduledLockRunnable) task.getRunnable();
+			ScheduledMethodRunnable methodRunnable = (ScheduledMethodRunnable) runnable.getDelegate();
+			runnables.put(methodRunnable.getMethod().getName(), runnable);
+		}
+		assertThat(runnables.get("report").getLockName()).isEqualTo("reportLock");
+		assertThat(runnables.get("report").getLeaseTime()).isEqualTo(Duration.ofMinutes(2));
+		assertThat(runnables.get("report").getLockAtLeastFor()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(runnables.get("cleanup").getLockName())
+				.isEqualTo(ScheduledLockTestBean.class.getName() + ".cleanup");
+		assertThat(runnables.get("cleanup").getLeaseTime()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(runnables.get("cleanup").getLockAtLeastFor()).isZero();
+	}
+
+	@Test
+	void scheduledLockWithoutLockStore() {
+		BeanDefinition processorDefinition = new RootBeanDefinition(ScheduledAnnotationBeanPostProcessor.class);
+		BeanDefinition targetDefinition = new RootBeanDefinition(ScheduledLockTestBean.class);
+		context.registerBeanDefinition("postProcessor", processorDefinition);
+		context.registerBeanDefinition("target", targetDefinition);
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(context::refresh)
+				.withMessageContaining("ScheduledLockStore");
+	}
+
 
 	static class FixedDelay {
 
@@ -1071,6 +1123,36 @@ class ScheduledAnnotationBeanPostProcessorTests {
 		}
 	}
 
+	static class ScheduledLockTestBean {
+
+		@Scheduled(fixedDelay = 60_000)
+		@ScheduledLock(name = "${lock.name:report}", leaseTime = "${lock.leaseTime:10000}", lockAtLeastFor = "1000")
+		void report() {
+		}
+
+		@Scheduled(fixedDelay = 60_000)
+		@ScheduledLock
+		void cleanup() {
+		}
+	}
+
+	static class NoOpLockStore implements ScheduledLockStore {
+
+		@Override
+		public boolean tryAcquire(String lockName, String owner, Duration leaseTime) {
+			return true;
+		}
+
+		@Override
+		public boolean renew(String lockName, String owner, Duration leaseTime) {
+			return true;
+		}
+
+		@Override
+		public void release(String lockName, String owner, Duration lockAtLeastFor) {
+		}
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@ConvertWith(NameToClass.Converter.class)
 	private @interface NameToClass {
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TimingWheelTaskScheduler}.
+ */
+class TimingWheelTaskSchedulerTests {
+
+	private final TimingWheelTaskScheduler scheduler = new TimingWheelTaskScheduler();
+
+
+	@BeforeEach
+	void setup() {
+		this.scheduler.setTickDuration(Duration.ofMillis(5));
+		this.scheduler.setTicksPerWheel(16);
+		this.scheduler.setThreadNamePrefix("wheel-");
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.scheduler.shutdown();
+	}
+
+
+	@Test
+	void scheduleOneTimeTaskNotBeforeStartTime() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		Instant startTime = Instant.now().plusMillis(200);
+		AtomicReference<Instant> executionTime = new AtomicReference<>();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> executionTime.set(Instant.now()), startTime);
+		future.get(1, TimeUnit.SECONDS);
+		assertThat(future.isDone()).isTrue();
+		assertThat(executionTime.get()).isAfterOrEqualTo(startTime);
+	}
+
+	@Test
+	void scheduleOneTimeTaskBeyondOneRevolution() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		long start = System.nanoTime();
+		// 16 ticks of 5 ms per revolution
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusMillis(250));
+		future.get(1, TimeUnit.SECONDS);
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+	}
+
+	@Test
+	void scheduleOneTimeFailingTaskWithoutErrorHandler() {
+		this.scheduler.afterPropertiesSet();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("Expected exception");
+		}, Instant.now());
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> future.get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void scheduleOneTimeFailingTaskWithErrorHandler() throws Exception {
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		this.scheduler.setErrorHandler(error::set);
+		this.scheduler.afterPropertiesSet();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("Expected exception");
+		}, Instant.now());
+		assertThat(future.get(1, TimeUnit.SECONDS)).isNull();
+		assertThat(error.get()).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void scheduleAtFixedRate() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(5);
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(latch::countDown, Duration.ofMillis(10));
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		future.cancel(false);
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void scheduleWithFixedDelay() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(5);
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(latch::countDown, Duration.ofMillis(10));
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		future.cancel(false);
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void scheduleWithTrigger() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, new PeriodicTrigger(Duration.ofMillis(10)));
+		assertThat(future).isNotNull();
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		future.cancel(false);
+	}
+
+	@Test
+	void cancelledTasksAreRemoved() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		AtomicInteger counter = new AtomicInteger();
+		List<ScheduledFuture<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			futures.add(this.scheduler.schedule(counter::incrementAndGet, Instant.now().plusMillis(100 + i)));
+		}
+		futures.forEach(future -> future.cancel(false));
+		TimingWheelScheduledExecutor executor = (TimingWheelScheduledExecutor) this.scheduler.getScheduledExecutor();
+		for (int i = 0; i < 100 && executor.getTaskCount() > 0; i++) {
+			Thread.sleep(10);
+		}
+		assertThat(executor.getTaskCount()).isZero();
+		assertThat(counter).hasValue(0);
+	}
+
+	@Test
+	void burstOfDueTasksRunsWithinOneTick() throws Exception {
+		AtomicLong nanoClock = new AtomicLong();
+		long tickNanos = TimeUnit.MILLISECONDS.toNanos(10);
+		TimingWheelScheduledExecutor executor =
+				new TimingWheelScheduledExecutor(tickNanos, 16, Thread::new, null, nanoClock::get);
+		try {
+			int taskCount = 500;
+			CountDownLatch latch = new CountDownLatch(taskCount);
+			for (int i = 0; i < taskCount; i++) {
+				executor.schedule(latch::countDown, 0, TimeUnit.NANOSECONDS);
+			}
+			ScheduledFuture<?> nextTickTask = executor.schedule(() -> {}, tickNanos, TimeUnit.NANOSECONDS);
+
+			// The clock only ever reaches the end of the first tick: all tasks due
+			// by then have to run in that tick, rather than being spread over several
+			nanoClock.set(tickNanos);
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(nextTickTask.isDone()).isFalse();
+			assertThat(executor.getTaskCount()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void tasksRunOnTimerThreadByDefault() throws Exception {
+		this.scheduler.afterPropertiesSet();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		this.scheduler.schedule(() -> threadName.set(Thread.currentThread().getName()), Instant.now())
+				.get(1, TimeUnit.SECONDS);
+		assertThat(threadName.get()).startsWith("wheel-");
+	}
+
+	@Test
+	void tasksHandedToTaskExecutor() throws Exception {
+		this.scheduler.setTaskExecutor(new SimpleAsyncTaskExecutor("worker-"));
+		this.scheduler.afterPropertiesSet();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		this.scheduler.schedule(() -> threadName.set(Thread.currentThread().getName()), Instant.now())
+				.get(1, TimeUnit.SECONDS);
+		assertThat(threadName.get()).startsWith("worker-");
+	}
+
+	@Test
+	void scheduleAfterShutdownIsRejected() {
+		this.scheduler.afterPropertiesSet();
+		this.scheduler.shutdown();
+		assertThatExceptionOfType(TaskRejectedException.class)
+				.isThrownBy(() -> this.scheduler.schedule(() -> {}, Instant.now()));
+	}
+
+	@Test
+	void shutdownCancelsPendingTasks() {
+		this.scheduler.setAwaitTerminationSeconds(1);
+		this.scheduler.afterPropertiesSet();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+		this.scheduler.shutdown();
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+}
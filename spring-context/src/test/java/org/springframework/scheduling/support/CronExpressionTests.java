@@ -20,10 +20,13 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.List;
 
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
@@ -1371,4 +1374,63 @@ class CronExpressionTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	void nextCount() {
+		CronExpression expression = CronExpression.parse("0 0 9-17 * * MON-FRI");
+
+		LocalDateTime last = LocalDateTime.of(2024, 1, 5, 16, 0);
+		List<LocalDateTime> actual = expression.next(last, 4);
+		assertThat(actual).containsExactly(LocalDateTime.of(2024, 1, 5, 17, 0), LocalDateTime.of(2024, 1, 8, 9, 0),
+				LocalDateTime.of(2024, 1, 8, 10, 0), LocalDateTime.of(2024, 1, 8, 11, 0));
+		assertThat(expression.next(last, 0)).isEmpty();
+	}
+
+	@Test
+	void nextCountWithoutFurtherMatches() {
+		CronExpression expression = CronExpression.parse("0 0 0 31 6 *");
+
+		assertThat(expression.next(LocalDateTime.of(2024, 3, 10, 0, 0), 3)).isEmpty();
+	}
+
+	@Test
+	void nextWithOffsetDateTime() {
+		CronExpression expression = CronExpression.parse("0 */15 * * * *");
+
+		OffsetDateTime last = OffsetDateTime.of(2024, 12, 31, 23, 50, 0, 0, ZoneOffset.ofHours(5));
+		OffsetDateTime expected = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(5));
+		assertThat(expression.next(last)).isEqualTo(expected);
+	}
+
+	@Test
+	void nextAcrossMonthsWithinDay() {
+		CronExpression expression = CronExpression.parse("59 59 23 L * *");
+
+		LocalDateTime last = LocalDateTime.of(2024, 2, 29, 23, 59, 59);
+		LocalDateTime expected = LocalDateTime.of(2024, 3, 31, 23, 59, 59);
+		assertThat(expression.next(last)).isEqualTo(expected);
+		assertThat(expression.next(last.minusNanos(1))).isEqualTo(last);
+	}
+
+	@Test
+	void quartzFirstWeekdayOfMonthFromPrecedingDay() {
+		CronExpression expression = CronExpression.parse("0 0 0 1W * *");
+
+		// October 1st, 2033 is a Saturday
+		LocalDateTime last = LocalDateTime.of(2033, 10, 2, 20, 35, 14);
+		LocalDateTime expected = LocalDateTime.of(2033, 10, 3, 0, 0);
+		assertThat(expression.next(last)).isEqualTo(expected);
+	}
+
+	@Test
+	void quartzFirstWeekdayOfMonthFromPrecedingDayAcrossDstTransition() {
+		CronExpression expression = CronExpression.parse("0 0 0 1W * *");
+
+		// November 1st, 2025 is a Saturday; the DST transition on November 2nd
+		// makes the calculation fall back to the field-by-field algorithm
+		ZoneId zone = ZoneId.of("America/New_York");
+		ZonedDateTime last = ZonedDateTime.of(2025, 11, 2, 0, 30, 0, 0, zone);
+		ZonedDateTime expected = ZonedDateTime.of(2025, 11, 3, 0, 0, 0, 0, zone);
+		assertThat(expression.next(last)).isEqualTo(expected);
+	}
+
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ScheduledLockRunnable}.
+ */
+class ScheduledLockRunnableTests {
+
+	private final TestLockStore lockStore = new TestLockStore();
+
+	private final ThreadPoolTaskScheduler renewalScheduler = new ThreadPoolTaskScheduler();
+
+	private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+
+	ScheduledLockRunnableTests() {
+		this.renewalScheduler.initialize();
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.renewalScheduler.shutdown();
+	}
+
+
+	@Test
+	void runsAndReleasesLockIfAcquired() {
+		AtomicBoolean held = new AtomicBoolean();
+		createRunnable(() -> held.set(this.lockStore.locks.containsKey("lock")), Duration.ofSeconds(30)).run();
+
+		assertThat(held).isTrue();
+		assertThat(this.lockStore.locks).isEmpty();
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasObservationWithNameEqualTo("tasks.scheduled.lock").that()
+				.hasLowCardinalityKeyValue("lock.name", "lock")
+				.hasLowCardinalityKeyValue("operation", "acquire")
+				.hasLowCardinalityKeyValue("outcome", "ACQUIRED");
+	}
+
+	@Test
+	void skipsIfLockHeldByOtherOwner() {
+		this.lockStore.locks.put("lock", "other");
+		AtomicBoolean ran = new AtomicBoolean();
+		createRunnable(() -> ran.set(true), Duration.ofSeconds(30)).run();
+
+		assertThat(ran).isFalse();
+		assertThat(this.lockStore.locks).containsEntry("lock", "other");
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasObservationWithNameEqualTo("tasks.scheduled.lock").that()
+				.hasLowCardinalityKeyValue("outcome", "SKIPPED");
+	}
+
+	@Test
+	void renewsLeaseWhileRunning() {
+		AtomicBoolean interrupted = new AtomicBoolean();
+		createRunnable(() -> interrupted.set(!sleep(300)), Duration.ofMillis(60)).run();
+
+		assertThat(interrupted).isFalse();
+		assertThat(this.lockStore.renewals).hasPositiveValue();
+		assertThat(this.lockStore.locks).isEmpty();
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasAnObservationWithAKeyValue("outcome", "RENEWED");
+	}
+
+	@Test
+	void interruptsExecutionIfLeaseLost() {
+		AtomicBoolean interrupted = new AtomicBoolean();
+		createRunnable(() -> {
+			this.lockStore.locks.put("lock", "other");
+			interrupted.set(!sleep(5000));
+		}, Duration.ofMillis(60)).run();
+
+		assertThat(interrupted).isTrue();
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(this.lockStore.locks).containsEntry("lock", "other");
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasAnObservationWithAKeyValue("outcome", "LOST");
+	}
+
+	@Test
+	void releasesLockAfterRenewalInProgress() {
+		this.lockStore.renewalDelay = 200;
+		createRunnable(() -> {
+			while (this.lockStore.renewals.get() == 0) {
+				sleep(5);
+			}
+		}, Duration.ofMillis(30)).run();
+
+		assertThat(this.lockStore.renewals).hasValue(1);
+		assertThat(this.lockStore.releasedDuringRenewal).isFalse();
+		assertThat(this.lockStore.locks).isEmpty();
+	}
+
+	@Test
+	void releasesLockWithMinimumHoldTime() {
+		new ScheduledLockRunnable(() -> {}, "lock", Duration.ofSeconds(30), Duration.ofSeconds(5),
+				() -> this.lockStore, () -> this.renewalScheduler, () -> this.observationRegistry).run();
+
+		assertThat(this.lockStore.lockAtLeastFor).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void rejectsMinimumHoldTimeBeyondLeaseTime() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ScheduledLockRunnable(() -> {}, "lock",
+				Duration.ofSeconds(30), Duration.ofSeconds(31),
+				() -> this.lockStore, () -> this.renewalScheduler, () -> this.observationRegistry));
+	}
+
+	@Test
+	void releasesLockIfTaskFails() {
+		Runnable runnable = createRunnable(() -> {
+			throw new IllegalStateException("failed");
+		}, Duration.ofSeconds(30));
+
+		try {
+			runnable.run();
+		}
+		catch (IllegalStateException ex) {
+			// expected
+		}
+		assertThat(this.lockStore.locks).isEmpty();
+	}
+
+
+	private ScheduledLockRunnable createRunnable(Runnable task, Duration leaseTime) {
+		return new ScheduledLockRunnable(task, "lock", leaseTime, Duration.ZERO,
+				() -> this.lockStore, () -> this.renewalScheduler, () -> this.observationRegistry);
+	}
+
+	private static boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			return false;
+		}
+	}
+
+
+	private static class TestLockStore implements ScheduledLockStore {
+
+		final Map<String, String> locks = new ConcurrentHashMap<>();
+
+		final AtomicInteger renewals = new AtomicInteger();
+
+		final AtomicBoolean renewing = new AtomicBoolean();
+
+		final AtomicBoolean releasedDuringRenewal = new AtomicBoolean();
+
+		volatile long renewalDelay;
+
+		volatile Duration lockAtLeastFor;
+
+		@Override
+		public boolean tryAcquire(String lockName, String owner, Duration leaseTime) {
+			return (this.locks.putIfAbsent(lockName, owner) == null);
+		}
+
+		@Override
+		public boolean renew(String lockName, String owner, Duration leaseTime) {
+			this.renewing.set(true);
+			try {
+				this.renewals.incrementAndGet();
+				if (this.renewalDelay > 0) {
+					sleep(this.renewalDelay);
+				}
+				return owner.equals(this.locks.get(lockName));
+			}
+			finally {
+				this.renewing.set(false);
+			}
+		}
+
+		@Override
+		public void release(String lockName, String owner, Duration lockAtLeastFor) {
+			this.releasedDuringRenewal.compareAndSet(false, this.renewing.get());
+			this.lockAtLeastFor = lockAtLeastFor;
+			this.locks.remove(lockName, owner);
+		}
+	}
+
+}
@@ -16,10 +16,14 @@
 
 package org.springframework.core.convert.support;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -102,6 +106,39 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringValuesWithClassTargets(BindingBenchmarkState state, Blackhole bh) {
+		for (int i = 0; i < state.values.length; i++) {
+			bh.consume(state.conversionService.convert(state.values[i], state.targetTypes[i]));
+		}
+	}
+
+	@Benchmark
+	public void convertStringValuesWithTypeDescriptorTargets(BindingBenchmarkState state, Blackhole bh) {
+		for (int i = 0; i < state.values.length; i++) {
+			bh.consume(state.conversionService.convert(state.values[i],
+					TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(state.targetTypes[i])));
+		}
+	}
+
+
+	/**
+	 * Converts request parameter or column values to simple property types,
+	 * as done for data binding and JDBC row mapping.
+	 */
+	@State(Scope.Benchmark)
+	public static class BindingBenchmarkState {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+
+		String[] values = {"42", "9000000000", "3.14", "true", "SECONDS",
+				"en_US", "5f1c7d0e-1a2b-4c3d-8e9f-0a1b2c3d4e5f"};
+
+		Class<?>[] targetTypes = {Integer.class, long.class, BigDecimal.class, boolean.class, TimeUnit.class,
+				Locale.class, UUID.class};
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link DataBufferUtils#matcher(byte[])}, searching for
+ * line, multipart and server-sent event delimiters in a stream of buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DataBufferUtilsMatcherBenchmark {
+
+	@Benchmark
+	public void match(MatcherState state, Blackhole blackhole) {
+		DataBufferUtils.Matcher matcher = DataBufferUtils.matcher(state.delimiter);
+		for (DataBuffer chunk : state.chunks) {
+			int readPosition = chunk.readPosition();
+			int endIndex;
+			while ((endIndex = matcher.match(chunk)) != -1) {
+				blackhole.consume(endIndex);
+				chunk.readPosition(endIndex + 1);
+			}
+			chunk.readPosition(readPosition);
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class MatcherState {
+
+		@Param({"crlf", "multipart", "sse"})
+		String delimiterType;
+
+		@Param("1048576")
+		int totalSize;
+
+		@Param({"1024", "8192"})
+		int chunkSize;
+
+		@Param("4096")
+		int recordSize;
+
+		byte[] delimiter;
+
+		List<DataBuffer> chunks;
+
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.delimiter = switch (this.delimiterType) {
+				case "crlf" -> "\r\n".getBytes(StandardCharsets.US_ASCII);
+				case "multipart" -> "\r\n--gc0pJq0M:08jU534c0p-8RnM2xYc2Rm1Vqj7MvbH2d".getBytes(StandardCharsets.US_ASCII);
+				case "sse" -> "\n\n".getBytes(StandardCharsets.US_ASCII);
+				default -> throw new IllegalArgumentException("Unknown delimiter type: " + this.delimiterType);
+			};
+
+			// printable content with a delimiter at the end of each record
+			Random random = new Random(42);
+			byte[] content = new byte[this.totalSize];
+			for (int i = 0; i < content.length; i++) {
+				content[i] = (byte) (' ' + random.nextInt(95));
+			}
+			for (int end = this.recordSize; end <= content.length; end += this.recordSize) {
+				System.arraycopy(this.delimiter, 0, content, end - this.delimiter.length, this.delimiter.length);
+			}
+
+			DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+			this.chunks = new ArrayList<>();
+			for (int offset = 0; offset < content.length; offset += this.chunkSize) {
+				int length = Math.min(this.chunkSize, content.length - offset);
+				DataBuffer buffer = bufferFactory.allocateBuffer(length);
+				buffer.write(content, offset, length);
+				this.chunks.add(buffer);
+			}
+		}
+	}
+
+}
@@ -1346,6 +1346,7 @@ public abstract class AnnotationUtils {
 		AnnotationsScanner.clearCache();
 		AttributeMethods.cache.clear();
 		RepeatableContainers.cache.clear();
+		TypeMappedAnnotations.clearCache();
 		OrderUtils.orderCache.clear();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,18 +18,22 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link MergedAnnotations} implementation that searches for and adapts
@@ -47,6 +51,8 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 	static final MergedAnnotations NONE = new TypeMappedAnnotations(
 			null, new Annotation[0], RepeatableContainers.none(), AnnotationFilter.ALL);
 
+	private static final Map<IndexKey, Index> indexCache = new ConcurrentReferenceHashMap<>(256);
+
 
 	@Nullable
 	private final Object source;
@@ -69,6 +75,9 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 	@Nullable
 	private volatile List<Aggregate> aggregates;
 
+	@Nullable
+	private Index index;
+
 
 	private TypeMappedAnnotations(AnnotatedElement element, SearchStrategy searchStrategy,
 			Predicate<Class<?>> searchEnclosingClass, RepeatableContainers repeatableContainers,
@@ -101,8 +110,7 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		if (this.annotationFilter.matches(annotationType)) {
 			return false;
 		}
-		return Boolean.TRUE.equals(scan(annotationType,
-				IsPresent.get(this.repeatableContainers, this.annotationFilter, false)));
+		return isPresentForType(annotationType);
 	}
 
 	@Override
@@ -110,6 +118,23 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		if (this.annotationFilter.matches(annotationType)) {
 			return false;
 		}
+		return isPresentForType(annotationType);
+	}
+
+	private boolean isPresentForType(Object annotationType) {
+		Index index = getIndex();
+		if (index != null) {
+			Boolean present = index.present.get(annotationType);
+			if (present == null) {
+				present = scanIsPresent(annotationType);
+				index.present.putIfAbsent(annotationType, present);
+			}
+			return present;
+		}
+		return scanIsPresent(annotationType);
+	}
+
+	private boolean scanIsPresent(Object annotationType) {
 		return Boolean.TRUE.equals(scan(annotationType,
 				IsPresent.get(this.repeatableContainers, this.annotationFilter, false)));
 	}
@@ -152,9 +177,7 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		if (this.annotationFilter.matches(annotationType)) {
 			return MergedAnnotation.missing();
 		}
-		MergedAnnotation<A> result = scan(annotationType,
-				new MergedAnnotationFinder<>(annotationType, predicate, selector));
-		return (result != null ? result : MergedAnnotation.missing());
+		return getForType(annotationType, predicate, selector);
 	}
 
 	@Override
@@ -177,6 +200,32 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		if (this.annotationFilter.matches(annotationType)) {
 			return MergedAnnotation.missing();
 		}
+		return getForType(annotationType, predicate, selector);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> MergedAnnotation<A> getForType(Object annotationType,
+			@Nullable Predicate<? super MergedAnnotation<A>> predicate,
+			@Nullable MergedAnnotationSelector<A> selector) {
+
+		if (predicate == null && (selector == null || selector == MergedAnnotationSelectors.nearest())) {
+			Index index = getIndex();
+			if (index != null) {
+				MergedAnnotation<?> result = index.merged.get(annotationType);
+				if (result == null) {
+					result = find(annotationType, null, null);
+					index.merged.putIfAbsent(annotationType, result);
+				}
+				return (MergedAnnotation<A>) result;
+			}
+		}
+		return find(annotationType, predicate, selector);
+	}
+
+	private <A extends Annotation> MergedAnnotation<A> find(Object annotationType,
+			@Nullable Predicate<? super MergedAnnotation<A>> predicate,
+			@Nullable MergedAnnotationSelector<A> selector) {
+
 		MergedAnnotation<A> result = scan(annotationType,
 				new MergedAnnotationFinder<>(annotationType, predicate, selector));
 		return (result != null ? result : MergedAnnotation.missing());
@@ -238,6 +287,27 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		return aggregates;
 	}
 
+	/**
+	 * Return the shared {@link Index} for the annotated element and search
+	 * configuration, or {@code null} if results for this instance cannot be
+	 * shared since they depend on a custom filter or container arrangement.
+	 */
+	@Nullable
+	private Index getIndex() {
+		Index index = this.index;
+		if (index == null && this.element != null && this.searchStrategy != null &&
+				(this.element instanceof Class || this.element instanceof Method) &&
+				this.searchEnclosingClass == Search.never && this.annotationFilter == AnnotationFilter.PLAIN &&
+				(this.repeatableContainers == RepeatableContainers.standardRepeatables() ||
+						this.repeatableContainers == RepeatableContainers.none())) {
+			IndexKey key = new IndexKey(this.element, this.searchStrategy,
+					this.repeatableContainers == RepeatableContainers.standardRepeatables());
+			index = indexCache.computeIfAbsent(key, k -> new Index());
+			this.index = index;
+		}
+		return index;
+	}
+
 	@Nullable
 	private <C, R> R scan(C criteria, AnnotationsProcessor<C, R> processor) {
 		if (this.annotations != null) {
@@ -271,6 +341,14 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 		return new TypeMappedAnnotations(source, annotations, repeatableContainers, annotationFilter);
 	}
 
+	/**
+	 * Clear the shared index of {@code isPresent} and {@code get} results.
+	 * @since 6.2
+	 */
+	static void clearCache() {
+		indexCache.clear();
+	}
+
 	private static boolean isMappingForType(AnnotationTypeMapping mapping,
 			AnnotationFilter annotationFilter, @Nullable Object requiredType) {
 
@@ -280,6 +358,31 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 	}
 
 
+	/**
+	 * Key for the shared {@link Index}: the annotated class or method along
+	 * with the search strategy and whether standard repeatable containers
+	 * are considered. The annotation filter is always {@link AnnotationFilter#PLAIN}.
+	 */
+	private record IndexKey(AnnotatedElement element, SearchStrategy searchStrategy, boolean standardRepeatables) {
+	}
+
+
+	/**
+	 * Lazily populated index of {@code isPresent} and {@code get} results
+	 * for a specific annotated class or method, shared across all
+	 * {@link TypeMappedAnnotations} instances for the same {@link IndexKey}.
+	 * Entries are immutable once computed, with {@code get} results being
+	 * retained as {@link MergedAnnotation} instances (or the
+	 * {@linkplain MergedAnnotation#missing() missing} instance).
+	 */
+	private static final class Index {
+
+		final Map<Object, Boolean> present = new ConcurrentHashMap<>(8);
+
+		final Map<Object, MergedAnnotation<?>> merged = new ConcurrentHashMap<>(8);
+	}
+
+
 	/**
 	 * {@link AnnotationsProcessor} used to detect if an annotation is directly
 	 * present or meta-present.
@@ -72,11 +72,29 @@ public class GenericConversionService implements ConfigurableConversionService {
 	 */
 	private static final GenericConverter NO_MATCH = new NoOpConverter("NO_MATCH");
 
+	/**
+	 * Whether a type declares no type variables, neither itself nor for its
+	 * array component type, which could otherwise be resolved against an
+	 * owner type and make type descriptors for the same class differ.
+	 */
+	private static final ClassValue<Boolean> NON_GENERIC_TYPES = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			Class<?> componentType = type;
+			while (componentType.isArray()) {
+				componentType = componentType.getComponentType();
+			}
+			return (componentType.getTypeParameters().length == 0);
+		}
+	};
+
 
 	private final Converters converters = new Converters();
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private final Map<RawTypeCacheKey, GenericConverter> rawTypeConverterCache = new ConcurrentReferenceHashMap<>(64);
+
 
 	// ConverterRegistry implementation
 
@@ -224,8 +242,17 @@ public class GenericConversionService implements ConfigurableConversionService {
 	 */
 	@Nullable
 	protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
-		ConverterCacheKey key = new ConverterCacheKey(sourceType, targetType);
-		GenericConverter converter = this.converterCache.get(key);
+		RawTypeCacheKey rawKey = null;
+		ConverterCacheKey key = null;
+		GenericConverter converter;
+		if (isRawType(sourceType) && isRawType(targetType)) {
+			rawKey = new RawTypeCacheKey(sourceType.getType(), targetType.getType());
+			converter = this.rawTypeConverterCache.get(rawKey);
+		}
+		else {
+			key = new ConverterCacheKey(sourceType, targetType);
+			converter = this.converterCache.get(key);
+		}
 		if (converter != null) {
 			return (converter != NO_MATCH ? converter : null);
 		}
@@ -235,13 +262,14 @@ public class GenericConversionService implements ConfigurableConversionService {
 			converter = getDefaultConverter(sourceType, targetType);
 		}
 
-		if (converter != null) {
-			this.converterCache.put(key, converter);
-			return converter;
+		GenericConverter cacheEntry = (converter != null ? converter : NO_MATCH);
+		if (rawKey != null) {
+			this.rawTypeConverterCache.put(rawKey, cacheEntry);
 		}
-
-		this.converterCache.put(key, NO_MATCH);
-		return null;
+		else {
+			this.converterCache.put(key, cacheEntry);
+		}
+		return converter;
 	}
 
 	/**
@@ -277,6 +305,20 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.rawTypeConverterCache.clear();
+	}
+
+	/**
+	 * Determine whether the given type descriptor is fully described by its
+	 * class, i.e. it has neither annotations nor any generic type information,
+	 * and is therefore equal to {@code TypeDescriptor.valueOf(type)}. Converters
+	 * for such descriptors can be cached by class, avoiding the comparatively
+	 * expensive {@code TypeDescriptor} equality checks of the general cache.
+	 */
+	private static boolean isRawType(TypeDescriptor typeDescriptor) {
+		Class<?> type = typeDescriptor.getType();
+		return (typeDescriptor.getAnnotations().length == 0 &&
+				typeDescriptor.getResolvableType().resolve() == type && NON_GENERIC_TYPES.get(type));
 	}
 
 	@Nullable
@@ -460,6 +502,40 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Key for use with the converter cache for type descriptors that are fully
+	 * described by their class, compared by class identity.
+	 */
+	private static final class RawTypeCacheKey {
+
+		private final Class<?> sourceType;
+
+		private final Class<?> targetType;
+
+		public RawTypeCacheKey(Class<?> sourceType, Class<?> targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof RawTypeCacheKey that &&
+					this.sourceType == that.sourceType && this.targetType == that.targetType));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.sourceType.hashCode() * 29 + this.targetType.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "RawTypeCacheKey [sourceType = " + this.sourceType.getName() +
+					", targetType = " + this.targetType.getName() + "]";
+		}
+	}
+
+
 	/**
 	 * Manages all converters registered with the service.
 	 */
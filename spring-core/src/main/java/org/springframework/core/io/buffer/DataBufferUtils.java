@@ -30,6 +30,7 @@ import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -716,7 +717,7 @@ public abstract class DataBufferUtils {
 		return switch (length) {
 			case 1 -> (delimiter[0] == 10 ? SingleByteMatcher.NEWLINE_MATCHER : new SingleByteMatcher(delimiter));
 			case 2 -> new TwoByteMatcher(delimiter);
-			default -> new KnuthMorrisPrattMatcher(delimiter);
+			default -> new BoyerMooreHorspoolMatcher(delimiter);
 		};
 	}
 
@@ -971,6 +972,67 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Extension of {@link KnuthMorrisPrattMatcher} that uses the
+	 * Boyer-Moore-Horspool algorithm when matching against a whole
+	 * {@link DataBuffer}, skipping over up to the length of the delimiter
+	 * at a time, which pays off for longer delimiters such as multipart
+	 * boundaries. Partial matches across buffer boundaries, as well as
+	 * nested use in a {@link CompositeMatcher}, rely on the byte-at-a-time
+	 * Knuth-Morris-Pratt state machine.
+	 */
+	private static class BoyerMooreHorspoolMatcher extends KnuthMorrisPrattMatcher {
+
+		private final int[] skipTable = new int[256];
+
+		public BoyerMooreHorspoolMatcher(byte[] delimiter) {
+			super(delimiter);
+			int length = delimiter.length;
+			Arrays.fill(this.skipTable, length);
+			for (int i = 0; i < length - 1; i++) {
+				this.skipTable[delimiter[i] & 0xFF] = length - 1 - i;
+			}
+		}
+
+		@Override
+		public int match(DataBuffer dataBuffer) {
+			byte[] delimiter = delimiter();
+			int last = delimiter.length - 1;
+			int pos = dataBuffer.readPosition();
+			int end = dataBuffer.writePosition();
+
+			// continue a partial match from the previous buffer, one byte at a time
+			while (getMatches() > 0 && pos < end) {
+				if (match(dataBuffer.getByte(pos))) {
+					reset();
+					return pos;
+				}
+				pos++;
+			}
+
+			// no partial match: skip through the buffer, comparing from the end of the delimiter
+			int i = pos + last;
+			while (i < end) {
+				int j = last;
+				while (j >= 0 && dataBuffer.getByte(i - last + j) == delimiter[j]) {
+					j--;
+				}
+				if (j < 0) {
+					reset();
+					return i;
+				}
+				i += this.skipTable[dataBuffer.getByte(i) & 0xFF];
+			}
+
+			// record a partial match in the remaining bytes, for the next buffer
+			for (int k = i - last; k < end; k++) {
+				match(dataBuffer.getByte(k));
+			}
+			return -1;
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.buffering;
+
+import java.lang.management.ManagementFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Access to per-thread allocation counters through the HotSpot-specific
+ * {@code com.sun.management.ThreadMXBean}, if available.
+ *
+ * @since 6.2
+ */
+abstract class AllocationTracking {
+
+	private static final boolean threadMXBeanPresent = ClassUtils.isPresent(
+			"com.sun.management.ThreadMXBean", AllocationTracking.class.getClassLoader());
+
+
+	/**
+	 * Return whether per-thread allocation tracking is supported and enabled
+	 * in the current JVM.
+	 */
+	static boolean isSupported() {
+		return (threadMXBeanPresent && ThreadMXBeanHolder.threadMXBean != null);
+	}
+
+	/**
+	 * Return the number of bytes allocated by the current thread so far,
+	 * or {@code -1} if not supported.
+	 */
+	static long currentThreadAllocatedBytes() {
+		return (isSupported() ? ThreadMXBeanHolder.currentThreadAllocatedBytes() : -1);
+	}
+
+
+	/**
+	 * Inner class to avoid a hard dependency on the {@code jdk.management} module.
+	 */
+	private static class ThreadMXBeanHolder {
+
+		@Nullable
+		static final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+		@Nullable
+		private static com.sun.management.ThreadMXBean getThreadMXBean() {
+			try {
+				if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean &&
+						threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+					return threadMXBean;
+				}
+			}
+			catch (Throwable ex) {
+				// Management not available - no allocation tracking
+			}
+			return null;
+		}
+
+		static long currentThreadAllocatedBytes() {
+			com.sun.management.ThreadMXBean threadMXBean = ThreadMXBeanHolder.threadMXBean;
+			return (threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : -1);
+		}
+	}
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.buffering;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StartupStep} implementation recorded by a {@link BufferingApplicationStartup}.
+ *
+ * <p>Once {@linkplain #end() ended}, a step exposes its timings with nanosecond
+ * precision, both including and excluding the time spent in child steps on the
+ * same thread, as well as the number of bytes allocated by the thread while the
+ * step was running, if supported by the JVM.
+ *
+ * @since 6.2
+ * @see BufferingApplicationStartup#getBufferedSteps()
+ */
+public final class BufferedStartupStep implements StartupStep {
+
+	private final long id;
+
+	private final String name;
+
+	@Nullable
+	private final BufferedStartupStep parent;
+
+	private final Thread thread;
+
+	private final long startTime;
+
+	private final long startAllocatedBytes;
+
+	private final BufferedTags tags = new BufferedTags();
+
+	private final Consumer<BufferedStartupStep> recorder;
+
+	private volatile long endTime;
+
+	private volatile long allocatedBytes = -1;
+
+	private volatile long childrenDuration;
+
+	private volatile long nestedBeansDuration;
+
+	private volatile boolean ended;
+
+
+	BufferedStartupStep(long id, String name, @Nullable BufferedStartupStep parent,
+			long startAllocatedBytes, Consumer<BufferedStartupStep> recorder) {
+
+		this.id = id;
+		this.name = name;
+		this.parent = parent;
+		this.thread = Thread.currentThread();
+		this.startAllocatedBytes = startAllocatedBytes;
+		this.recorder = recorder;
+		this.startTime = System.nanoTime();
+	}
+
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public long getId() {
+		return this.id;
+	}
+
+	@Override
+	@Nullable
+	public Long getParentId() {
+		return (this.parent != null ? this.parent.id : null);
+	}
+
+	@Nullable
+	BufferedStartupStep getParent() {
+		return this.parent;
+	}
+
+	@Override
+	public StartupStep tag(String key, String value) {
+		Assert.state(!this.ended, "StartupStep has already ended");
+		this.tags.add(key, value);
+		return this;
+	}
+
+	@Override
+	public StartupStep tag(String key, Supplier<String> value) {
+		return tag(key, value.get());
+	}
+
+	@Override
+	public Tags getTags() {
+		return this.tags;
+	}
+
+	/**
+	 * Return the value of the tag with the given key, if any.
+	 * @param key the tag key
+	 * @return the tag value, or {@code null} if not tagged with the given key
+	 */
+	@Nullable
+	public String getTag(String key) {
+		for (Tag tag : this.tags) {
+			if (tag.getKey().equals(key)) {
+				return tag.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the name of the thread that started this step.
+	 */
+	public String getThreadName() {
+		return this.thread.getName();
+	}
+
+	/**
+	 * Return the {@link System#nanoTime()} value at which this step started.
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * Return the duration of this step, including the time spent in child steps.
+	 */
+	public Duration getDuration() {
+		return Duration.ofNanos(getDurationNanos());
+	}
+
+	/**
+	 * Return the duration of this step, excluding the time spent in child steps
+	 * that were started and ended on the same thread.
+	 */
+	public Duration getSelfDuration() {
+		return Duration.ofNanos(getSelfDurationNanos());
+	}
+
+	/**
+	 * Return the number of bytes allocated by the thread while running this
+	 * step, including any child steps on the same thread, or {@code -1} if
+	 * allocation tracking is not enabled or not supported, or if the step
+	 * was ended on a different thread than it was started on.
+	 */
+	public long getAllocatedBytes() {
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * Return whether this step has {@linkplain #end() ended}.
+	 */
+	public boolean isEnded() {
+		return this.ended;
+	}
+
+	long getDurationNanos() {
+		return (this.ended ? this.endTime - this.startTime : 0);
+	}
+
+	long getSelfDurationNanos() {
+		return Math.max(0, getDurationNanos() - this.childrenDuration);
+	}
+
+	/**
+	 * Return the duration of this step, excluding the time spent in the
+	 * instantiation of other beans nested within it on the same thread,
+	 * but including all other child steps.
+	 */
+	long getBeanDurationNanos() {
+		return Math.max(0, getDurationNanos() - this.nestedBeansDuration);
+	}
+
+	void addNestedBeanDuration(long duration) {
+		this.nestedBeansDuration += duration;
+	}
+
+	boolean isSameThread(BufferedStartupStep other) {
+		return (this.thread == other.thread);
+	}
+
+	@Override
+	public void end() {
+		Assert.state(!this.ended, "StartupStep has already ended");
+		this.endTime = System.nanoTime();
+		boolean sameThread = (Thread.currentThread() == this.thread);
+		if (sameThread && this.startAllocatedBytes >= 0) {
+			long endAllocatedBytes = AllocationTracking.currentThreadAllocatedBytes();
+			if (endAllocatedBytes >= 0) {
+				this.allocatedBytes = endAllocatedBytes - this.startAllocatedBytes;
+			}
+		}
+		this.ended = true;
+		BufferedStartupStep parent = this.parent;
+		if (parent != null && sameThread && parent.thread == this.thread) {
+			parent.childrenDuration += getDurationNanos();
+		}
+		this.recorder.accept(this);
+	}
+
+	@Override
+	public String toString() {
+		return this.name + " (" + this.id + ")";
+	}
+
+
+	private static class BufferedTags implements Tags {
+
+		private final List<Tag> tags = Collections.synchronizedList(new ArrayList<>(2));
+
+		void add(String key, String value) {
+			this.tags.add(new BufferedTag(key, value));
+		}
+
+		@Override
+		public Iterator<Tag> iterator() {
+			Tag[] tags = this.tags.toArray(new Tag[0]);
+			return List.of(tags).iterator();
+		}
+	}
+
+
+	private record BufferedTag(String key, String value) implements Tag {
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		public String getValue() {
+			return this.value;
+		}
+	}
+
+}
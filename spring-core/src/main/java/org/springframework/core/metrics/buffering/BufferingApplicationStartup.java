@@ -0,0 +1,260 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.buffering;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationStartup} implementation that buffers {@link StartupStep steps}
+ * in memory, for building a report of the application startup once it is complete.
+ *
+ * <p>Steps are organized in a tree per thread: the parent of a step is the most
+ * recently started step of the same thread that has not ended yet. Each ended
+ * step records its duration in nanoseconds and, where supported by the JVM, the
+ * number of bytes allocated by its thread while it was running.
+ *
+ * <p>The buffer holds a given maximum number of steps; any further steps are not
+ * recorded. Based on the buffered steps, this class can
+ * {@linkplain #writeFlameGraph(Writer) export a flame graph} in the "collapsed
+ * stacks" format understood by common flame graph tools, as well as
+ * {@linkplain #writeSlowestBeans(Writer, int) report the slowest beans} in terms
+ * of the time spent creating them, excluding their dependencies.
+ *
+ * <pre class="code">
+ * BufferingApplicationStartup startup = new BufferingApplicationStartup(10000);
+ * AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+ * context.setApplicationStartup(startup);
+ * context.register(AppConfig.class);
+ * context.refresh();
+ * startup.writeSlowestBeans(new PrintWriter(System.out), 20);
+ * </pre>
+ *
+ * @since 6.2
+ * @see BufferedStartupStep
+ */
+public class BufferingApplicationStartup implements ApplicationStartup {
+
+	/**
+	 * The name of the step recorded by bean factories for each bean instantiation.
+	 */
+	public static final String BEAN_INSTANTIATION_STEP_NAME = "spring.beans.instantiate";
+
+	private static final String[] FRAME_DETAIL_TAGS = {"beanName", "className"};
+
+
+	private final int capacity;
+
+	private final AtomicLong idSequence = new AtomicLong();
+
+	private final AtomicInteger stepCount = new AtomicInteger();
+
+	private final Queue<BufferedStartupStep> bufferedSteps = new ConcurrentLinkedQueue<>();
+
+	private final ThreadLocal<BufferedStartupStep> currentStep = new ThreadLocal<>();
+
+	private volatile boolean trackAllocations = AllocationTracking.isSupported();
+
+
+	/**
+	 * Create a new buffered {@link ApplicationStartup} with a limited capacity.
+	 * @param capacity the maximum number of steps to record
+	 */
+	public BufferingApplicationStartup(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.capacity = capacity;
+	}
+
+
+	/**
+	 * Specify whether to record the number of bytes allocated by each step.
+	 * <p>Default is "true" if the JVM supports per-thread allocation tracking
+	 * through {@code com.sun.management.ThreadMXBean}. Switching this on in a
+	 * JVM without such support has no effect.
+	 */
+	public void setTrackAllocations(boolean trackAllocations) {
+		this.trackAllocations = trackAllocations;
+	}
+
+	@Override
+	public StartupStep start(String name) {
+		if (this.stepCount.incrementAndGet() > this.capacity) {
+			return ApplicationStartup.DEFAULT.start(name);
+		}
+		BufferedStartupStep parent = this.currentStep.get();
+		while (parent != null && parent.isEnded()) {
+			// Ended on a different thread
+			parent = parent.getParent();
+		}
+		long allocatedBytes = (this.trackAllocations ? AllocationTracking.currentThreadAllocatedBytes() : -1);
+		BufferedStartupStep step = new BufferedStartupStep(
+				this.idSequence.incrementAndGet(), name, parent, allocatedBytes, this::record);
+		this.currentStep.set(step);
+		return step;
+	}
+
+	private void record(BufferedStartupStep step) {
+		if (this.currentStep.get() == step) {
+			BufferedStartupStep parent = step.getParent();
+			if (parent != null) {
+				this.currentStep.set(parent);
+			}
+			else {
+				this.currentStep.remove();
+			}
+			if (BEAN_INSTANTIATION_STEP_NAME.equals(step.getName())) {
+				recordNestedBean(step);
+			}
+		}
+		this.bufferedSteps.add(step);
+	}
+
+	private void recordNestedBean(BufferedStartupStep step) {
+		// Charge the enclosing bean for its phases, e.g. its population,
+		// but not for the instantiation of the beans it depends on
+		BufferedStartupStep ancestor = step.getParent();
+		while (ancestor != null && ancestor.isSameThread(step)) {
+			if (BEAN_INSTANTIATION_STEP_NAME.equals(ancestor.getName())) {
+				ancestor.addNestedBeanDuration(step.getDurationNanos());
+				return;
+			}
+			ancestor = ancestor.getParent();
+		}
+	}
+
+	/**
+	 * Return the ended steps recorded so far, in the order of their start.
+	 */
+	public List<BufferedStartupStep> getBufferedSteps() {
+		List<BufferedStartupStep> steps = new ArrayList<>(this.bufferedSteps);
+		steps.sort(Comparator.comparingLong(BufferedStartupStep::getId));
+		return steps;
+	}
+
+	/**
+	 * Return the bean instantiation steps that took the longest, excluding the
+	 * instantiation of other beans they depend on. The creation, population
+	 * and initialization phases of a bean, recorded as child steps, count
+	 * towards that bean.
+	 * @param limit the maximum number of steps to return
+	 * @return the slowest bean instantiation steps, slowest first
+	 * @see #BEAN_INSTANTIATION_STEP_NAME
+	 */
+	public List<BufferedStartupStep> getSlowestBeans(int limit) {
+		return this.bufferedSteps.stream()
+				.filter(step -> BEAN_INSTANTIATION_STEP_NAME.equals(step.getName()))
+				.sorted(Comparator.comparingLong(BufferedStartupStep::getBeanDurationNanos).reversed()
+						.thenComparingLong(BufferedStartupStep::getId))
+				.limit(limit)
+				.toList();
+	}
+
+	/**
+	 * Write a report of the {@linkplain #getSlowestBeans(int) slowest beans},
+	 * one bean per line with its duration excluding dependencies, its total
+	 * duration including dependencies, and allocated bytes if available.
+	 * @param writer the writer to write the report to
+	 * @param limit the maximum number of beans to report
+	 * @throws IOException in case of I/O errors
+	 */
+	public void writeSlowestBeans(Writer writer, int limit) throws IOException {
+		writer.write(String.format(Locale.ROOT, "%12s %12s %12s  %s%n", "own (ms)", "total (ms)", "alloc (KB)", "bean"));
+		for (BufferedStartupStep step : getSlowestBeans(limit)) {
+			long allocatedBytes = step.getAllocatedBytes();
+			String beanType = step.getTag("beanType");
+			writer.write(String.format(Locale.ROOT, "%12.3f %12.3f %12s  %s%s%n",
+					step.getBeanDurationNanos() / 1_000_000d, step.getDurationNanos() / 1_000_000d,
+					(allocatedBytes >= 0 ? String.valueOf(allocatedBytes / 1024) : "-"),
+					step.getTag("beanName"), (beanType != null ? " [" + beanType + "]" : "")));
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Write the buffered steps as a flame graph in the "collapsed stacks" format:
+	 * one line per distinct stack of step names, root first and separated by
+	 * {@code ';'}, followed by a space and the accumulated self duration of the
+	 * top-most step in nanoseconds. Steps for specific beans or classes have the
+	 * bean name or class name appended to the step name.
+	 * <p>The output can be rendered with common flame graph tools, e.g.
+	 * {@code flamegraph.pl} or speedscope.
+	 * @param writer the writer to write the flame graph to
+	 * @throws IOException in case of I/O errors
+	 */
+	public void writeFlameGraph(Writer writer) throws IOException {
+		Map<String, Long> stacks = new LinkedHashMap<>();
+		Map<BufferedStartupStep, String> stackCache = new HashMap<>();
+		for (BufferedStartupStep step : getBufferedSteps()) {
+			stacks.merge(getStack(step, stackCache), step.getSelfDurationNanos(), Long::sum);
+		}
+		for (Map.Entry<String, Long> entry : stacks.entrySet()) {
+			writer.write(entry.getKey());
+			writer.write(' ');
+			writer.write(String.valueOf(entry.getValue()));
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	private String getStack(BufferedStartupStep step, Map<BufferedStartupStep, String> stackCache) {
+		String stack = stackCache.get(step);
+		if (stack == null) {
+			BufferedStartupStep parent = step.getParent();
+			String frame = getFrame(step);
+			stack = (parent != null ? getStack(parent, stackCache) + ';' + frame : frame);
+			stackCache.put(step, stack);
+		}
+		return stack;
+	}
+
+	private static String getFrame(BufferedStartupStep step) {
+		String frame = step.getName();
+		String detail = getFrameDetail(step);
+		if (detail != null) {
+			frame = frame + '[' + detail + ']';
+		}
+		return frame.replace(';', ',').replace('\n', ' ');
+	}
+
+	@Nullable
+	private static String getFrameDetail(BufferedStartupStep step) {
+		for (String key : FRAME_DETAIL_TAGS) {
+			String value = step.getTag(key);
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+}
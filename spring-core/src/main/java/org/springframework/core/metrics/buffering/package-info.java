@@ -0,0 +1,9 @@
+/**
+ * Support package for buffering startup metrics in memory and reporting on them.
+ */
+@NonNullApi
+@NonNullFields
+package org.springframework.core.metrics.buffering;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
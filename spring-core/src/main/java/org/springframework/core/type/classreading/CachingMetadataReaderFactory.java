@@ -17,11 +17,14 @@
 package org.springframework.core.type.classreading;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.lang.Nullable;
@@ -40,10 +43,24 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	/** Default maximum number of entries for a local MetadataReader cache: 256. */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
+	/**
+	 * System property that specifies a directory for a persistent cache of class
+	 * metadata, as with {@link #setPersistentCacheDirectory}, for all factory
+	 * instances that are not explicitly configured otherwise.
+	 * @since 6.2
+	 * @see #setPersistentCacheDirectory
+	 */
+	public static final String PERSISTENT_CACHE_DIRECTORY_PROPERTY_NAME = "spring.classreading.cache.dir";
+
+
 	/** MetadataReader cache: either local or shared at the ResourceLoader level. */
 	@Nullable
 	private Map<Resource, MetadataReader> metadataReaderCache;
 
+	/** Persistent cache for class metadata across JVM runs, if any. */
+	@Nullable
+	private PersistentMetadataCache persistentCache = getDefaultPersistentCache();
+
 
 	/**
 	 * Create a new CachingMetadataReaderFactory for the default class loader,
@@ -100,6 +117,27 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		}
 	}
 
+	/**
+	 * Specify a directory for a persistent cache of class metadata, avoiding
+	 * the reading and parsing of class files that have not changed since a
+	 * previous run, e.g. on application restarts.
+	 * <p>Cached metadata is validated against the last-modified timestamp and
+	 * the content length of the class file, or of the jar file that contains
+	 * it. Metadata is written to the cache directory on
+	 * {@link #savePersistentCache()}, as triggered at the end of configuration
+	 * class processing in an application context.
+	 * <p>Factories with the same {@link DefaultResourceLoader}, e.g. the ones
+	 * of an application context, share the in-memory state of the persistent
+	 * cache for a given directory. Otherwise, the state is local to this factory.
+	 * <p>Default is none, unless the {@value #PERSISTENT_CACHE_DIRECTORY_PROPERTY_NAME}
+	 * system property is set.
+	 * @param directory the cache directory, or {@code null} for no persistent cache
+	 * @since 6.2
+	 */
+	public void setPersistentCacheDirectory(@Nullable Path directory) {
+		this.persistentCache = (directory != null ? getPersistentCache(directory) : null);
+	}
+
 	/**
 	 * Return the maximum number of entries for the MetadataReader cache.
 	 */
@@ -119,23 +157,53 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			// No synchronization necessary...
 			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 			if (metadataReader == null) {
-				metadataReader = super.getMetadataReader(resource);
+				metadataReader = createMetadataReader(resource);
 				this.metadataReaderCache.put(resource, metadataReader);
 			}
 			return metadataReader;
 		}
 		else if (this.metadataReaderCache != null) {
-			synchronized (this.metadataReaderCache) {
-				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
-				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
-					this.metadataReaderCache.put(resource, metadataReader);
+			Map<Resource, MetadataReader> cache = this.metadataReaderCache;
+			MetadataReader metadataReader;
+			synchronized (cache) {
+				metadataReader = cache.get(resource);
+			}
+			if (metadataReader == null) {
+				// Read outside of the lock, allowing for concurrent reading of class files
+				metadataReader = createMetadataReader(resource);
+				synchronized (cache) {
+					MetadataReader existing = cache.putIfAbsent(resource, metadataReader);
+					if (existing != null) {
+						metadataReader = existing;
+					}
 				}
-				return metadataReader;
 			}
+			return metadataReader;
 		}
 		else {
-			return super.getMetadataReader(resource);
+			return createMetadataReader(resource);
+		}
+	}
+
+	private MetadataReader createMetadataReader(Resource resource) throws IOException {
+		PersistentMetadataCache persistentCache = this.persistentCache;
+		if (persistentCache != null) {
+			return persistentCache.getMetadataReader(resource, getResourceLoader().getClassLoader());
+		}
+		return super.getMetadataReader(resource);
+	}
+
+	/**
+	 * Write the class metadata read since the last save to the
+	 * {@linkplain #setPersistentCacheDirectory persistent cache directory},
+	 * if configured, merging it with the metadata stored there, e.g. by other
+	 * application contexts, and dropping metadata of classes that do not
+	 * exist anymore.
+	 * @since 6.2
+	 */
+	public void savePersistentCache() {
+		if (this.persistentCache != null) {
+			this.persistentCache.save();
 		}
 	}
 
@@ -155,6 +223,22 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	}
 
 
+	@Nullable
+	private PersistentMetadataCache getDefaultPersistentCache() {
+		String directory = SpringProperties.getProperty(PERSISTENT_CACHE_DIRECTORY_PROPERTY_NAME);
+		return (directory != null ? getPersistentCache(Path.of(directory)) : null);
+	}
+
+	private PersistentMetadataCache getPersistentCache(Path directory) {
+		Path normalizedDirectory = directory.toAbsolutePath().normalize();
+		if (getResourceLoader() instanceof DefaultResourceLoader defaultResourceLoader) {
+			return defaultResourceLoader.getResourceCache(PersistentMetadataCache.class).computeIfAbsent(
+					new FileSystemResource(normalizedDirectory), key -> new PersistentMetadataCache(normalizedDirectory));
+		}
+		return new PersistentMetadataCache(normalizedDirectory);
+	}
+
+
 	@SuppressWarnings("serial")
 	private static class LocalResourceCache extends LinkedHashMap<Resource, MetadataReader> {
 
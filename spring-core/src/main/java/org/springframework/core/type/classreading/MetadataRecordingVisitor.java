@@ -0,0 +1,507 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+
+/**
+ * ASM class visitor that records the events relevant for class metadata in a
+ * compact binary form, while delegating to another class visitor.
+ *
+ * <p>A recording can be {@linkplain #replay replayed} against a new class
+ * visitor later on, which then receives the same events as if it had been
+ * used with an ASM {@link org.springframework.asm.ClassReader ClassReader},
+ * without reading the original class file again. Only the events which are
+ * needed by {@link SimpleAnnotationMetadataReadingVisitor} are recorded.
+ *
+ * @since 6.2
+ * @see PersistentMetadataCache
+ */
+final class MetadataRecordingVisitor extends ClassVisitor {
+
+	private static final byte END = 0;
+
+	// Class events
+
+	private static final byte CLASS = 1;
+
+	private static final byte OUTER_CLASS = 2;
+
+	private static final byte INNER_CLASS = 3;
+
+	private static final byte ANNOTATION = 4;
+
+	private static final byte METHOD = 5;
+
+	// Annotation events
+
+	private static final byte VALUE = 1;
+
+	private static final byte ENUM = 2;
+
+	private static final byte NESTED_ANNOTATION = 3;
+
+	private static final byte ARRAY = 4;
+
+	// Annotation value types
+
+	private static final byte TYPE_BYTE = 1;
+
+	private static final byte TYPE_BOOLEAN = 2;
+
+	private static final byte TYPE_CHAR = 3;
+
+	private static final byte TYPE_SHORT = 4;
+
+	private static final byte TYPE_INT = 5;
+
+	private static final byte TYPE_LONG = 6;
+
+	private static final byte TYPE_FLOAT = 7;
+
+	private static final byte TYPE_DOUBLE = 8;
+
+	private static final byte TYPE_STRING = 9;
+
+	private static final byte TYPE_CLASS = 10;
+
+	private static final byte TYPE_ARRAY = 11;
+
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+	private final DataOutputStream out = new DataOutputStream(this.bytes);
+
+
+	MetadataRecordingVisitor(ClassVisitor delegate) {
+		super(SpringAsmInfo.ASM_VERSION, delegate);
+	}
+
+
+	@Override
+	public void visit(int version, int access, String name, @Nullable String signature,
+			@Nullable String superName, @Nullable String[] interfaces) {
+
+		record(() -> {
+			this.out.writeByte(CLASS);
+			this.out.writeInt(access);
+			writeString(this.out, name);
+			writeString(this.out, superName);
+			String[] interfaceNames = (interfaces != null ? interfaces : new String[0]);
+			this.out.writeInt(interfaceNames.length);
+			for (String interfaceName : interfaceNames) {
+				writeString(this.out, interfaceName);
+			}
+		});
+		super.visit(version, access, name, signature, superName, interfaces);
+	}
+
+	@Override
+	public void visitOuterClass(String owner, @Nullable String name, @Nullable String descriptor) {
+		record(() -> {
+			this.out.writeByte(OUTER_CLASS);
+			writeString(this.out, owner);
+			writeString(this.out, name);
+			writeString(this.out, descriptor);
+		});
+		super.visitOuterClass(owner, name, descriptor);
+	}
+
+	@Override
+	public void visitInnerClass(String name, @Nullable String outerName, @Nullable String innerName, int access) {
+		record(() -> {
+			this.out.writeByte(INNER_CLASS);
+			writeString(this.out, name);
+			writeString(this.out, outerName);
+			writeString(this.out, innerName);
+			this.out.writeInt(access);
+		});
+		super.visitInnerClass(name, outerName, innerName, access);
+	}
+
+	@Override
+	@Nullable
+	public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+		AnnotationVisitor delegate = super.visitAnnotation(descriptor, visible);
+		if (!visible) {
+			// Invisible annotations are never exposed as metadata
+			return delegate;
+		}
+		record(() -> {
+			this.out.writeByte(ANNOTATION);
+			writeString(this.out, descriptor);
+		});
+		// Record the attributes even if the delegate is not interested in the annotation,
+		// since the annotation type might be resolvable when the recording gets replayed
+		return new RecordingAnnotationVisitor(delegate);
+	}
+
+	@Override
+	@Nullable
+	public MethodVisitor visitMethod(int access, String name, String descriptor,
+			@Nullable String signature, @Nullable String[] exceptions) {
+
+		MethodVisitor delegate = super.visitMethod(access, name, descriptor, signature, exceptions);
+		if (delegate == null) {
+			// Skipped based on access flags and name, i.e. the same way on replay
+			return null;
+		}
+		record(() -> {
+			this.out.writeByte(METHOD);
+			this.out.writeInt(access);
+			writeString(this.out, name);
+			writeString(this.out, descriptor);
+		});
+		return new RecordingMethodVisitor(delegate);
+	}
+
+	@Override
+	public void visitEnd() {
+		record(() -> this.out.writeByte(END));
+		super.visitEnd();
+	}
+
+	/**
+	 * Return the recorded events.
+	 */
+	byte[] toByteArray() {
+		return this.bytes.toByteArray();
+	}
+
+	private void record(RecordingAction action) {
+		try {
+			action.record();
+		}
+		catch (IOException ex) {
+			// Cannot happen with a ByteArrayOutputStream
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+
+	/**
+	 * Replay the given recorded events against the given class visitor.
+	 * @param recording the recorded events, as obtained from {@link #toByteArray()}
+	 * @param visitor the class visitor to call
+	 * @throws IOException if the recording is malformed
+	 */
+	static void replay(byte[] recording, ClassVisitor visitor) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(recording));
+		byte event;
+		while ((event = in.readByte()) != END) {
+			switch (event) {
+				case CLASS -> {
+					int access = in.readInt();
+					String name = readString(in);
+					String superName = readString(in);
+					String[] interfaces = new String[in.readInt()];
+					for (int i = 0; i < interfaces.length; i++) {
+						interfaces[i] = readString(in);
+					}
+					visitor.visit(0, access, name, null, superName, interfaces);
+				}
+				case OUTER_CLASS -> visitor.visitOuterClass(readString(in), readString(in), readString(in));
+				case INNER_CLASS -> visitor.visitInnerClass(readString(in), readString(in), readString(in), in.readInt());
+				case ANNOTATION -> replayAnnotation(in, visitor.visitAnnotation(readString(in), true));
+				case METHOD -> {
+					MethodVisitor methodVisitor = visitor.visitMethod(
+							in.readInt(), readString(in), readString(in), null, null);
+					while ((event = in.readByte()) != END) {
+						if (event != ANNOTATION) {
+							throw new IOException("Unexpected method event " + event);
+						}
+						String descriptor = readString(in);
+						replayAnnotation(in, (methodVisitor != null ?
+								methodVisitor.visitAnnotation(descriptor, true) : null));
+					}
+					if (methodVisitor != null) {
+						methodVisitor.visitEnd();
+					}
+				}
+				default -> throw new IOException("Unexpected class event " + event);
+			}
+		}
+		visitor.visitEnd();
+	}
+
+	private static void replayAnnotation(DataInputStream in, @Nullable AnnotationVisitor visitor) throws IOException {
+		byte event;
+		while ((event = in.readByte()) != END) {
+			String name = readString(in);
+			switch (event) {
+				case VALUE -> {
+					Object value = readValue(in);
+					if (visitor != null) {
+						visitor.visit(name, value);
+					}
+				}
+				case ENUM -> {
+					String descriptor = readString(in);
+					String value = readString(in);
+					if (visitor != null) {
+						visitor.visitEnum(name, descriptor, value);
+					}
+				}
+				case NESTED_ANNOTATION -> {
+					String descriptor = readString(in);
+					replayAnnotation(in, (visitor != null ? visitor.visitAnnotation(name, descriptor) : null));
+				}
+				case ARRAY -> replayAnnotation(in, (visitor != null ? visitor.visitArray(name) : null));
+				default -> throw new IOException("Unexpected annotation event " + event);
+			}
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof String string) {
+			out.writeByte(TYPE_STRING);
+			writeString(out, string);
+		}
+		else if (value instanceof Type type) {
+			out.writeByte(TYPE_CLASS);
+			writeString(out, type.getDescriptor());
+		}
+		else if (value instanceof Integer number) {
+			out.writeByte(TYPE_INT);
+			out.writeInt(number);
+		}
+		else if (value instanceof Long number) {
+			out.writeByte(TYPE_LONG);
+			out.writeLong(number);
+		}
+		else if (value instanceof Boolean bool) {
+			out.writeByte(TYPE_BOOLEAN);
+			out.writeBoolean(bool);
+		}
+		else if (value instanceof Byte number) {
+			out.writeByte(TYPE_BYTE);
+			out.writeByte(number);
+		}
+		else if (value instanceof Character character) {
+			out.writeByte(TYPE_CHAR);
+			out.writeChar(character);
+		}
+		else if (value instanceof Short number) {
+			out.writeByte(TYPE_SHORT);
+			out.writeShort(number);
+		}
+		else if (value instanceof Float number) {
+			out.writeByte(TYPE_FLOAT);
+			out.writeFloat(number);
+		}
+		else if (value instanceof Double number) {
+			out.writeByte(TYPE_DOUBLE);
+			out.writeDouble(number);
+		}
+		else if (value.getClass().isArray()) {
+			// Primitive array, as reported by ASM for primitive array attribute values
+			out.writeByte(TYPE_ARRAY);
+			int length = Array.getLength(value);
+			writeString(out, value.getClass().getComponentType().getName());
+			out.writeInt(length);
+			for (int i = 0; i < length; i++) {
+				writeValue(out, Array.get(value, i));
+			}
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported annotation value type: " + value.getClass().getName());
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		return switch (type) {
+			case TYPE_STRING -> readRequiredString(in);
+			case TYPE_CLASS -> Type.getType(readRequiredString(in));
+			case TYPE_INT -> in.readInt();
+			case TYPE_LONG -> in.readLong();
+			case TYPE_BOOLEAN -> in.readBoolean();
+			case TYPE_BYTE -> in.readByte();
+			case TYPE_CHAR -> in.readChar();
+			case TYPE_SHORT -> in.readShort();
+			case TYPE_FLOAT -> in.readFloat();
+			case TYPE_DOUBLE -> in.readDouble();
+			case TYPE_ARRAY -> {
+				Class<?> componentType = primitiveType(readRequiredString(in));
+				int length = in.readInt();
+				Object array = Array.newInstance(componentType, length);
+				for (int i = 0; i < length; i++) {
+					Array.set(array, i, readValue(in));
+				}
+				yield array;
+			}
+			default -> throw new IOException("Unexpected annotation value type " + type);
+		};
+	}
+
+	private static Class<?> primitiveType(String name) throws IOException {
+		return switch (name) {
+			case "byte" -> byte.class;
+			case "boolean" -> boolean.class;
+			case "char" -> char.class;
+			case "short" -> short.class;
+			case "int" -> int.class;
+			case "long" -> long.class;
+			case "float" -> float.class;
+			case "double" -> double.class;
+			default -> throw new IOException("Unexpected array component type " + name);
+		};
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		}
+		else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	@Nullable
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String readRequiredString(DataInputStream in) throws IOException {
+		String value = readString(in);
+		if (value == null) {
+			throw new IOException("Unexpected null value");
+		}
+		return value;
+	}
+
+
+	@FunctionalInterface
+	private interface RecordingAction {
+
+		void record() throws IOException;
+	}
+
+
+	/**
+	 * Method visitor recording the annotations of a method.
+	 */
+	private class RecordingMethodVisitor extends MethodVisitor {
+
+		RecordingMethodVisitor(MethodVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			AnnotationVisitor delegate = super.visitAnnotation(descriptor, visible);
+			if (!visible) {
+				return delegate;
+			}
+			record(() -> {
+				out.writeByte(ANNOTATION);
+				writeString(out, descriptor);
+			});
+			return new RecordingAnnotationVisitor(delegate);
+		}
+
+		@Override
+		public void visitEnd() {
+			record(() -> out.writeByte(END));
+			super.visitEnd();
+		}
+	}
+
+
+	/**
+	 * Annotation visitor recording all attribute values of an annotation.
+	 */
+	private class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		RecordingAnnotationVisitor(@Nullable AnnotationVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+		}
+
+		@Override
+		public void visit(@Nullable String name, Object value) {
+			record(() -> {
+				out.writeByte(VALUE);
+				writeString(out, name);
+				writeValue(out, value);
+			});
+			super.visit(name, value);
+		}
+
+		@Override
+		public void visitEnum(@Nullable String name, String descriptor, String value) {
+			record(() -> {
+				out.writeByte(ENUM);
+				writeString(out, name);
+				writeString(out, descriptor);
+				writeString(out, value);
+			});
+			super.visitEnum(name, descriptor, value);
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(@Nullable String name, String descriptor) {
+			record(() -> {
+				out.writeByte(NESTED_ANNOTATION);
+				writeString(out, name);
+				writeString(out, descriptor);
+			});
+			return new RecordingAnnotationVisitor(super.visitAnnotation(name, descriptor));
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(@Nullable String name) {
+			record(() -> {
+				out.writeByte(ARRAY);
+				writeString(out, name);
+			});
+			return new RecordingAnnotationVisitor(super.visitArray(name));
+		}
+
+		@Override
+		public void visitEnd() {
+			record(() -> out.writeByte(END));
+			super.visitEnd();
+		}
+	}
+
+}
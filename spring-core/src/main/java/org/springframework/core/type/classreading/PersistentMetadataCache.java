@@ -0,0 +1,340 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Persistent cache for class metadata, stored in a single binary file within
+ * a given directory.
+ *
+ * <p>For each class file, the cache holds a {@link MetadataRecordingVisitor
+ * recording} of the class metadata, keyed by the URL of the class file and
+ * validated against the last-modified timestamp and the length of the class
+ * file or, for a class file within a jar, of the jar file. The timestamp of a
+ * jar file is determined once per cache instance, so that validating its
+ * entries does not require a connection per class, and all entries of a jar
+ * are invalidated once the jar gets replaced. On a cache hit, the metadata is
+ * rebuilt from the recording without reading and parsing the class file.
+ *
+ * <p>The cache file is loaded on first access. Newly read metadata is kept in
+ * memory until {@link #save()} is called, which merges it into the current
+ * content of the cache file, so that entries stored by other cache instances
+ * for the same directory in the meantime are retained. Entries for class files
+ * or jar files that do not exist anymore are dropped. The cache file is then
+ * atomically replaced, if supported by the file system. Any failure to read or
+ * write the cache file is logged and otherwise ignored, falling back to
+ * regular class file parsing.
+ *
+ * @since 6.2
+ * @see CachingMetadataReaderFactory#setPersistentCacheDirectory
+ */
+final class PersistentMetadataCache {
+
+	private static final String CACHE_FILE_NAME = "spring-class-metadata.bin";
+
+	private static final int MAGIC = 0x5350434D;
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataCache.class);
+
+
+	private final Path cacheFile;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>(1024);
+
+	private final Set<String> recordedKeys = ConcurrentHashMap.newKeySet(256);
+
+	private final Map<String, FileStamp> archiveStamps = new ConcurrentHashMap<>(64);
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private volatile boolean loaded;
+
+
+	PersistentMetadataCache(Path directory) {
+		this.cacheFile = directory.resolve(CACHE_FILE_NAME);
+	}
+
+
+	/**
+	 * Obtain a {@link MetadataReader} for the given class file resource,
+	 * replaying cached metadata if still valid, or reading the class file and
+	 * recording its metadata otherwise.
+	 * @param resource the class file resource
+	 * @param classLoader the ClassLoader to resolve annotation types with
+	 * @return the metadata reader
+	 * @throws IOException in case of I/O failure when reading the class file
+	 */
+	MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		String key;
+		FileStamp stamp;
+		try {
+			URL url = resource.getURL();
+			key = url.toString();
+			stamp = getFileStamp(resource, url);
+		}
+		catch (IOException ex) {
+			// Not a file-based resource, or not existing: regular handling
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+		if (stamp.lastModified() <= 0) {
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+
+		if (!this.loaded) {
+			this.lock.writeLock().lock();
+			try {
+				if (!this.loaded) {
+					read(this.entries);
+					this.loaded = true;
+				}
+			}
+			finally {
+				this.lock.writeLock().unlock();
+			}
+		}
+
+		this.lock.readLock().lock();
+		try {
+			Entry entry = this.entries.get(key);
+			if (entry != null && entry.lastModified() == stamp.lastModified() && entry.length() == stamp.length()) {
+				SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+				try {
+					MetadataRecordingVisitor.replay(entry.recording(), visitor);
+					return new SimpleMetadataReader(resource, visitor.getMetadata());
+				}
+				catch (IOException | RuntimeException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Ignoring invalid cached metadata for " + resource + ": " + ex);
+					}
+					this.entries.remove(key, entry);
+				}
+			}
+
+			SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+			MetadataRecordingVisitor recorder = new MetadataRecordingVisitor(visitor);
+			SimpleMetadataReader.getClassReader(resource).accept(recorder, SimpleMetadataReader.PARSING_OPTIONS);
+			this.entries.put(key, new Entry(stamp.lastModified(), stamp.length(), recorder.toByteArray()));
+			this.recordedKeys.add(key);
+			return new SimpleMetadataReader(resource, visitor.getMetadata());
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private FileStamp getFileStamp(Resource resource, URL url) throws IOException {
+		if (ResourceUtils.isJarURL(url)) {
+			URL archiveUrl = ResourceUtils.extractArchiveURL(url);
+			if (ResourceUtils.isFileURL(archiveUrl)) {
+				String archiveKey = archiveUrl.toString();
+				FileStamp stamp = this.archiveStamps.get(archiveKey);
+				if (stamp == null) {
+					stamp = FileStamp.of(ResourceUtils.getFile(archiveUrl));
+					this.archiveStamps.put(archiveKey, stamp);
+				}
+				return stamp;
+			}
+		}
+		else if (resource.isFile()) {
+			return FileStamp.of(resource.getFile());
+		}
+		return new FileStamp(resource.lastModified(), resource.contentLength());
+	}
+
+	/**
+	 * Merge the metadata recorded since the last save into the cache file,
+	 * dropping entries for class files or jar files that do not exist anymore.
+	 * <p>The recorded metadata is kept in memory for further use.
+	 */
+	void save() {
+		if (!this.loaded) {
+			return;
+		}
+		this.lock.writeLock().lock();
+		try {
+			Map<String, Entry> merged = new LinkedHashMap<>(this.entries.size() * 2);
+			read(merged);
+			for (String key : this.recordedKeys) {
+				Entry entry = this.entries.get(key);
+				if (entry != null) {
+					merged.put(key, entry);
+				}
+			}
+			boolean pruned = removeEntriesWithoutFile(merged);
+			if (!this.recordedKeys.isEmpty() || pruned) {
+				write(merged);
+			}
+			this.entries.clear();
+			this.entries.putAll(merged);
+			this.recordedKeys.clear();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private boolean removeEntriesWithoutFile(Map<String, Entry> entries) {
+		Map<String, Boolean> existingFiles = new HashMap<>();
+		boolean removed = false;
+		for (Iterator<String> it = entries.keySet().iterator(); it.hasNext();) {
+			File file = getFile(it.next());
+			if (file != null && !existingFiles.computeIfAbsent(file.getPath(), path -> file.exists())) {
+				it.remove();
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
+	@Nullable
+	private static File getFile(String key) {
+		try {
+			URL url = ResourceUtils.toURL(key);
+			if (ResourceUtils.isJarURL(url)) {
+				url = ResourceUtils.extractArchiveURL(url);
+			}
+			return (ResourceUtils.isFileURL(url) ? ResourceUtils.getFile(url) : null);
+		}
+		catch (IOException | RuntimeException ex) {
+			// Cannot tell whether it still exists: keep it
+			return null;
+		}
+	}
+
+	private void write(Map<String, Entry> entries) {
+		Path tempFile = null;
+		try {
+			Files.createDirectories(this.cacheFile.getParent());
+			tempFile = Files.createTempFile(this.cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+			try (OutputStream os = Files.newOutputStream(tempFile);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					out.writeBoolean(true);
+					out.writeUTF(mapEntry.getKey());
+					out.writeLong(entry.lastModified());
+					out.writeLong(entry.length());
+					out.writeInt(entry.recording().length);
+					out.write(entry.recording());
+				}
+				out.writeBoolean(false);
+			}
+			try {
+				Files.move(tempFile, this.cacheFile,
+						StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Stored metadata for " + entries.size() + " classes in " + this.cacheFile);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Failed to store class metadata cache file " + this.cacheFile + ": " + ex);
+			}
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				}
+				catch (IOException ignored) {
+				}
+			}
+		}
+	}
+
+	private void read(Map<String, Entry> entries) {
+		if (!Files.isRegularFile(this.cacheFile)) {
+			return;
+		}
+		Map<String, Entry> readEntries = new LinkedHashMap<>(1024);
+		try (InputStream is = Files.newInputStream(this.cacheFile);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring class metadata cache file in unsupported format: " + this.cacheFile);
+				}
+				return;
+			}
+			while (in.readBoolean()) {
+				String key = in.readUTF();
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				byte[] recording = new byte[in.readInt()];
+				in.readFully(recording);
+				readEntries.put(key, new Entry(lastModified, length, recording));
+			}
+			entries.putAll(readEntries);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded metadata for " + readEntries.size() + " classes from " + this.cacheFile);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Failed to load class metadata cache file " + this.cacheFile + ": " + ex);
+			}
+		}
+	}
+
+
+	private record Entry(long lastModified, long length, byte[] recording) {
+	}
+
+
+	private record FileStamp(long lastModified, long length) {
+
+		static FileStamp of(File file) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+		}
+	}
+
+}
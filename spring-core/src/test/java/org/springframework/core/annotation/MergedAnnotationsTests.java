@@ -363,6 +363,41 @@ class MergedAnnotationsTests {
 		assertThat(annotations.isPresent(ComposedTransactionalComponent.class)).isTrue();
 	}
 
+	@Test
+	void getFromSameClassAndSearchStrategyReturnsSharedMergedAnnotation() {
+		MergedAnnotation<Transactional> annotation = MergedAnnotations.from(
+				SubTransactionalComponentClass.class, SearchStrategy.TYPE_HIERARCHY).get(Transactional.class);
+		assertThat(annotation.isPresent()).isTrue();
+		assertThat(MergedAnnotations.from(SubTransactionalComponentClass.class, SearchStrategy.TYPE_HIERARCHY)
+				.get(Transactional.class)).isSameAs(annotation);
+		assertThat(MergedAnnotations.from(SubTransactionalComponentClass.class).get(Transactional.class)
+				.isPresent()).isFalse();
+		AnnotationUtils.clearCache();
+		MergedAnnotation<Transactional> recreated = MergedAnnotations.from(
+				SubTransactionalComponentClass.class, SearchStrategy.TYPE_HIERARCHY).get(Transactional.class);
+		assertThat(recreated).isNotSameAs(annotation);
+		assertThat(recreated.synthesize()).isEqualTo(annotation.synthesize());
+	}
+
+	@Test
+	void getWithPredicateFromSameClassIsNotShared() {
+		MergedAnnotations annotations = MergedAnnotations.from(
+				TransactionalComponentClass.class, SearchStrategy.TYPE_HIERARCHY);
+		assertThat(annotations.get(Transactional.class).isPresent()).isTrue();
+		assertThat(annotations.get(Transactional.class, annotation -> false).isPresent()).isFalse();
+		assertThat(annotations.get(Transactional.class, annotation -> true).isPresent()).isTrue();
+	}
+
+	@Test
+	void isPresentFromSameClassWithCustomAnnotationFilterIsNotShared() {
+		Class<?> source = TransactionalComponentClass.class;
+		assertThat(MergedAnnotations.from(source, SearchStrategy.TYPE_HIERARCHY).isPresent(Component.class)).isTrue();
+		assertThat(MergedAnnotations.from(source, SearchStrategy.TYPE_HIERARCHY, RepeatableContainers.none(),
+				AnnotationFilter.packages(Component.class.getPackageName())).isPresent(Component.class)).isFalse();
+		assertThat(MergedAnnotations.from(source, SearchStrategy.TYPE_HIERARCHY, RepeatableContainers.none())
+				.isPresent(Component.class.getName())).isTrue();
+	}
+
 	@Test
 	void getParent() {
 		MergedAnnotations annotations = MergedAnnotations.from(ComposedTransactionalComponentClass.class);
@@ -1082,6 +1082,46 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 		release(foo);
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void matcherLongDelimiter(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		DataBuffer first = stringBuffer("body content\r\n--bound");
+		DataBuffer second = stringBuffer("ary\r\nmore content\r\n--boundary--");
+
+		byte[] delims = "\r\n--boundary".getBytes(StandardCharsets.UTF_8);
+		DataBufferUtils.Matcher matcher = DataBufferUtils.matcher(delims);
+		int endIndex = matcher.match(first);
+		assertThat(endIndex).isEqualTo(-1);
+		endIndex = matcher.match(second);
+		assertThat(endIndex).isEqualTo(2);
+		second.readPosition(endIndex + 1);
+		endIndex = matcher.match(second);
+		assertThat(endIndex).isEqualTo(28);
+		second.readPosition(endIndex + 1);
+		endIndex = matcher.match(second);
+		assertThat(endIndex).isEqualTo(-1);
+
+		release(first, second);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void matcherRepeatedPrefix(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		DataBuffer first = stringBuffer("xaaba");
+		DataBuffer second = stringBuffer("abaabx");
+
+		byte[] delims = "aabaab".getBytes(StandardCharsets.UTF_8);
+		DataBufferUtils.Matcher matcher = DataBufferUtils.matcher(delims);
+		int endIndex = matcher.match(first);
+		assertThat(endIndex).isEqualTo(-1);
+		endIndex = matcher.match(second);
+		assertThat(endIndex).isEqualTo(1);
+
+		release(first, second);
+	}
+
 	@ParameterizedDataBufferAllocatingTest
 	void propagateContextByteChannel(DataBufferFactory bufferFactory) throws IOException {
 		Path path = Paths.get(this.resource.getURI());
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.buffering;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.metrics.StartupStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BufferingApplicationStartup}.
+ */
+class BufferingApplicationStartupTests {
+
+	private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(16);
+
+
+	@Test
+	void recordsStepTreeInStartOrder() {
+		StartupStep refresh = this.applicationStartup.start("spring.context.refresh");
+		StartupStep first = this.applicationStartup.start("first");
+		first.end();
+		StartupStep second = this.applicationStartup.start("second");
+		StartupStep nested = this.applicationStartup.start("nested");
+		nested.end();
+		second.end();
+		refresh.end();
+
+		List<BufferedStartupStep> steps = this.applicationStartup.getBufferedSteps();
+		assertThat(steps).extracting(StartupStep::getName)
+				.containsExactly("spring.context.refresh", "first", "second", "nested");
+		assertThat(steps).extracting(StartupStep::getParentId)
+				.containsExactly(null, refresh.getId(), refresh.getId(), second.getId());
+	}
+
+	@Test
+	void selfDurationExcludesChildSteps() {
+		StartupStep parent = this.applicationStartup.start("parent");
+		StartupStep child = this.applicationStartup.start("child");
+		child.end();
+		parent.end();
+
+		BufferedStartupStep bufferedParent = this.applicationStartup.getBufferedSteps().get(0);
+		BufferedStartupStep bufferedChild = this.applicationStartup.getBufferedSteps().get(1);
+		assertThat(bufferedParent.getDuration()).isGreaterThanOrEqualTo(bufferedChild.getDuration());
+		assertThat(bufferedParent.getSelfDuration())
+				.isEqualTo(bufferedParent.getDuration().minus(bufferedChild.getDuration()));
+	}
+
+	@Test
+	void stepsOfOtherThreadsAreRoots() throws InterruptedException {
+		StartupStep refresh = this.applicationStartup.start("spring.context.refresh");
+		Thread thread = new Thread(() -> this.applicationStartup.start("background").end());
+		thread.start();
+		thread.join();
+		refresh.end();
+
+		assertThat(this.applicationStartup.getBufferedSteps()).filteredOn(step -> step.getName().equals("background"))
+				.singleElement().satisfies(step -> assertThat(step.getParentId()).isNull());
+	}
+
+	@Test
+	void tagAfterEndIsNotAllowed() {
+		StartupStep step = this.applicationStartup.start("test");
+		step.end();
+		assertThatIllegalStateException().isThrownBy(() -> step.tag("key", "value"));
+	}
+
+	@Test
+	void stepsBeyondCapacityAreNotRecorded() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(1);
+		applicationStartup.start("first").end();
+		applicationStartup.start("second").end();
+		assertThat(applicationStartup.getBufferedSteps()).extracting(StartupStep::getName).containsExactly("first");
+	}
+
+	@Test
+	void allocatedBytesNotRecordedIfTrackingDisabled() {
+		this.applicationStartup.setTrackAllocations(false);
+		this.applicationStartup.start("test").end();
+		assertThat(this.applicationStartup.getBufferedSteps().get(0).getAllocatedBytes()).isEqualTo(-1);
+	}
+
+	@Test
+	void slowestBeansExcludeNestedBeans() throws Exception {
+		StartupStep outer = this.applicationStartup.start("spring.beans.instantiate").tag("beanName", "outer");
+		StartupStep inner = this.applicationStartup.start("spring.beans.instantiate").tag("beanName", "inner");
+		Thread.sleep(20);
+		inner.end();
+		outer.end();
+		this.applicationStartup.start("spring.context.refresh").end();
+
+		assertThat(this.applicationStartup.getSlowestBeans(5)).extracting(step -> step.getTag("beanName"))
+				.containsExactly("inner", "outer");
+		assertThat(this.applicationStartup.getSlowestBeans(1)).hasSize(1);
+
+		StringWriter writer = new StringWriter();
+		this.applicationStartup.writeSlowestBeans(writer, 5);
+		String[] lines = writer.toString().split("\\R");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[1]).endsWith("  inner");
+		assertThat(lines[2]).endsWith("  outer");
+	}
+
+	@Test
+	void slowestBeansIncludeOwnPhasesButNotDependencies() throws Exception {
+		StartupStep outer = this.applicationStartup.start("spring.beans.instantiate").tag("beanName", "outer");
+		this.applicationStartup.start("spring.beans.create-instance").tag("beanName", "outer").end();
+		StartupStep population = this.applicationStartup.start("spring.beans.populate").tag("beanName", "outer");
+		StartupStep inner = this.applicationStartup.start("spring.beans.instantiate").tag("beanName", "inner");
+		StartupStep innerCreation = this.applicationStartup.start("spring.beans.create-instance").tag("beanName", "inner");
+		Thread.sleep(40);
+		innerCreation.end();
+		inner.end();
+		population.end();
+		StartupStep initialization = this.applicationStartup.start("spring.beans.initialize").tag("beanName", "outer");
+		Thread.sleep(20);
+		initialization.end();
+		outer.end();
+
+		List<BufferedStartupStep> slowestBeans = this.applicationStartup.getSlowestBeans(5);
+		assertThat(slowestBeans).extracting(step -> step.getTag("beanName")).containsExactly("inner", "outer");
+		BufferedStartupStep bufferedInner = slowestBeans.get(0);
+		BufferedStartupStep bufferedOuter = slowestBeans.get(1);
+		assertThat(bufferedInner.getBeanDurationNanos()).isEqualTo(bufferedInner.getDurationNanos());
+		assertThat(bufferedOuter.getBeanDurationNanos())
+				.isEqualTo(bufferedOuter.getDurationNanos() - bufferedInner.getDurationNanos())
+				.isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+	@Test
+	void flameGraphContainsCollapsedStacks() throws Exception {
+		StartupStep refresh = this.applicationStartup.start("spring.context.refresh");
+		StartupStep bean = this.applicationStartup.start("spring.beans.instantiate").tag("beanName", "my;bean");
+		bean.end();
+		StartupStep config = this.applicationStartup.start("spring.context.config-classes.process")
+				.tag("className", "com.example.AppConfig");
+		config.end();
+		refresh.end();
+
+		StringWriter writer = new StringWriter();
+		this.applicationStartup.writeFlameGraph(writer);
+		assertThat(writer.toString().split("\n")).hasSize(3).satisfiesExactly(
+				line -> assertThat(line).matches("spring\\.context\\.refresh \\d+"),
+				line -> assertThat(line).matches("spring\\.context\\.refresh;spring\\.beans\\.instantiate\\[my,bean] \\d+"),
+				line -> assertThat(line).matches(
+						"spring\\.context\\.refresh;spring\\.context\\.config-classes\\.process\\[com\\.example\\.AppConfig] \\d+"));
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link PersistentMetadataCache}, verifying that metadata replayed
+ * from the cache file matches metadata read from the class file.
+ */
+class PersistentMetadataCacheTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	Path cacheDirectory;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			Resource resource = classFile(source);
+			PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+			cache.getMetadataReader(resource, source.getClassLoader());
+			cache.save();
+			return new PersistentMetadataCache(this.cacheDirectory)
+					.getMetadataReader(new NonReadableResource(resource), source.getClassLoader())
+					.getAnnotationMetadata();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void cachedMetadataNotUsedWhenClassFileModified() throws IOException {
+		Path classFile = this.cacheDirectory.resolve("TestClass.class");
+		try (InputStream is = classFile(TestClass.class).getInputStream()) {
+			Files.copy(is, classFile);
+		}
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(new UrlResource(classFile.toUri()), getClass().getClassLoader());
+		cache.save();
+
+		classFile.toFile().setLastModified(classFile.toFile().lastModified() - 10_000);
+		Resource resource = new NonReadableResource(new UrlResource(classFile.toUri()));
+		PersistentMetadataCache reloadedCache = new PersistentMetadataCache(this.cacheDirectory);
+		assertThatIOException().isThrownBy(() ->
+				reloadedCache.getMetadataReader(resource, getClass().getClassLoader()))
+				.withMessage("Not readable");
+	}
+
+	@Test
+	void corruptCacheFileIgnored() throws IOException {
+		Files.writeString(this.cacheDirectory.resolve("spring-class-metadata.bin"), "corrupt");
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		AnnotationMetadata metadata = cache.getMetadataReader(
+				classFile(TestClass.class), getClass().getClassLoader()).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(TestClass.class.getName());
+	}
+
+	@Test
+	void cachedMetadataInJarNotUsedWhenJarFileModified() throws IOException {
+		Path jarFile = this.cacheDirectory.resolve("test.jar");
+		String entryName = TestClass.class.getName().replace('.', '/') + ".class";
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile));
+				InputStream is = classFile(TestClass.class).getInputStream()) {
+			out.putNextEntry(new JarEntry(entryName));
+			is.transferTo(out);
+		}
+		Resource resource = new UrlResource("jar:" + jarFile.toUri() + "!/" + entryName);
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(resource, getClass().getClassLoader());
+		cache.save();
+
+		PersistentMetadataCache reloadedCache = new PersistentMetadataCache(this.cacheDirectory);
+		assertThat(reloadedCache.getMetadataReader(new NonReadableResource(resource), getClass().getClassLoader())
+				.getClassMetadata().getClassName()).isEqualTo(TestClass.class.getName());
+
+		jarFile.toFile().setLastModified(jarFile.toFile().lastModified() - 10_000);
+		PersistentMetadataCache cacheAfterModification = new PersistentMetadataCache(this.cacheDirectory);
+		assertThatIOException().isThrownBy(() ->
+				cacheAfterModification.getMetadataReader(new NonReadableResource(resource), getClass().getClassLoader()))
+				.withMessage("Not readable");
+	}
+
+	@Test
+	void entriesOfOtherCachesRetainedOnSave() throws IOException {
+		Resource testClass = classFile(TestClass.class);
+		Resource otherClass = classFile(PersistentMetadataCacheTests.class);
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		PersistentMetadataCache otherCache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(testClass, getClass().getClassLoader());
+		otherCache.getMetadataReader(otherClass, getClass().getClassLoader());
+		cache.save();
+		otherCache.save();
+
+		PersistentMetadataCache reloadedCache = new PersistentMetadataCache(this.cacheDirectory);
+		assertThat(reloadedCache.getMetadataReader(new NonReadableResource(testClass), getClass().getClassLoader())
+				.getClassMetadata().getClassName()).isEqualTo(TestClass.class.getName());
+		assertThat(reloadedCache.getMetadataReader(new NonReadableResource(otherClass), getClass().getClassLoader())
+				.getClassMetadata().getClassName()).isEqualTo(PersistentMetadataCacheTests.class.getName());
+	}
+
+	@Test
+	void entriesOfDeletedClassFilesDroppedOnSave() throws IOException {
+		Path classFile = this.cacheDirectory.resolve("TestClass.class");
+		try (InputStream is = classFile(TestClass.class).getInputStream()) {
+			Files.copy(is, classFile);
+		}
+		long lastModified = classFile.toFile().lastModified();
+		Resource resource = new UrlResource(classFile.toUri());
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(resource, getClass().getClassLoader());
+		cache.save();
+
+		byte[] content = Files.readAllBytes(classFile);
+		Files.delete(classFile);
+		cache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(classFile(PersistentMetadataCacheTests.class), getClass().getClassLoader());
+		cache.save();
+
+		Files.write(classFile, content);
+		classFile.toFile().setLastModified(lastModified);
+		PersistentMetadataCache reloadedCache = new PersistentMetadataCache(this.cacheDirectory);
+		assertThatIOException().isThrownBy(() ->
+				reloadedCache.getMetadataReader(new NonReadableResource(resource), getClass().getClassLoader()))
+				.withMessage("Not readable");
+	}
+
+	@Test
+	void entriesRecordedAfterSaveStoredOnNextSave() throws IOException {
+		Resource testClass = classFile(TestClass.class);
+		Resource otherClass = classFile(PersistentMetadataCacheTests.class);
+		PersistentMetadataCache cache = new PersistentMetadataCache(this.cacheDirectory);
+		cache.getMetadataReader(testClass, getClass().getClassLoader());
+		cache.save();
+		assertThat(cache.getMetadataReader(new NonReadableResource(testClass), getClass().getClassLoader())
+				.getClassMetadata().getClassName()).isEqualTo(TestClass.class.getName());
+		cache.getMetadataReader(otherClass, getClass().getClassLoader());
+		cache.save();
+
+		PersistentMetadataCache reloadedCache = new PersistentMetadataCache(this.cacheDirectory);
+		assertThat(reloadedCache.getMetadataReader(new NonReadableResource(otherClass), getClass().getClassLoader())
+				.getClassMetadata().getClassName()).isEqualTo(PersistentMetadataCacheTests.class.getName());
+	}
+
+
+	private static Resource classFile(Class<?> type) throws IOException {
+		return new UrlResource(new ClassPathResource(type.getName().replace('.', '/') + ".class").getURL());
+	}
+
+
+	/**
+	 * Resource that fails on reading its content, verifying that cached
+	 * metadata is used.
+	 */
+	private static class NonReadableResource extends UrlResource {
+
+		NonReadableResource(Resource resource) throws IOException {
+			super(resource.getURL());
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			throw new IOException("Not readable");
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,24 @@
 
 package org.springframework.expression.spel;
 
+import java.lang.reflect.Proxy;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -103,4 +109,58 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CompilationBenchmarkData {
+
+		@Param({"proxyMethod", "listIndex", "mapIndex", "ternary", "selection"})
+		public String shape;
+
+		@Param({"false", "true"})
+		public boolean compiled;
+
+		public StandardEvaluationContext context;
+
+		public Expression expression;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Principal principal = (Principal) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] {Principal.class}, (proxy, method, args) -> "admin".equals(args[0]));
+			this.context = new StandardEvaluationContext(principal);
+			this.context.setVariable("roles", List.of("user", "admin"));
+			this.context.setVariable("limits", Map.of("user", 10, "admin", 100));
+			this.context.setVariable("index", 1);
+			this.context.setVariable("role", "admin");
+			this.context.setVariable("limit", 42);
+			this.context.setVariable("enabled", false);
+			String expressionString = switch (this.shape) {
+				case "proxyMethod" -> "hasRole('admin')";
+				case "listIndex" -> "#roles[#index]";
+				case "mapIndex" -> "#limits[#role]";
+				case "ternary" -> "#enabled ? 0 : #limit";
+				case "selection" -> "#roles.?[#this.startsWith('a')]";
+				default -> throw new IllegalArgumentException("Unknown shape: " + this.shape);
+			};
+			this.expression = new SpelExpressionParser().parseExpression(expressionString);
+			// Evaluate all branches so that the types are known to the compiler
+			this.expression.getValue(this.context);
+			this.context.setVariable("enabled", true);
+			this.expression.getValue(this.context);
+			if (this.compiled) {
+				((SpelExpression) this.expression).compileExpression();
+			}
+		}
+	}
+
+	@Benchmark
+	public Object compilableExpression(CompilationBenchmarkData data) {
+		return data.expression.getValue(data.context);
+	}
+
+
+	public interface Principal {
+
+		boolean hasRole(String role);
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.expression.spel;
 
 import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Configuration object for the SpEL expression parser.
@@ -37,6 +38,13 @@ public class SpelParserConfiguration {
 	 */
 	public static final int DEFAULT_MAX_EXPRESSION_LENGTH = 10_000;
 
+	/**
+	 * Default number of times an expression is interpreted before it gets
+	 * compiled in {@link SpelCompilerMode#MIXED} mode: {@value}.
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_COMPILATION_THRESHOLD = 100;
+
 	/** System property to configure the default compiler mode for SpEL expression parsers: {@value}. */
 	public static final String SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME = "spring.expression.compiler.mode";
 
@@ -63,6 +71,8 @@ public class SpelParserConfiguration {
 
 	private final int maximumExpressionLength;
 
+	private final int compilationThreshold;
+
 
 	/**
 	 * Create a new {@code SpelParserConfiguration} instance with default settings.
@@ -129,12 +139,52 @@ public class SpelParserConfiguration {
 	public SpelParserConfiguration(@Nullable SpelCompilerMode compilerMode, @Nullable ClassLoader compilerClassLoader,
 			boolean autoGrowNullReferences, boolean autoGrowCollections, int maximumAutoGrowSize, int maximumExpressionLength) {
 
+		this(compilerMode, compilerClassLoader, autoGrowNullReferences, autoGrowCollections,
+				maximumAutoGrowSize, maximumExpressionLength, DEFAULT_COMPILATION_THRESHOLD);
+	}
+
+	/**
+	 * Create a new {@code SpelParserConfiguration} instance.
+	 * @param compilerMode the compiler mode that parsers using this configuration object should use
+	 * @param compilerClassLoader the ClassLoader to use as the basis for expression compilation
+	 * @param compilationThreshold the number of times an expression is interpreted
+	 * before it gets compiled in {@link SpelCompilerMode#MIXED} mode; must be a
+	 * positive number
+	 * @since 6.2
+	 */
+	public SpelParserConfiguration(@Nullable SpelCompilerMode compilerMode, @Nullable ClassLoader compilerClassLoader,
+			int compilationThreshold) {
+
+		this(compilerMode, compilerClassLoader, false, false, Integer.MAX_VALUE,
+				DEFAULT_MAX_EXPRESSION_LENGTH, compilationThreshold);
+	}
+
+	/**
+	 * Create a new {@code SpelParserConfiguration} instance.
+	 * @param compilerMode the compiler mode that parsers using this configuration object should use
+	 * @param compilerClassLoader the ClassLoader to use as the basis for expression compilation
+	 * @param autoGrowNullReferences if null references should automatically grow
+	 * @param autoGrowCollections if collections should automatically grow
+	 * @param maximumAutoGrowSize the maximum size that a collection can auto grow
+	 * @param maximumExpressionLength the maximum length of a SpEL expression;
+	 * must be a positive number
+	 * @param compilationThreshold the number of times an expression is interpreted
+	 * before it gets compiled in {@link SpelCompilerMode#MIXED} mode; must be a
+	 * positive number
+	 * @since 6.2
+	 */
+	public SpelParserConfiguration(@Nullable SpelCompilerMode compilerMode, @Nullable ClassLoader compilerClassLoader,
+			boolean autoGrowNullReferences, boolean autoGrowCollections, int maximumAutoGrowSize,
+			int maximumExpressionLength, int compilationThreshold) {
+
+		Assert.isTrue(compilationThreshold > 0, "Compilation threshold must be a positive number");
 		this.compilerMode = (compilerMode != null ? compilerMode : defaultCompilerMode);
 		this.compilerClassLoader = compilerClassLoader;
 		this.autoGrowNullReferences = autoGrowNullReferences;
 		this.autoGrowCollections = autoGrowCollections;
 		this.maximumAutoGrowSize = maximumAutoGrowSize;
 		this.maximumExpressionLength = maximumExpressionLength;
+		this.compilationThreshold = compilationThreshold;
 	}
 
 
@@ -182,4 +232,13 @@ public class SpelParserConfiguration {
 		return this.maximumExpressionLength;
 	}
 
+	/**
+	 * Return the number of times an expression is interpreted before it gets
+	 * compiled in {@link SpelCompilerMode#MIXED} mode.
+	 * @since 6.2
+	 */
+	public int getCompilationThreshold() {
+		return this.compilationThreshold;
+	}
+
 }
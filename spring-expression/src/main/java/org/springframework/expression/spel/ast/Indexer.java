@@ -253,12 +253,13 @@ public class Indexer extends SpelNodeImpl {
 
 	@Override
 	public boolean isCompilable() {
+		SpelNodeImpl index = this.children[0];
 		if (this.indexedType == IndexedType.ARRAY) {
-			return (this.exitTypeDescriptor != null && this.arrayTypeDescriptor != null);
+			return (this.exitTypeDescriptor != null && this.arrayTypeDescriptor != null &&
+					isCompilableIntIndex(index));
 		}
-		SpelNodeImpl index = this.children[0];
 		if (this.indexedType == IndexedType.LIST) {
-			return index.isCompilable();
+			return isCompilableIntIndex(index);
 		}
 		else if (this.indexedType == IndexedType.MAP) {
 			return (index instanceof PropertyOrFieldReference || index.isCompilable());
@@ -311,17 +312,13 @@ public class Indexer extends SpelNodeImpl {
 				default -> AALOAD;
 			};
 
-			cf.enterCompilationScope();
-			index.generateCode(mv, cf);
-			cf.exitCompilationScope();
+			generateCodeForIntIndex(mv, cf, index);
 			mv.visitInsn(insn);
 		}
 
 		else if (this.indexedType == IndexedType.LIST) {
 			mv.visitTypeInsn(CHECKCAST, "java/util/List");
-			cf.enterCompilationScope();
-			index.generateCode(mv, cf);
-			cf.exitCompilationScope();
+			generateCodeForIntIndex(mv, cf, index);
 			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
 		}
 
@@ -373,6 +370,31 @@ public class Indexer extends SpelNodeImpl {
 	}
 
 
+	/**
+	 * Determine if the supplied index expression is compilable and known to
+	 * evaluate to an {@code int} or an {@link Integer}: any other index is
+	 * converted by the interpreter via the {@code TypeConverter}.
+	 */
+	private static boolean isCompilableIntIndex(SpelNodeImpl index) {
+		String indexDescriptor = index.exitTypeDescriptor;
+		return (index.isCompilable() &&
+				("I".equals(indexDescriptor) || "Ljava/lang/Integer".equals(indexDescriptor)));
+	}
+
+	/**
+	 * Generate code for the supplied index expression, leaving an {@code int}
+	 * on the stack, unboxing an {@link Integer} if necessary.
+	 */
+	private static void generateCodeForIntIndex(MethodVisitor mv, CodeFlow cf, SpelNodeImpl index) {
+		cf.enterCompilationScope();
+		index.generateCode(mv, cf);
+		String indexDescriptor = cf.lastDescriptor();
+		if (!"I".equals(indexDescriptor)) {
+			CodeFlow.insertUnboxInsns(mv, 'I', indexDescriptor);
+		}
+		cf.exitCompilationScope();
+	}
+
 	private void setExitTypeDescriptor(String descriptor) {
 		// If this indexer would return a primitive - and yet it is also marked
 		// null-safe - then the exit type descriptor must be promoted to the box
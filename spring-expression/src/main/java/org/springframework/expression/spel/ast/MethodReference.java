@@ -282,12 +282,18 @@ public class MethodReference extends SpelNodeImpl {
 	/**
 	 * A method reference is compilable if it has been resolved to a reflectively accessible method
 	 * and the child nodes (arguments to the method) are also compilable.
+	 * <p>This includes methods invoked on a JDK dynamic proxy, which are compiled against
+	 * the public interface declaring the method.
 	 */
 	@Override
 	public boolean isCompilable() {
 		CachedMethodExecutor executorToCheck = this.cachedExecutor;
-		if (executorToCheck == null || executorToCheck.hasProxyTarget() ||
-				!(executorToCheck.get() instanceof ReflectiveMethodExecutor executor)) {
+		if (executorToCheck == null || !(executorToCheck.get() instanceof ReflectiveMethodExecutor executor)) {
+			return false;
+		}
+		// Methods on a JDK proxy are resolved against its interfaces (or Object),
+		// so only a method declared on the proxy class itself cannot be compiled.
+		if (executorToCheck.hasProxyTarget() && Proxy.isProxyClass(executor.getMethod().getDeclaringClass())) {
 			return false;
 		}
 
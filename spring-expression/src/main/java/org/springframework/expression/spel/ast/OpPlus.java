@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -153,10 +153,7 @@ public class OpPlus extends Operator {
 	}
 
 	private void checkStringLength(String string) {
-		if (string.length() > MAX_CONCATENATED_STRING_LENGTH) {
-			throw new SpelEvaluationException(getStartPosition(),
-					SpelMessage.MAX_CONCATENATED_STRING_LENGTH_EXCEEDED, MAX_CONCATENATED_STRING_LENGTH);
-		}
+		checkStringLength(string, getStartPosition());
 	}
 
 	private TypedValue concatenate(String leftString, String rightString) {
@@ -198,6 +195,25 @@ public class OpPlus extends Operator {
 		return String.valueOf(value.getValue());
 	}
 
+	/**
+	 * Check the length of a concatenated {@code String}, in the interpreted
+	 * case as well as in compiled code.
+	 * <p>Not intended to be called directly: public for use in compiled
+	 * expressions only.
+	 * @param string the concatenated {@code String}
+	 * @param position the position of the operator in the expression
+	 * @return the given {@code String}
+	 * @throws SpelEvaluationException if the maximum length is exceeded
+	 * @since 6.2
+	 */
+	public static String checkStringLength(String string, int position) {
+		if (string.length() > MAX_CONCATENATED_STRING_LENGTH) {
+			throw new SpelEvaluationException(position,
+					SpelMessage.MAX_CONCATENATED_STRING_LENGTH_EXCEEDED, MAX_CONCATENATED_STRING_LENGTH);
+		}
+		return string;
+	}
+
 	@Override
 	public boolean isCompilable() {
 		if (!getLeftOperand().isCompilable()) {
@@ -240,6 +256,10 @@ public class OpPlus extends Operator {
 			walk(mv, cf, getLeftOperand());
 			walk(mv, cf, getRightOperand());
 			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+			// The operands are part of the result, so checking its length covers them as well
+			mv.visitLdcInsn(getStartPosition());
+			mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/OpPlus",
+					"checkStringLength", "(Ljava/lang/String;I)Ljava/lang/String;", false);
 		}
 		else {
 			this.children[0].generateCode(mv, cf);
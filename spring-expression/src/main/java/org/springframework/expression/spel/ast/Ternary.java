@@ -74,6 +74,10 @@ public class Ternary extends SpelNodeImpl {
 			if (ObjectUtils.nullSafeEquals(leftDescriptor, rightDescriptor)) {
 				this.exitTypeDescriptor = leftDescriptor;
 			}
+			else if (CodeFlow.areBoxingCompatible(leftDescriptor, rightDescriptor)) {
+				// A primitive and its box type: use the box type, boxing the primitive branch
+				this.exitTypeDescriptor = (CodeFlow.isPrimitive(leftDescriptor) ? rightDescriptor : leftDescriptor);
+			}
 			else {
 				// Use the easiest to compute common supertype
 				this.exitTypeDescriptor = "Ljava/lang/Object";
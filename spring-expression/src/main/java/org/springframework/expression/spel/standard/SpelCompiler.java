@@ -16,6 +16,7 @@
 
 package org.springframework.expression.spel.standard;
 
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Map;
@@ -117,11 +118,57 @@ public final class SpelCompiler implements Opcodes {
 		}
 
 		if (logger.isDebugEnabled()) {
-			logger.debug("SpEL: unable to compile " + expression.toStringAST());
+			logger.debug("SpEL: unable to compile " + expression.toStringAST() +
+					describeNonCompilableNodes(expression));
 		}
 		return null;
 	}
 
+	/**
+	 * Describe the nodes that prevent compilation of the supplied expression:
+	 * nodes of a type that the compiler does not support at all, as well as
+	 * non-compilable nodes whose children are all compilable.
+	 */
+	private static String describeNonCompilableNodes(SpelNodeImpl expression) {
+		StringBuilder sb = new StringBuilder();
+		collectNonCompilableNodes(expression, sb);
+		// Empty if compilable but opted out during code generation
+		return (!sb.isEmpty() ? " - not compilable:" + sb : "");
+	}
+
+	private static boolean collectNonCompilableNodes(SpelNodeImpl node, StringBuilder sb) {
+		if (!supportsCompilation(node)) {
+			appendNonCompilableNode(node, "not supported by the compiler", sb);
+			return false;
+		}
+		boolean childrenCompilable = true;
+		for (int i = 0; i < node.getChildCount(); i++) {
+			if (!collectNonCompilableNodes((SpelNodeImpl) node.getChild(i), sb)) {
+				childrenCompilable = false;
+			}
+		}
+		if (node.isCompilable()) {
+			return true;
+		}
+		if (childrenCompilable) {
+			String reason = (node.getExitDescriptor() == null ?
+					"no result type known, the node may not have been evaluated yet or its operand types are not supported" :
+					"not supported for the types or accessors resolved during evaluation");
+			appendNonCompilableNode(node, reason, sb);
+		}
+		return false;
+	}
+
+	private static boolean supportsCompilation(SpelNodeImpl node) {
+		Method method = ReflectionUtils.findMethod(node.getClass(), "isCompilable");
+		return (method != null && method.getDeclaringClass() != SpelNodeImpl.class);
+	}
+
+	private static void appendNonCompilableNode(SpelNodeImpl node, String reason, StringBuilder sb) {
+		sb.append(" [").append(node.getClass().getSimpleName()).append(" '").append(node.toStringAST())
+				.append("' at position ").append(node.getStartPosition()).append(": ").append(reason).append(']');
+	}
+
 	private String getNextSuffix() {
 		return "%05d".formatted(this.suffixId.incrementAndGet());
 	}
@@ -49,9 +49,6 @@ import org.springframework.util.Assert;
  */
 public class SpelExpression implements Expression {
 
-	// Number of times to interpret an expression before compiling it
-	private static final int INTERPRETED_COUNT_THRESHOLD = 100;
-
 	// Number of times to try compiling an expression before giving up
 	private static final int FAILED_ATTEMPTS_THRESHOLD = 100;
 
@@ -494,7 +491,7 @@ public class SpelExpression implements Expression {
 			}
 			else {
 				// compilerMode = SpelCompilerMode.MIXED
-				if (this.interpretedCount.get() > INTERPRETED_COUNT_THRESHOLD) {
+				if (this.interpretedCount.get() > expressionState.getConfiguration().getCompilationThreshold()) {
 					compileExpression();
 				}
 			}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -298,6 +299,64 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 			assertThat(getAst().getExitDescriptor()).isEqualTo("D");
 		}
 
+		@Test
+		void indexIntoPrimitiveIntArrayWithIntegerVariable() {
+			int[] ints = { 8, 9, 10 };
+			StandardEvaluationContext context = new StandardEvaluationContext(ints);
+			context.setVariable("index", 1);
+
+			expression = parser.parseExpression("[#index]");
+
+			assertThat(expression.getValue(context)).isEqualTo(9);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(9);
+			context.setVariable("index", 2);
+			assertThat(expression.getValue(context)).isEqualTo(10);
+		}
+
+		@Test
+		void indexIntoListWithIntegerVariable() {
+			List<String> list = List.of("aaa", "bbb", "ccc");
+			StandardEvaluationContext context = new StandardEvaluationContext(list);
+			context.setVariable("index", 1);
+
+			expression = parser.parseExpression("[#index]");
+
+			assertThat(expression.getValue(context)).isEqualTo("bbb");
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo("bbb");
+			context.setVariable("index", 2);
+			assertThat(expression.getValue(context)).isEqualTo("ccc");
+		}
+
+		@Test
+		void indexIntoListWithStringVariable() {
+			List<String> list = List.of("aaa", "bbb", "ccc");
+			StandardEvaluationContext context = new StandardEvaluationContext(list);
+			context.setVariable("index", "1");
+
+			expression = parser.parseExpression("[#index]");
+
+			// String index converted by the TypeConverter
+			assertThat(expression.getValue(context)).isEqualTo("bbb");
+			assertCannotCompile(expression);
+		}
+
+		@Test
+		void indexIntoMapWithVariable() {
+			Map<String, Integer> map = Map.of("one", 1, "two", 2);
+			StandardEvaluationContext context = new StandardEvaluationContext(map);
+			context.setVariable("key", "one");
+
+			expression = parser.parseExpression("[#key]");
+
+			assertThat(expression.getValue(context)).isEqualTo(1);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(1);
+			context.setVariable("key", "two");
+			assertThat(expression.getValue(context)).isEqualTo(2);
+		}
+
 		@Test
 		void indexIntoPrimitiveCharArray() {
 			char[] chars = { 'a', 'b', 'c' };
@@ -1692,6 +1751,34 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(expression.getValue(root)).isEqualTo(1);
 	}
 
+	@Test
+	void ternaryWithPrimitiveAndBoxedResult() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("flag", false);
+		context.setVariable("value", 42);
+
+		expression = parser.parseExpression("#flag ? 1 : #value");
+		assertThat(expression.getValue(context)).isEqualTo(42);
+		context.setVariable("flag", true);
+		assertThat(expression.getValue(context)).isEqualTo(1);
+		assertCanCompile(expression);
+		assertThat(getAst().getExitDescriptor()).isEqualTo("Ljava/lang/Integer");
+		assertThat(expression.getValue(context)).isEqualTo(1);
+		context.setVariable("flag", false);
+		assertThat(expression.getValue(context)).isEqualTo(42);
+	}
+
+	@Test
+	void methodOnJdkProxy() {
+		PublicGreeter greeter = (PublicGreeter) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {PublicGreeter.class}, (proxy, method, args) -> "Hello " + args[0]);
+
+		expression = parser.parseExpression("greet('Jane')");
+		assertThat(expression.getValue(greeter)).isEqualTo("Hello Jane");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(greeter)).isEqualTo("Hello Jane");
+	}
+
 	@Test
 	void ternaryWithBooleanReturn_SPR12271() {
 		expression = parser.parseExpression("T(Boolean).TRUE?'abc':'def'");
@@ -6075,6 +6162,11 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		}
 	}
 
+	public interface PublicGreeter {
+
+		String greet(String name);
+	}
+
 	public static class FooObjectHolder {
 
 		private FooObject foo = new FooObject();
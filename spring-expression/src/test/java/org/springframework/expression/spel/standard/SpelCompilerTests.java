@@ -23,12 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.Ordered;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
 import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsCompiled;
+import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsNotCompiled;
 
 /**
  * Tests for the {@link SpelCompiler}.
@@ -77,6 +81,61 @@ class SpelCompilerTests {
 		assertThat(expression.getValue(context)).asInstanceOf(BOOLEAN).isTrue();
 	}
 
+	@Test
+	void compilationThresholdInMixedMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null, 3);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+
+		OrderedComponent component = new OrderedComponent();
+		SpelExpression expression = parser.parseRaw("order");
+
+		IntStream.rangeClosed(1, 3).forEach(i -> assertThat(expression.getValue(component)).isEqualTo(42));
+		assertIsNotCompiled(expression);
+		assertThat(expression.getValue(component)).isEqualTo(42);
+		assertIsCompiled(expression);
+		assertThat(expression.getValue(component)).isEqualTo(42);
+	}
+
+	@Test
+	void stringConcatenationWithChangedOperandTypesInMixedMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null, 1);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		SpelExpression expression = parser.parseRaw("#a + #b");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+
+		context.setVariable("a", "1");
+		context.setVariable("b", "2");
+		assertThat(expression.getValue(context)).isEqualTo("12");
+		assertThat(expression.getValue(context)).isEqualTo("12");
+		assertIsCompiled(expression);
+
+		context.setVariable("a", 1);
+		context.setVariable("b", 2);
+		assertThat(expression.getValue(context)).isEqualTo(3);
+	}
+
+	@Test
+	void compiledStringConcatenationChecksMaximumLength() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		SpelExpression expression = parser.parseRaw("#a + #b");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+
+		context.setVariable("a", "a");
+		context.setVariable("b", "b");
+		assertThat(expression.getValue(context)).isEqualTo("ab");
+		assertThat(expression.getValue(context)).isEqualTo("ab");
+		assertIsCompiled(expression);
+
+		context.setVariable("a", "a".repeat(60_000));
+		context.setVariable("b", "b".repeat(60_000));
+		assertThatExceptionOfType(SpelEvaluationException.class)
+				.isThrownBy(() -> expression.getValue(context))
+				.havingCause()
+				.isInstanceOfSatisfying(SpelEvaluationException.class, ex ->
+						assertThat(ex.getMessageCode()).isEqualTo(SpelMessage.MAX_CONCATENATED_STRING_LENGTH_EXCEEDED));
+	}
+
 	@Test  // gh-28043
 	void changingRegisteredVariableTypeDoesNotResultInFailureInMixedMode() {
 		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null);
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.datasource.lookup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * DataSource that routes connections for read-only transactions to one of
+ * several read replicas, and all other connections to a primary DataSource.
+ * A transaction counts as read-only if
+ * {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()}
+ * returns {@code true}, typically through {@code @Transactional(readOnly = true)}.
+ *
+ * <p>Replicas are load-balanced by least outstanding requests: each replica
+ * connection is counted from its retrieval until it is closed, and a new
+ * read-only connection is obtained from the available replica with the fewest
+ * open connections. A replica that fails to provide a connection is ejected for
+ * the configured {@link #setEjectionDuration ejection duration}, with the next
+ * available replica being tried instead. If no replica is available, the
+ * primary DataSource serves the read-only connection as well.
+ *
+ * <p>Since replicas usually lag behind the primary, a read-only transaction
+ * right after a write may not see that write yet. A
+ * {@link #setReadYourWritesDuration read-your-writes duration} pins the current
+ * thread to the primary DataSource for the given time after it obtained a
+ * connection within a read-write transaction.
+ *
+ * <p><b>NOTE:</b> Transaction managers such as
+ * {@link org.springframework.jdbc.datasource.DataSourceTransactionManager}
+ * obtain their connection before the read-only flag of a new transaction is
+ * exposed. This router therefore needs to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * with the transaction manager operating on that proxy, so that the actual
+ * connection is only retrieved once the transaction has been set up:
+ *
+ * <pre class="code">
+ * ReadReplicaRoutingDataSource router = new ReadReplicaRoutingDataSource();
+ * router.setPrimaryDataSource(primaryDataSource);
+ * router.setReplicaDataSources(List.of(replicaDataSource1, replicaDataSource2));
+ * router.afterPropertiesSet();
+ * DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+ * DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);</pre>
+ *
+ * @since 6.2
+ * @see #setPrimaryDataSource
+ * @see #setReplicaDataSources
+ * @see org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+ * @see org.springframework.transaction.support.TransactionSynchronizationManager#isCurrentTransactionReadOnly()
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean {
+
+	@Nullable
+	private DataSource primaryDataSource;
+
+	private List<Replica> replicas = List.of();
+
+	private long readYourWritesNanos;
+
+	private long ejectionNanos = Duration.ofSeconds(30).toNanos();
+
+	private final ThreadLocal<Long> primaryPinnedUntil = new NamedThreadLocal<>("Primary DataSource pinning");
+
+	private final AtomicInteger replicaOffset = new AtomicInteger();
+
+
+	/**
+	 * Specify the primary DataSource, serving all connections outside of
+	 * read-only transactions.
+	 */
+	public void setPrimaryDataSource(DataSource primaryDataSource) {
+		this.primaryDataSource = primaryDataSource;
+	}
+
+	/**
+	 * Return the primary DataSource, if any.
+	 */
+	@Nullable
+	public DataSource getPrimaryDataSource() {
+		return this.primaryDataSource;
+	}
+
+	/**
+	 * Specify the replica DataSources to serve connections for read-only
+	 * transactions from.
+	 * <p>Default is none, routing all connections to the primary DataSource.
+	 */
+	public void setReplicaDataSources(List<DataSource> replicaDataSources) {
+		List<Replica> replicas = new ArrayList<>(replicaDataSources.size());
+		for (DataSource dataSource : replicaDataSources) {
+			Assert.notNull(dataSource, "Replica DataSource must not be null");
+			replicas.add(new Replica(dataSource));
+		}
+		this.replicas = List.copyOf(replicas);
+	}
+
+	/**
+	 * Specify for how long a thread keeps using the primary DataSource for
+	 * read-only transactions after it obtained a connection within a read-write
+	 * transaction, so that it reads its own writes despite replication lag.
+	 * <p>Default is {@link Duration#ZERO}, not pinning to the primary at all.
+	 * A common choice is the maximum replication lag tolerated for the replicas.
+	 */
+	public void setReadYourWritesDuration(Duration readYourWritesDuration) {
+		Assert.isTrue(!readYourWritesDuration.isNegative(), "Read-your-writes duration must not be negative");
+		this.readYourWritesNanos = readYourWritesDuration.toNanos();
+	}
+
+	/**
+	 * Specify for how long a replica is ejected from load balancing after it
+	 * failed to provide a connection. Once the duration has elapsed, the replica
+	 * is tried again for the next read-only connection.
+	 * <p>Default is 30 seconds.
+	 */
+	public void setEjectionDuration(Duration ejectionDuration) {
+		Assert.isTrue(!ejectionDuration.isNegative(), "Ejection duration must not be negative");
+		this.ejectionNanos = ejectionDuration.toNanos();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(this.primaryDataSource, "Property 'primaryDataSource' is required");
+	}
+
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return determineConnection(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return determineConnection(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return (T) this;
+		}
+		return obtainPrimaryDataSource().unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return (iface.isInstance(this) || obtainPrimaryDataSource().isWrapperFor(iface));
+	}
+
+
+	/**
+	 * Obtain a connection from a replica for a read-only transaction,
+	 * or from the primary DataSource otherwise.
+	 */
+	private Connection determineConnection(ConnectionSupplier supplier) throws SQLException {
+		DataSource primaryDataSource = obtainPrimaryDataSource();
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (!this.replicas.isEmpty() && !isPinnedToPrimary()) {
+				Connection con = getReplicaConnection(supplier);
+				if (con != null) {
+					return con;
+				}
+			}
+		}
+		else if (this.readYourWritesNanos > 0 && TransactionSynchronizationManager.isActualTransactionActive()) {
+			this.primaryPinnedUntil.set(System.nanoTime() + this.readYourWritesNanos);
+		}
+		return supplier.getConnection(primaryDataSource);
+	}
+
+	private boolean isPinnedToPrimary() {
+		Long pinnedUntil = this.primaryPinnedUntil.get();
+		if (pinnedUntil == null) {
+			return false;
+		}
+		if (System.nanoTime() - pinnedUntil < 0) {
+			return true;
+		}
+		this.primaryPinnedUntil.remove();
+		return false;
+	}
+
+	/**
+	 * Obtain a connection from the available replica with the least outstanding
+	 * requests, trying further replicas in case of failure.
+	 * @return the replica connection, or {@code null} if no replica is available
+	 */
+	@Nullable
+	private Connection getReplicaConnection(ConnectionSupplier supplier) {
+		List<Replica> replicas = this.replicas;
+		int size = replicas.size();
+		// Rotate the starting point so that ties are spread across replicas.
+		int offset = Math.floorMod(this.replicaOffset.getAndIncrement(), size);
+		boolean[] attempted = new boolean[size];
+		for (int attempt = 0; attempt < size; attempt++) {
+			long now = System.nanoTime();
+			int selected = -1;
+			int selectedOutstanding = Integer.MAX_VALUE;
+			for (int i = 0; i < size; i++) {
+				int index = (offset + i) % size;
+				Replica replica = replicas.get(index);
+				if (!attempted[index] && replica.isAvailable(now)) {
+					int outstanding = replica.outstanding.get();
+					if (outstanding < selectedOutstanding) {
+						selected = index;
+						selectedOutstanding = outstanding;
+					}
+				}
+			}
+			if (selected == -1) {
+				break;
+			}
+			attempted[selected] = true;
+			Replica replica = replicas.get(selected);
+			replica.outstanding.incrementAndGet();
+			try {
+				Connection con = supplier.getConnection(replica.dataSource);
+				return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+						new Class<?>[] {ConnectionProxy.class}, new ReplicaConnectionInvocationHandler(con, replica));
+			}
+			catch (SQLException | RuntimeException ex) {
+				replica.outstanding.decrementAndGet();
+				replica.eject(System.nanoTime() + this.ejectionNanos);
+				if (logger.isWarnEnabled()) {
+					logger.warn("Ejecting replica DataSource [" + replica.dataSource + "] for " +
+							Duration.ofNanos(this.ejectionNanos) + " after failure to obtain connection", ex);
+				}
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("No replica DataSource available - falling back to primary DataSource");
+		}
+		return null;
+	}
+
+	private DataSource obtainPrimaryDataSource() {
+		DataSource primaryDataSource = this.primaryDataSource;
+		Assert.state(primaryDataSource != null, "No primary DataSource set");
+		return primaryDataSource;
+	}
+
+
+	@FunctionalInterface
+	private interface ConnectionSupplier {
+
+		Connection getConnection(DataSource dataSource) throws SQLException;
+	}
+
+
+	/**
+	 * Load balancing and health state of a replica DataSource.
+	 */
+	private static class Replica {
+
+		final DataSource dataSource;
+
+		final AtomicInteger outstanding = new AtomicInteger();
+
+		private volatile boolean ejected;
+
+		private volatile long ejectedUntil;
+
+		Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		boolean isAvailable(long now) {
+			return (!this.ejected || now - this.ejectedUntil >= 0);
+		}
+
+		void eject(long until) {
+			this.ejectedUntil = until;
+			this.ejected = true;
+		}
+	}
+
+
+	/**
+	 * Invocation handler that releases the outstanding request count of a
+	 * replica when the replica connection is closed.
+	 */
+	private static class ReplicaConnectionInvocationHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		private final Replica replica;
+
+		private boolean closed;
+
+		ReplicaConnectionInvocationHandler(Connection target, Replica replica) {
+			this.target = target;
+			this.replica = replica;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			// Invocation on ConnectionProxy interface coming in...
+
+			switch (method.getName()) {
+				case "equals" -> {
+					// Only consider equal when proxies are identical.
+					return (proxy == args[0]);
+				}
+				case "hashCode" -> {
+					// Use hashCode of Connection proxy.
+					return System.identityHashCode(proxy);
+				}
+				case "close" -> {
+					// Release the outstanding request once, then close the target.
+					if (!this.closed) {
+						this.closed = true;
+						this.replica.outstanding.decrementAndGet();
+					}
+				}
+				case "getTargetConnection" -> {
+					// Handle getTargetConnection method: return underlying Connection.
+					return this.target;
+				}
+				case "unwrap" -> {
+					return (((Class<?>) args[0]).isInstance(proxy) ? proxy : this.target.unwrap((Class<?>) args[0]));
+				}
+				case "isWrapperFor" -> {
+					return (((Class<?>) args[0]).isInstance(proxy) || this.target.isWrapperFor((Class<?>) args[0]));
+				}
+			}
+
+			try {
+				// Invoke method on target Connection.
+				return method.invoke(this.target, args);
+			}
+			catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.support.lock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.support.ScheduledLockStore;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ScheduledLockStore} implementation based on a database table,
+ * accessed through a {@link JdbcTemplate}.
+ *
+ * <p>Each lock is represented by a row, which is inserted on the first
+ * acquisition of the lock and updated afterwards. The table needs to be
+ * created upfront, for example:
+ *
+ * <pre class="code">
+ * CREATE TABLE SCHEDULED_LOCK (
+ *   LOCK_NAME VARCHAR(200) NOT NULL PRIMARY KEY,
+ *   LOCK_OWNER VARCHAR(200) NOT NULL,
+ *   LOCKED_AT TIMESTAMP NOT NULL,
+ *   LOCKED_UNTIL TIMESTAMP NOT NULL
+ * )</pre>
+ *
+ * <p>Acquiring, renewing and releasing a lock are each performed as a
+ * conditional statement, relying on the database for atomicity. A released
+ * lock is kept until its minimum hold time since {@code LOCKED_AT} has passed. Timestamps
+ * are stored in UTC, as determined by the {@link #setClock clock} of the
+ * application instance; the clocks of all instances sharing the table are
+ * therefore expected to be reasonably synchronized, with a skew well below
+ * the lease time.
+ *
+ * <p>The statements are meant to run in auto-commit mode, outside any
+ * transaction: on some databases, a failed insert of an already existing
+ * lock would otherwise mark the surrounding transaction as rollback-only.
+ *
+ * @since 6.2
+ * @see org.springframework.scheduling.annotation.ScheduledLock
+ */
+public class JdbcScheduledLockStore implements ScheduledLockStore {
+
+	/** The default name of the lock table: {@value}. */
+	public static final String DEFAULT_TABLE_NAME = "SCHEDULED_LOCK";
+
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private Clock clock = Clock.systemUTC();
+
+	private String acquireSql = "";
+
+	private String insertSql = "";
+
+	private String renewSql = "";
+
+	private String lockedAtSql = "";
+
+	private String releaseSql = "";
+
+
+	/**
+	 * Create a new {@code JdbcScheduledLockStore} for the given {@link DataSource}.
+	 * @param dataSource the DataSource to access the lock table with
+	 */
+	public JdbcScheduledLockStore(DataSource dataSource) {
+		this(new JdbcTemplate(dataSource));
+	}
+
+	/**
+	 * Create a new {@code JdbcScheduledLockStore} for the given {@link JdbcTemplate}.
+	 * @param jdbcTemplate the JdbcTemplate to access the lock table with
+	 */
+	public JdbcScheduledLockStore(JdbcTemplate jdbcTemplate) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		this.jdbcTemplate = jdbcTemplate;
+		setTableName(DEFAULT_TABLE_NAME);
+	}
+
+
+	/**
+	 * Set the name of the lock table, possibly qualified with a schema name.
+	 * <p>Default is {@value #DEFAULT_TABLE_NAME}.
+	 */
+	public void setTableName(String tableName) {
+		Assert.hasText(tableName, "Table name must not be empty");
+		this.acquireSql = "UPDATE " + tableName + " SET LOCK_OWNER = ?, LOCKED_AT = ?, LOCKED_UNTIL = ? " +
+				"WHERE LOCK_NAME = ? AND LOCKED_UNTIL <= ?";
+		this.insertSql = "INSERT INTO " + tableName + " (LOCK_NAME, LOCK_OWNER, LOCKED_AT, LOCKED_UNTIL) " +
+				"VALUES (?, ?, ?, ?)";
+		this.renewSql = "UPDATE " + tableName + " SET LOCKED_UNTIL = ? " +
+				"WHERE LOCK_NAME = ? AND LOCK_OWNER = ? AND LOCKED_UNTIL > ?";
+		this.lockedAtSql = "SELECT LOCKED_AT FROM " + tableName + " WHERE LOCK_NAME = ? AND LOCK_OWNER = ?";
+		this.releaseSql = "UPDATE " + tableName + " SET LOCKED_UNTIL = ? " +
+				"WHERE LOCK_NAME = ? AND LOCK_OWNER = ? AND LOCKED_UNTIL > ?";
+	}
+
+	/**
+	 * Set the clock to determine the current time with.
+	 * <p>Default is {@link Clock#systemUTC()}.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the JdbcTemplate that this lock store operates on.
+	 */
+	public final JdbcTemplate getJdbcTemplate() {
+		return this.jdbcTemplate;
+	}
+
+
+	@Override
+	public boolean tryAcquire(String lockName, String owner, Duration leaseTime) {
+		Instant now = this.clock.instant();
+		LocalDateTime lockedAt = toTimestamp(now);
+		LocalDateTime lockedUntil = toTimestamp(now.plus(leaseTime));
+		if (this.jdbcTemplate.update(this.acquireSql, owner, lockedAt, lockedUntil, lockName, lockedAt) > 0) {
+			return true;
+		}
+		try {
+			return (this.jdbcTemplate.update(this.insertSql, lockName, owner, lockedAt, lockedUntil) > 0);
+		}
+		catch (DuplicateKeyException ex) {
+			// Lock row exists and is held by another owner
+			return false;
+		}
+	}
+
+	@Override
+	public boolean renew(String lockName, String owner, Duration leaseTime) {
+		Instant now = this.clock.instant();
+		return (this.jdbcTemplate.update(this.renewSql,
+				toTimestamp(now.plus(leaseTime)), lockName, owner, toTimestamp(now)) > 0);
+	}
+
+	@Override
+	public void release(String lockName, String owner, Duration lockAtLeastFor) {
+		List<LocalDateTime> lockedAt = this.jdbcTemplate.queryForList(
+				this.lockedAtSql, LocalDateTime.class, lockName, owner);
+		if (lockedAt.isEmpty()) {
+			return;
+		}
+		// Owners are unique per execution: if the lock has been taken over
+		// in the meantime, the update below does not match anymore
+		LocalDateTime now = toTimestamp(this.clock.instant());
+		LocalDateTime heldUntil = lockedAt.get(0).plus(lockAtLeastFor);
+		this.jdbcTemplate.update(this.releaseSql, (heldUntil.isAfter(now) ? heldUntil : now), lockName, owner, now);
+	}
+
+	private static LocalDateTime toTimestamp(Instant instant) {
+		return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+	}
+
+}
@@ -0,0 +1,10 @@
+/**
+ * Provides a JDBC-based lock store for coordinating scheduled tasks
+ * across application instances sharing the same database.
+ */
+@NonNullApi
+@NonNullFields
+package org.springframework.jdbc.support.lock;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
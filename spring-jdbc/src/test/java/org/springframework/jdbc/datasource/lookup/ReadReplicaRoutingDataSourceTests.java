@@ -0,0 +1,239 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.datasource.lookup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ReadReplicaRoutingDataSource}, using embedded H2 databases
+ * for the primary and the replicas.
+ */
+class ReadReplicaRoutingDataSourceTests {
+
+	private final EmbeddedDatabase primary = createDatabase("primary");
+
+	private final EmbeddedDatabase replica1 = createDatabase("replica1");
+
+	private final EmbeddedDatabase replica2 = createDatabase("replica2");
+
+	private final ReadReplicaRoutingDataSource router = new ReadReplicaRoutingDataSource();
+
+
+	ReadReplicaRoutingDataSourceTests() {
+		this.router.setPrimaryDataSource(this.primary);
+		this.router.setReplicaDataSources(List.of(this.replica1, this.replica2));
+		this.router.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.primary.shutdown();
+		this.replica1.shutdown();
+		this.replica2.shutdown();
+	}
+
+
+	@Test
+	void readOnlyTransactionUsesReplica() {
+		DataSource dataSource = new LazyConnectionDataSourceProxy(this.router);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		assertThat(createTransactionTemplate(dataSource, true).execute(status ->
+				queryDatabaseName(jdbcTemplate))).startsWith("replica");
+	}
+
+	@Test
+	void readWriteTransactionUsesPrimary() {
+		DataSource dataSource = new LazyConnectionDataSourceProxy(this.router);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		assertThat(createTransactionTemplate(dataSource, false).execute(status ->
+				queryDatabaseName(jdbcTemplate))).isEqualTo("primary");
+	}
+
+	@Test
+	void nonTransactionalAccessUsesPrimary() {
+		assertThat(queryDatabaseName(new JdbcTemplate(this.router))).isEqualTo("primary");
+	}
+
+	@Test
+	void replicaWithLeastOutstandingRequestsSelected() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try (Connection con1 = this.router.getConnection()) {
+			String first = databaseName(con1);
+			String second;
+			try (Connection con2 = this.router.getConnection()) {
+				second = databaseName(con2);
+				assertThat(second).isNotEqualTo(first);
+			}
+			for (int i = 0; i < 3; i++) {
+				try (Connection con = this.router.getConnection()) {
+					assertThat(databaseName(con)).isEqualTo(second);
+				}
+			}
+		}
+		finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+	}
+
+	@Test
+	void replicaConnectionExposesTarget() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try (Connection con = this.router.getConnection()) {
+			assertThat(con).isInstanceOf(ConnectionProxy.class);
+			assertThat(con.unwrap(ConnectionProxy.class)).isSameAs(con);
+			assertThat(((ConnectionProxy) con).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+		}
+		finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+	}
+
+	@Test
+	void readYourWritesPinsToPrimary() {
+		this.router.setReadYourWritesDuration(Duration.ofMinutes(1));
+		DataSource dataSource = new LazyConnectionDataSourceProxy(this.router);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		createTransactionTemplate(dataSource, true).executeWithoutResult(status ->
+				assertThat(queryDatabaseName(jdbcTemplate)).startsWith("replica"));
+		createTransactionTemplate(dataSource, false).executeWithoutResult(status ->
+				jdbcTemplate.update("UPDATE DB_INFO SET NAME = 'primary2'"));
+		createTransactionTemplate(dataSource, true).executeWithoutResult(status ->
+				assertThat(queryDatabaseName(jdbcTemplate)).isEqualTo("primary2"));
+	}
+
+	@Test
+	void readYourWritesPinningExpires() throws InterruptedException {
+		this.router.setReadYourWritesDuration(Duration.ofMillis(50));
+		DataSource dataSource = new LazyConnectionDataSourceProxy(this.router);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		createTransactionTemplate(dataSource, false).executeWithoutResult(status ->
+				jdbcTemplate.update("UPDATE DB_INFO SET NAME = 'primary2'"));
+		Thread.sleep(100);
+		createTransactionTemplate(dataSource, true).executeWithoutResult(status ->
+				assertThat(queryDatabaseName(jdbcTemplate)).startsWith("replica"));
+	}
+
+	@Test
+	void failingReplicaEjected() throws SQLException {
+		DataSource failingReplica = mock();
+		given(failingReplica.getConnection()).willThrow(new SQLException("Replica down"));
+		this.router.setReplicaDataSources(List.of(failingReplica, this.replica1));
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			for (int i = 0; i < 4; i++) {
+				try (Connection con = this.router.getConnection()) {
+					assertThat(databaseName(con)).isEqualTo("replica1");
+				}
+			}
+		}
+		finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+		verify(failingReplica, times(1)).getConnection();
+	}
+
+	@Test
+	void ejectedReplicaRetriedAfterEjectionDuration() throws Exception {
+		DataSource failingReplica = mock();
+		given(failingReplica.getConnection()).willThrow(new SQLException("Replica down"));
+		this.router.setReplicaDataSources(List.of(failingReplica));
+		this.router.setEjectionDuration(Duration.ofMillis(50));
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			try (Connection con = this.router.getConnection()) {
+				assertThat(databaseName(con)).isEqualTo("primary");
+			}
+			try (Connection con = this.router.getConnection()) {
+				assertThat(databaseName(con)).isEqualTo("primary");
+			}
+			verify(failingReplica, times(1)).getConnection();
+			Thread.sleep(100);
+			try (Connection con = this.router.getConnection()) {
+				assertThat(databaseName(con)).isEqualTo("primary");
+			}
+			verify(failingReplica, times(2)).getConnection();
+		}
+		finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+	}
+
+	@Test
+	void negativeDurationsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.router.setReadYourWritesDuration(Duration.ofSeconds(-1)));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.router.setEjectionDuration(Duration.ofSeconds(-1)));
+	}
+
+
+	private static TransactionTemplate createTransactionTemplate(DataSource dataSource, boolean readOnly) {
+		TransactionTemplate tt = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		tt.setReadOnly(readOnly);
+		return tt;
+	}
+
+	private static String queryDatabaseName(JdbcTemplate jdbcTemplate) {
+		return jdbcTemplate.queryForObject("SELECT NAME FROM DB_INFO", String.class);
+	}
+
+	private static String databaseName(Connection con) throws SQLException {
+		try (Statement stmt = con.createStatement(); ResultSet rs = stmt.executeQuery("SELECT NAME FROM DB_INFO")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+
+	private static EmbeddedDatabase createDatabase(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE DB_INFO (NAME VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO DB_INFO VALUES (?)", name);
+		return database;
+	}
+
+}
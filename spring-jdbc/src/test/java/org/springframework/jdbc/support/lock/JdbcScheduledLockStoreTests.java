@@ -0,0 +1,171 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.support.lock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link JdbcScheduledLockStore}.
+ */
+class JdbcScheduledLockStoreTests {
+
+	private static final Duration LEASE_TIME = Duration.ofSeconds(30);
+
+	private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+
+	private EmbeddedDatabase database;
+
+	private JdbcScheduledLockStore lockStore;
+
+
+	@AfterEach
+	void shutdown() {
+		this.database.shutdown();
+	}
+
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireFreeLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		assertThat(this.lockStore.getJdbcTemplate().queryForObject(
+				"SELECT LOCK_OWNER FROM SCHEDULED_LOCK WHERE LOCK_NAME = 'task'", String.class)).isEqualTo("owner1");
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireHeldLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isFalse();
+		assertThat(this.lockStore.tryAcquire("otherTask", "owner2", LEASE_TIME)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireReleasedLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.release("task", "owner1", Duration.ZERO);
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireExpiredLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plus(LEASE_TIME).minusSeconds(1), ZoneOffset.UTC));
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isFalse();
+		this.lockStore.setClock(Clock.fixed(NOW.plus(LEASE_TIME), ZoneOffset.UTC));
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void renewHeldLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plusSeconds(20), ZoneOffset.UTC));
+		assertThat(this.lockStore.renew("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plus(LEASE_TIME), ZoneOffset.UTC));
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void renewLockHeldByOtherOwner(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		assertThat(this.lockStore.renew("task", "owner2", LEASE_TIME)).isFalse();
+		assertThat(this.lockStore.renew("otherTask", "owner1", LEASE_TIME)).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void renewExpiredLock(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plus(LEASE_TIME), ZoneOffset.UTC));
+		assertThat(this.lockStore.renew("task", "owner1", LEASE_TIME)).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void releaseLockHeldByOtherOwner(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.release("task", "owner2", Duration.ZERO);
+		assertThat(this.lockStore.tryAcquire("task", "owner2", LEASE_TIME)).isFalse();
+		assertThat(this.lockStore.renew("task", "owner1", LEASE_TIME)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireLockReleasedWithinMinimumHoldTime(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		JdbcScheduledLockStore otherLockStore = new JdbcScheduledLockStore(this.database);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plusMillis(200), ZoneOffset.UTC));
+		this.lockStore.release("task", "owner1", Duration.ofSeconds(5));
+
+		otherLockStore.setClock(Clock.fixed(NOW.plusMillis(250), ZoneOffset.UTC));
+		assertThat(otherLockStore.tryAcquire("task", "owner2", LEASE_TIME)).isFalse();
+		otherLockStore.setClock(Clock.fixed(NOW.plusSeconds(5), ZoneOffset.UTC));
+		assertThat(otherLockStore.tryAcquire("task", "owner2", LEASE_TIME)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = {"H2", "HSQL"})
+	void acquireLockReleasedAfterMinimumHoldTime(EmbeddedDatabaseType type) {
+		createLockStore(type, NOW);
+		JdbcScheduledLockStore otherLockStore = new JdbcScheduledLockStore(this.database);
+		assertThat(this.lockStore.tryAcquire("task", "owner1", LEASE_TIME)).isTrue();
+		this.lockStore.setClock(Clock.fixed(NOW.plusSeconds(10), ZoneOffset.UTC));
+		this.lockStore.release("task", "owner1", Duration.ofSeconds(5));
+
+		otherLockStore.setClock(Clock.fixed(NOW.plusSeconds(10), ZoneOffset.UTC));
+		assertThat(otherLockStore.tryAcquire("task", "owner2", LEASE_TIME)).isTrue();
+	}
+
+
+	private void createLockStore(EmbeddedDatabaseType type, Instant now) {
+		this.database = new EmbeddedDatabaseBuilder()
+				.setType(type)
+				.generateUniqueName(true)
+				.addScript("classpath:/org/springframework/jdbc/support/lock/schema.sql")
+				.build();
+		this.lockStore = new JdbcScheduledLockStore(this.database);
+		this.lockStore.setClock(Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+}
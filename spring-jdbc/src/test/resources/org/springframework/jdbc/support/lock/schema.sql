@@ -0,0 +1,6 @@
+CREATE TABLE SCHEDULED_LOCK (
+	LOCK_NAME VARCHAR(200) NOT NULL PRIMARY KEY,
+	LOCK_OWNER VARCHAR(200) NOT NULL,
+	LOCKED_AT TIMESTAMP NOT NULL,
+	LOCKED_UNTIL TIMESTAMP NOT NULL
+);
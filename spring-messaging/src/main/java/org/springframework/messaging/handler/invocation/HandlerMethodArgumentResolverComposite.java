@@ -16,7 +16,9 @@
 
 package org.springframework.messaging.handler.invocation;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.HandlerMethod;
 
 /**
  * Resolves method parameters by delegating to a list of registered
@@ -42,12 +45,15 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<Method, BoundArgumentResolvers> boundArgumentResolvers = new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver resolver) {
 		this.argumentResolvers.add(resolver);
+		this.boundArgumentResolvers.clear();
 		return this;
 	}
 
@@ -60,6 +66,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.boundArgumentResolvers.clear();
 		}
 		return this;
 	}
@@ -72,6 +79,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			this.argumentResolvers.addAll(resolvers);
+			this.boundArgumentResolvers.clear();
 		}
 		return this;
 	}
@@ -89,6 +97,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	public void clear() {
 		this.argumentResolvers.clear();
 		this.argumentResolverCache.clear();
+		this.boundArgumentResolvers.clear();
 	}
 
 
@@ -137,4 +146,40 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return result;
 	}
 
+	/**
+	 * Return the registered resolver for each parameter of the given handler
+	 * method, with {@code null} elements for unsupported parameters.
+	 * <p>The resolvers are cached per handler {@link Method}, rather than looked
+	 * up for each parameter of every message.
+	 * @param handlerMethod the handler method to resolve arguments for
+	 * @since 6.2
+	 */
+	public HandlerMethodArgumentResolver[] getArgumentResolvers(HandlerMethod handlerMethod) {
+		MethodParameter[] parameters = handlerMethod.getMethodParameters();
+		BoundArgumentResolvers bound = this.boundArgumentResolvers.get(handlerMethod.getMethod());
+		if (bound != null && bound.isFor(parameters)) {
+			return bound.resolvers();
+		}
+		HandlerMethodArgumentResolver[] resolvers = new HandlerMethodArgumentResolver[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			resolvers[i] = getArgumentResolver(parameters[i]);
+		}
+		if (bound == null) {
+			this.boundArgumentResolvers.put(handlerMethod.getMethod(), new BoundArgumentResolvers(parameters, resolvers));
+		}
+		return resolvers;
+	}
+
+
+	/**
+	 * The resolvers for the parameters of a handler method.
+	 */
+	private record BoundArgumentResolvers(MethodParameter[] parameters, HandlerMethodArgumentResolver[] resolvers) {
+
+		boolean isFor(MethodParameter[] parameters) {
+			// Copies of a handler method share its parameters
+			return (this.parameters == parameters || Arrays.equals(this.parameters, parameters));
+		}
+	}
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.r2dbc.connection;
+
+import java.util.concurrent.TimeUnit;
+
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Benchmark for the latency of acquiring a Connection, running a trivial query
+ * and closing the Connection again, against an in-memory H2 database, with and
+ * without a {@link PooledConnectionFactory} in front of the H2 ConnectionFactory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PooledConnectionFactoryBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"unpooled", "pooled", "pooledWithValidationQuery"})
+		public String mode;
+
+		public ConnectionFactory connectionFactory;
+
+		// Keeps the in-memory database alive in between unpooled connections
+		private Connection keepAlive;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			H2ConnectionFactory h2ConnectionFactory = H2ConnectionFactory.inMemory("pooled-benchmark");
+			this.keepAlive = h2ConnectionFactory.create().block();
+			if (this.mode.startsWith("pooled")) {
+				PooledConnectionFactory pool = new PooledConnectionFactory(h2ConnectionFactory);
+				if (this.mode.equals("pooledWithValidationQuery")) {
+					pool.setValidationQuery("SELECT 1");
+				}
+				this.connectionFactory = pool;
+			}
+			else {
+				this.connectionFactory = h2ConnectionFactory;
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (this.connectionFactory instanceof PooledConnectionFactory pool) {
+				pool.destroy();
+			}
+			Mono.from(this.keepAlive.close()).block();
+		}
+	}
+
+
+	@Benchmark
+	public Integer acquireQueryRelease(BenchmarkState state) {
+		return Mono.usingWhen(state.connectionFactory.create(),
+				connection -> Flux.from(connection.createStatement("SELECT 1").execute())
+						.flatMap(result -> result.map((row, metadata) -> row.get(0, Integer.class)))
+						.next(),
+				Connection::close).block();
+	}
+
+}
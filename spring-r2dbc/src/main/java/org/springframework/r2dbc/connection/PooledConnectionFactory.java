@@ -0,0 +1,713 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.r2dbc.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConnectionFactory} decorator that pools the {@link Connection Connections}
+ * of a target ConnectionFactory. Each acquired Connection is exposed as a proxy
+ * which hands the target Connection back to the pool on {@link Connection#close()},
+ * so that {@link ConnectionFactoryUtils} and {@link R2dbcTransactionManager}
+ * work against this factory as against any other ConnectionFactory.
+ *
+ * <p>The pool allocates up to {@link #setMaxSize maxSize} Connections, with
+ * further acquisitions waiting for a Connection to be released for up to the
+ * {@link #setAcquireTimeout acquire timeout}. Released Connections are kept
+ * idle for reuse, up to {@link #setMaxIdle maxIdle} Connections and for up to
+ * the {@link #setMaxIdleTime maximum idle time}, but never evicting below
+ * {@link #setMinIdle minIdle} Connections. {@link #warmup()} allocates
+ * {@code minIdle} Connections upfront.
+ *
+ * <p>Idle Connections are validated before being handed out again, either
+ * through the {@link #setValidationQuery validation query} or through
+ * {@link Connection#validate(ValidationDepth) local validation}. A released
+ * Connection that is not in auto-commit mode gets its transaction rolled back
+ * and auto-commit restored before it becomes idle.
+ *
+ * <p>The current state of the pool is exposed through {@link #getPoolSize()},
+ * {@link #getActiveCount()}, {@link #getIdleCount()} and
+ * {@link #getPendingAcquireCount()}, for example for gauges in a metrics system.
+ *
+ * <p>Prepared statements are not cached by this pool: R2DBC {@code Statement}
+ * objects are single-use, and statement caching is therefore left to the driver,
+ * where it is typically available as a driver-specific configuration option.
+ *
+ * @since 6.2
+ * @see #create()
+ * @see #destroy()
+ */
+public class PooledConnectionFactory extends DelegatingConnectionFactory implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(PooledConnectionFactory.class);
+
+
+	private int maxSize = 10;
+
+	private int minIdle = 0;
+
+	private int maxIdle = Integer.MAX_VALUE;
+
+	private Duration maxIdleTime = Duration.ofMinutes(30);
+
+	private Duration acquireTimeout = Duration.ofSeconds(30);
+
+	@Nullable
+	private String validationQuery;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+
+	private final Deque<PendingAcquire> pendingAcquires = new ArrayDeque<>();
+
+	private int allocatedCount;
+
+	private int activeCount;
+
+	private boolean closed;
+
+	private final AtomicLong createdCount = new AtomicLong();
+
+
+	/**
+	 * Create a new PooledConnectionFactory for the given target ConnectionFactory.
+	 * @param targetConnectionFactory the target ConnectionFactory to pool Connections for
+	 */
+	public PooledConnectionFactory(ConnectionFactory targetConnectionFactory) {
+		super(targetConnectionFactory);
+	}
+
+
+	/**
+	 * Set the maximum number of Connections allocated by this pool,
+	 * both active and idle.
+	 * <p>Default is 10.
+	 */
+	public void setMaxSize(int maxSize) {
+		Assert.isTrue(maxSize > 0, "Max size must be greater than 0");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Set the minimum number of idle Connections to keep, not subject to
+	 * eviction after the {@link #setMaxIdleTime maximum idle time}.
+	 * <p>Default is 0.
+	 * @see #warmup()
+	 */
+	public void setMinIdle(int minIdle) {
+		Assert.isTrue(minIdle >= 0, "Min idle must not be negative");
+		this.minIdle = minIdle;
+	}
+
+	/**
+	 * Set the maximum number of idle Connections to keep. Connections released
+	 * beyond this number are closed.
+	 * <p>Default is to keep all released Connections, up to the
+	 * {@link #setMaxSize maximum pool size}.
+	 */
+	public void setMaxIdle(int maxIdle) {
+		Assert.isTrue(maxIdle >= 0, "Max idle must not be negative");
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Set the maximum time for a Connection to remain idle before it is closed.
+	 * <p>Default is 30 minutes. A negative duration keeps idle Connections
+	 * indefinitely.
+	 */
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		Assert.notNull(maxIdleTime, "Max idle time must not be null");
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * Set the maximum time to wait for a Connection if all Connections
+	 * are active, failing the acquisition with an {@link R2dbcTimeoutException}
+	 * once exceeded.
+	 * <p>Default is 30 seconds. {@link Duration#ZERO} waits indefinitely.
+	 */
+	public void setAcquireTimeout(Duration acquireTimeout) {
+		Assert.notNull(acquireTimeout, "Acquire timeout must not be null");
+		Assert.isTrue(!acquireTimeout.isNegative(), "Acquire timeout must not be negative");
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	/**
+	 * Set a query to validate idle Connections with before handing them out,
+	 * for example {@code "SELECT 1"}.
+	 * <p>Default is none, validating idle Connections through
+	 * {@link Connection#validate(ValidationDepth) Connection.validate(LOCAL)}.
+	 */
+	public void setValidationQuery(@Nullable String validationQuery) {
+		this.validationQuery = validationQuery;
+	}
+
+
+	/**
+	 * Return the number of Connections currently allocated by this pool,
+	 * both active and idle.
+	 */
+	public int getPoolSize() {
+		this.lock.lock();
+		try {
+			return this.allocatedCount;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of Connections currently acquired from this pool.
+	 */
+	public int getActiveCount() {
+		this.lock.lock();
+		try {
+			return this.activeCount;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of idle Connections currently held by this pool.
+	 */
+	public int getIdleCount() {
+		this.lock.lock();
+		try {
+			return this.idleConnections.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of acquisitions currently waiting for a Connection.
+	 */
+	public int getPendingAcquireCount() {
+		this.lock.lock();
+		try {
+			return this.pendingAcquires.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the total number of Connections created by this pool
+	 * from the target ConnectionFactory.
+	 */
+	public long getCreatedConnectionCount() {
+		return this.createdCount.get();
+	}
+
+
+	/**
+	 * Acquire a Connection from the pool, reusing an idle Connection or
+	 * creating a new one, or waiting for a Connection to be released if the
+	 * pool is exhausted.
+	 * <p>The returned Connection hands its target Connection back to the pool
+	 * when closed.
+	 */
+	@Override
+	public Mono<Connection> create() {
+		return Mono.<Connection>create(sink -> {
+			PendingAcquire acquire = new PendingAcquire(sink);
+			sink.onCancel(() -> {
+				if (acquire.cancel()) {
+					removePendingAcquire(acquire);
+				}
+			});
+			if (!this.acquireTimeout.isZero()) {
+				acquire.scheduleTimeout(this.acquireTimeout);
+			}
+			this.lock.lock();
+			try {
+				if (!this.closed) {
+					this.pendingAcquires.addLast(acquire);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+			if (!acquire.isDone() && isClosed()) {
+				acquire.fail(new R2dbcNonTransientResourceException("Connection pool has been closed"));
+			}
+			drain();
+		}).doOnDiscard(Connection.class, connection -> Mono.from(connection.close()).subscribe());
+	}
+
+	/**
+	 * Allocate Connections until the pool holds {@link #setMinIdle minIdle}
+	 * Connections.
+	 * @return a Mono emitting the number of Connections created
+	 */
+	public Mono<Integer> warmup() {
+		return Mono.defer(() -> {
+			int count;
+			this.lock.lock();
+			try {
+				count = (this.closed ? 0 : Math.max(0, Math.min(this.minIdle, this.maxSize) - this.allocatedCount));
+				this.allocatedCount += count;
+			}
+			finally {
+				this.lock.unlock();
+			}
+			return Flux.range(0, count)
+					.flatMap(i -> createTargetConnection()
+							.map(connection -> {
+								addIdleConnection(new PooledConnection(connection));
+								return 1;
+							})
+							.onErrorResume(ex -> {
+								logger.warn("Could not create R2DBC Connection for pool warmup", ex);
+								releaseAllocation(false);
+								return Mono.empty();
+							}))
+					.reduce(0, Integer::sum)
+					.doFinally(signal -> drain());
+		});
+	}
+
+	/**
+	 * Close this pool: close all idle Connections, fail all pending acquisitions,
+	 * and close active Connections once they are released.
+	 */
+	public Mono<Void> close() {
+		return Mono.defer(() -> {
+			List<PooledConnection> idle;
+			List<PendingAcquire> pending;
+			this.lock.lock();
+			try {
+				this.closed = true;
+				idle = new ArrayList<>(this.idleConnections);
+				pending = new ArrayList<>(this.pendingAcquires);
+				this.allocatedCount -= this.idleConnections.size();
+				this.idleConnections.clear();
+				this.pendingAcquires.clear();
+			}
+			finally {
+				this.lock.unlock();
+			}
+			for (PendingAcquire acquire : pending) {
+				acquire.fail(new R2dbcNonTransientResourceException("Connection pool has been closed"));
+			}
+			return Flux.fromIterable(idle).flatMap(this::closeConnection).then();
+		});
+	}
+
+	/**
+	 * Close this pool on destruction of the containing bean factory.
+	 * @see #close()
+	 */
+	@Override
+	public void destroy() {
+		close().block();
+	}
+
+
+	/**
+	 * Match pending acquisitions with idle Connections or new Connections,
+	 * evicting expired idle Connections along the way.
+	 */
+	private void drain() {
+		List<PooledConnection> evicted = new ArrayList<>();
+		List<Runnable> actions = new ArrayList<>();
+		this.lock.lock();
+		try {
+			evictIdleConnections(evicted);
+			while (!this.pendingAcquires.isEmpty()) {
+				PendingAcquire acquire = this.pendingAcquires.peekFirst();
+				if (acquire.isDone()) {
+					this.pendingAcquires.pollFirst();
+					continue;
+				}
+				PooledConnection pooled = this.idleConnections.pollFirst();
+				if (pooled != null) {
+					this.pendingAcquires.pollFirst();
+					this.activeCount++;
+					actions.add(() -> validateAndDeliver(pooled, acquire));
+				}
+				else if (this.allocatedCount < this.maxSize) {
+					this.pendingAcquires.pollFirst();
+					this.allocatedCount++;
+					this.activeCount++;
+					actions.add(() -> allocateAndDeliver(acquire));
+				}
+				else {
+					break;
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		for (PooledConnection pooled : evicted) {
+			closeConnection(pooled).subscribe();
+		}
+		actions.forEach(Runnable::run);
+	}
+
+	private void evictIdleConnections(List<PooledConnection> evicted) {
+		if (this.maxIdleTime.isNegative()) {
+			return;
+		}
+		long now = System.nanoTime();
+		long maxIdleNanos = this.maxIdleTime.toNanos();
+		while (this.idleConnections.size() > this.minIdle) {
+			PooledConnection oldest = this.idleConnections.peekLast();
+			if (now - oldest.idleSince < maxIdleNanos) {
+				break;
+			}
+			this.idleConnections.pollLast();
+			this.allocatedCount--;
+			evicted.add(oldest);
+		}
+	}
+
+	private void validateAndDeliver(PooledConnection pooled, PendingAcquire acquire) {
+		validate(pooled.connection).subscribe(valid -> {
+			if (valid) {
+				deliver(pooled, acquire);
+			}
+			else {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Closing invalid idle R2DBC Connection [" + pooled.connection + "]");
+				}
+				releaseAllocation(true);
+				closeConnection(pooled).subscribe();
+				this.lock.lock();
+				try {
+					if (!acquire.isDone()) {
+						this.pendingAcquires.addFirst(acquire);
+					}
+				}
+				finally {
+					this.lock.unlock();
+				}
+				drain();
+			}
+		});
+	}
+
+	private Mono<Boolean> validate(Connection connection) {
+		String validationQuery = this.validationQuery;
+		if (validationQuery != null) {
+			return Flux.defer(() -> connection.createStatement(validationQuery).execute())
+					.flatMap(result -> result.map((row, metadata) -> Boolean.TRUE))
+					.then(Mono.just(Boolean.TRUE))
+					.onErrorReturn(Boolean.FALSE);
+		}
+		return Mono.defer(() -> Mono.from(connection.validate(ValidationDepth.LOCAL)))
+				.defaultIfEmpty(Boolean.FALSE)
+				.onErrorReturn(Boolean.FALSE);
+	}
+
+	private void allocateAndDeliver(PendingAcquire acquire) {
+		createTargetConnection().subscribe(
+				connection -> deliver(new PooledConnection(connection), acquire),
+				ex -> {
+					releaseAllocation(true);
+					acquire.fail(ex);
+					drain();
+				});
+	}
+
+	private Mono<Connection> createTargetConnection() {
+		Mono<Connection> connectionMono = Mono.from(getTargetConnectionFactory().create());
+		return connectionMono
+				.switchIfEmpty(Mono.error(() -> new IllegalStateException("ConnectionFactory returned no Connection")))
+				.doOnNext(connection -> this.createdCount.incrementAndGet());
+	}
+
+	private void deliver(PooledConnection pooled, PendingAcquire acquire) {
+		if (!acquire.complete(pooled)) {
+			// Acquisition cancelled or timed out in the meantime
+			returnToPool(pooled);
+		}
+	}
+
+	/**
+	 * Release the given Connection handed out by this pool, resetting
+	 * a pending transaction before returning it to the pool.
+	 */
+	private Mono<Void> release(PooledConnection pooled) {
+		Connection connection = pooled.connection;
+		Mono<Void> reset = Mono.defer(() -> connection.isAutoCommit() ? Mono.<Void>empty() :
+				Mono.from(connection.rollbackTransaction()).then(Mono.from(connection.setAutoCommit(true))));
+		return reset
+				.then(Mono.<Void>fromRunnable(() -> returnToPool(pooled)))
+				.onErrorResume(ex -> {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Closing R2DBC Connection [" + connection + "] after failed reset", ex);
+					}
+					releaseAllocation(true);
+					return closeConnection(pooled).doFinally(signal -> drain());
+				});
+	}
+
+	private void returnToPool(PooledConnection pooled) {
+		boolean keep;
+		this.lock.lock();
+		try {
+			this.activeCount--;
+			keep = (!this.closed && this.idleConnections.size() < this.maxIdle);
+			if (keep) {
+				pooled.idleSince = System.nanoTime();
+				this.idleConnections.addFirst(pooled);
+			}
+			else {
+				this.allocatedCount--;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (!keep) {
+			closeConnection(pooled).subscribe();
+		}
+		drain();
+	}
+
+	private void addIdleConnection(PooledConnection pooled) {
+		boolean closed;
+		this.lock.lock();
+		try {
+			closed = this.closed;
+			if (closed) {
+				this.allocatedCount--;
+			}
+			else {
+				pooled.idleSince = System.nanoTime();
+				this.idleConnections.addLast(pooled);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (closed) {
+			closeConnection(pooled).subscribe();
+		}
+	}
+
+	private void releaseAllocation(boolean active) {
+		this.lock.lock();
+		try {
+			this.allocatedCount--;
+			if (active) {
+				this.activeCount--;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void removePendingAcquire(PendingAcquire acquire) {
+		this.lock.lock();
+		try {
+			this.pendingAcquires.remove(acquire);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean isClosed() {
+		this.lock.lock();
+		try {
+			return this.closed;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private Mono<Void> closeConnection(PooledConnection pooled) {
+		return Mono.from(pooled.connection.close())
+				.onErrorResume(ex -> {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Could not close R2DBC Connection [" + pooled.connection + "]", ex);
+					}
+					return Mono.empty();
+				});
+	}
+
+
+	private Connection createConnectionProxy(PooledConnection pooled) {
+		return (Connection) Proxy.newProxyInstance(PooledConnectionFactory.class.getClassLoader(),
+				new Class<?>[] {Connection.class, Wrapped.class}, new PooledConnectionInvocationHandler(pooled));
+	}
+
+
+	/**
+	 * A target Connection held by the pool.
+	 */
+	private static final class PooledConnection {
+
+		final Connection connection;
+
+		long idleSince;
+
+		PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+	}
+
+
+	/**
+	 * An acquisition waiting for a Connection, completed at most once.
+	 */
+	private final class PendingAcquire {
+
+		private final MonoSink<Connection> sink;
+
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		@Nullable
+		private volatile Disposable timeout;
+
+		PendingAcquire(MonoSink<Connection> sink) {
+			this.sink = sink;
+		}
+
+		void scheduleTimeout(Duration acquireTimeout) {
+			this.timeout = Schedulers.parallel().schedule(() -> {
+				if (this.done.compareAndSet(false, true)) {
+					removePendingAcquire(this);
+					this.sink.error(new R2dbcTimeoutException(
+							"Connection acquisition timed out after " + acquireTimeout.toMillis() + " ms"));
+				}
+			}, acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		boolean isDone() {
+			return this.done.get();
+		}
+
+		boolean complete(PooledConnection pooled) {
+			if (this.done.compareAndSet(false, true)) {
+				disposeTimeout();
+				this.sink.success(createConnectionProxy(pooled));
+				return true;
+			}
+			return false;
+		}
+
+		void fail(Throwable ex) {
+			if (this.done.compareAndSet(false, true)) {
+				disposeTimeout();
+				this.sink.error(ex);
+			}
+		}
+
+		boolean cancel() {
+			if (this.done.compareAndSet(false, true)) {
+				disposeTimeout();
+				return true;
+			}
+			return false;
+		}
+
+		private void disposeTimeout() {
+			Disposable timeout = this.timeout;
+			if (timeout != null) {
+				timeout.dispose();
+			}
+		}
+	}
+
+
+	/**
+	 * Invocation handler that returns the target Connection to the pool on close,
+	 * rejecting further use of the Connection handle afterwards.
+	 */
+	private class PooledConnectionInvocationHandler implements InvocationHandler {
+
+		private final PooledConnection pooled;
+
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		PooledConnectionInvocationHandler(PooledConnection pooled) {
+			this.pooled = pooled;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			return switch (method.getName()) {
+				// Only consider equal when proxies are identical.
+				case "equals" -> proxy == args[0];
+				// Use hashCode of Connection proxy.
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> "Pooled R2DBC Connection [" + this.pooled.connection + "]";
+				case "unwrap" -> this.pooled.connection;
+				// Handle close method: return the target Connection to the pool.
+				case "close" -> Mono.defer(() ->
+						this.closed.compareAndSet(false, true) ? release(this.pooled) : Mono.empty());
+				default -> {
+					if (this.closed.get()) {
+						throw new IllegalStateException("Connection handle already closed");
+					}
+					try {
+						// Invoke method on target Connection.
+						yield method.invoke(this.pooled.connection, args);
+					}
+					catch (InvocationTargetException ex) {
+						throw ex.getTargetException();
+					}
+				}
+			};
+		}
+	}
+
+}
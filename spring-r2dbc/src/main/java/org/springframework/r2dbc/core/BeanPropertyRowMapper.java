@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,12 @@
 
 package org.springframework.r2dbc.core;
 
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -32,11 +37,15 @@ import io.r2dbc.spi.RowMetadata;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.MethodInvocationException;
 import org.springframework.beans.TypeConverter;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -64,6 +73,13 @@ import org.springframework.util.StringUtils;
  * &mdash; for example, a Java {@code record} or a Kotlin {@code data} class &mdash;
  * use {@link DataClassRowMapper} instead.
  *
+ * <p>The assignment of columns to properties is resolved once per result shape,
+ * that is, per sequence of column names, and reused for subsequent rows of the
+ * same shape. Values of simple value types which match the property type as-is
+ * are set through the setter method directly, unless a custom editor has been
+ * registered for the property, with all other values being bound through a
+ * {@link BeanWrapperImpl} with the configured {@link ConversionService}.
+ *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom mapping function
  * implementation.
@@ -86,6 +102,10 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 	/** Map of the properties we provide mapping for. */
 	private final Map<String, PropertyDescriptor> mappedProperties;
 
+	/** Properties resolved for the most recent result shape. */
+	@Nullable
+	private volatile PropertyMapping propertyMapping;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper}.
@@ -128,6 +148,7 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 	protected void suppressProperty(String propertyName) {
 		this.mappedProperties.remove(lowerCaseName(propertyName));
 		this.mappedProperties.remove(underscoreName(propertyName));
+		this.propertyMapping = null;
 	}
 
 	/**
@@ -192,14 +213,16 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 		T mappedObject = constructMappedInstance(readable, readableMetadatas, bw);
 		bw.setBeanInstance(mappedObject);
 
-		int readableItemCount = readableMetadatas.size();
-		for (int itemIndex = 0; itemIndex < readableItemCount; itemIndex++) {
-			ReadableMetadata itemMetadata = readableMetadatas.get(itemIndex);
-			String itemName = itemMetadata.getName();
-			String property = lowerCaseName(StringUtils.delete(itemName, " "));
-			PropertyDescriptor pd = this.mappedProperties.get(property);
-			if (pd != null) {
-				Object value = getItemValue(readable, itemIndex, pd.getPropertyType());
+		PropertyMapping mapping = getPropertyMapping(readableMetadatas);
+		for (int i = 0; i < mapping.itemIndexes.length; i++) {
+			PropertyDescriptor pd = mapping.properties[i];
+			Object value = getItemValue(readable, mapping.itemIndexes[i], pd.getPropertyType());
+			Method writeMethod = mapping.directWriteMethods[i];
+			if (writeMethod != null && ClassUtils.isAssignableValue(pd.getPropertyType(), value) &&
+					bw.findCustomEditor(pd.getPropertyType(), pd.getName()) == null) {
+				setPropertyValue(mappedObject, pd, writeMethod, value);
+			}
+			else {
 				bw.setPropertyValue(pd.getName(), value);
 			}
 		}
@@ -207,6 +230,37 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 		return mappedObject;
 	}
 
+	private PropertyMapping getPropertyMapping(List<? extends ReadableMetadata> readableMetadatas) {
+		PropertyMapping mapping = this.propertyMapping;
+		if (mapping == null || !mapping.shape.matches(readableMetadatas)) {
+			mapping = new PropertyMapping(readableMetadatas);
+			this.propertyMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private void setPropertyValue(T mappedObject, PropertyDescriptor pd, Method writeMethod, @Nullable Object value) {
+		try {
+			writeMethod.invoke(mappedObject, value);
+		}
+		catch (InvocationTargetException ex) {
+			// Same exceptions as BeanWrapperImpl#setPropertyValue
+			PropertyChangeEvent pce = new PropertyChangeEvent(mappedObject, pd.getName(), null, value);
+			if (ex.getTargetException() instanceof ClassCastException) {
+				throw new TypeMismatchException(pce, pd.getPropertyType(), ex.getTargetException());
+			}
+			Throwable cause = ex.getTargetException();
+			if (cause instanceof UndeclaredThrowableException) {
+				cause = cause.getCause();
+			}
+			throw new MethodInvocationException(pce, cause);
+		}
+		catch (Exception ex) {
+			PropertyChangeEvent pce = new PropertyChangeEvent(mappedObject, pd.getName(), null, value);
+			throw new MethodInvocationException(pce, ex);
+		}
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current {@code Readable}.
 	 * <p>The default implementation simply instantiates the mapped class. Can be
@@ -245,4 +299,85 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 		}
 	}
 
+
+	/**
+	 * The item names of a result shape, for reusing what has been resolved
+	 * for a previous {@code Readable} of the same shape.
+	 */
+	static final class ItemShape {
+
+		private final List<? extends ReadableMetadata> itemMetadatas;
+
+		private final String[] itemNames;
+
+		ItemShape(List<? extends ReadableMetadata> itemMetadatas) {
+			this.itemMetadatas = itemMetadatas;
+			this.itemNames = new String[itemMetadatas.size()];
+			for (int i = 0; i < this.itemNames.length; i++) {
+				this.itemNames[i] = itemMetadatas.get(i).getName();
+			}
+		}
+
+		boolean matches(List<? extends ReadableMetadata> itemMetadatas) {
+			if (itemMetadatas == this.itemMetadatas) {
+				return true;
+			}
+			if (itemMetadatas.size() != this.itemNames.length) {
+				return false;
+			}
+			for (int i = 0; i < this.itemNames.length; i++) {
+				if (!this.itemNames[i].equals(itemMetadatas.get(i).getName())) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
+	/**
+	 * The mapped properties resolved for a result shape, each with the index
+	 * of its item and, for simple value types, the setter method to invoke
+	 * directly with values of matching type.
+	 */
+	private final class PropertyMapping {
+
+		final ItemShape shape;
+
+		final int[] itemIndexes;
+
+		final PropertyDescriptor[] properties;
+
+		final Method[] directWriteMethods;
+
+		PropertyMapping(List<? extends ReadableMetadata> readableMetadatas) {
+			this.shape = new ItemShape(readableMetadatas);
+			int readableItemCount = readableMetadatas.size();
+			int[] itemIndexes = new int[readableItemCount];
+			PropertyDescriptor[] properties = new PropertyDescriptor[readableItemCount];
+			int count = 0;
+			for (int itemIndex = 0; itemIndex < readableItemCount; itemIndex++) {
+				String itemName = readableMetadatas.get(itemIndex).getName();
+				String property = lowerCaseName(StringUtils.delete(itemName, " "));
+				PropertyDescriptor pd = mappedProperties.get(property);
+				if (pd != null) {
+					itemIndexes[count] = itemIndex;
+					properties[count] = pd;
+					count++;
+				}
+			}
+			this.itemIndexes = Arrays.copyOf(itemIndexes, count);
+			this.properties = Arrays.copyOf(properties, count);
+			this.directWriteMethods = new Method[count];
+			for (int i = 0; i < count; i++) {
+				PropertyDescriptor pd = this.properties[i];
+				if (BeanUtils.isSimpleValueType(pd.getPropertyType())) {
+					Method writeMethod = pd.getWriteMethod();
+					ReflectionUtils.makeAccessible(writeMethod);
+					this.directWriteMethods[i] = writeMethod;
+				}
+			}
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,12 +23,15 @@ import io.r2dbc.spi.Readable;
 import io.r2dbc.spi.ReadableMetadata;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyEditorRegistry;
 import org.springframework.beans.TypeConverter;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * Mapping {@code Function} implementation that converts an R2DBC {@link Readable}
@@ -70,6 +73,12 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 
 	private final TypeDescriptor[] constructorParameterTypes;
 
+	private final boolean[] constructorParameterSimple;
+
+	/** Constructor parameter indexes resolved for the most recent result shape. */
+	@Nullable
+	private volatile ConstructorMapping constructorMapping;
+
 
 	/**
 	 * Create a new {@code DataClassRowMapper}.
@@ -90,32 +99,50 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 			suppressProperty(name);
 		}
 		this.constructorParameterTypes = new TypeDescriptor[paramCount];
+		this.constructorParameterSimple = new boolean[paramCount];
 		for (int i = 0; i < paramCount; i++) {
 			this.constructorParameterTypes[i] = new TypeDescriptor(new MethodParameter(this.mappedConstructor, i));
+			this.constructorParameterSimple[i] = BeanUtils.isSimpleValueType(this.constructorParameterTypes[i].getType());
 		}
 	}
 
 
 	@Override
 	protected T constructMappedInstance(Readable readable, List<? extends ReadableMetadata> itemMetadatas, TypeConverter tc) {
-		Object[] args = new Object[this.constructorParameterNames.length];
+		int[] itemIndexes = getConstructorMapping(itemMetadatas).itemIndexes;
+		Object[] args = new Object[itemIndexes.length];
 		for (int i = 0; i < args.length; i++) {
-			String name = this.constructorParameterNames[i];
-			int index = findIndex(itemMetadatas, lowerCaseName(name));
-			if (index == -1) {
-				index = findIndex(itemMetadatas, underscoreName(name));
-			}
-			if (index == -1) {
-				throw new DataRetrievalFailureException(
-						"Unable to map constructor parameter '" + name + "' to a column or out-parameter");
-			}
 			TypeDescriptor td = this.constructorParameterTypes[i];
-			Object value = getItemValue(readable, index, td.getType());
-			args[i] = tc.convertIfNecessary(value, td.getType(), td);
+			Object value = getItemValue(readable, itemIndexes[i], td.getType());
+			args[i] = (this.constructorParameterSimple[i] && ClassUtils.isAssignableValue(td.getType(), value) &&
+					!(tc instanceof PropertyEditorRegistry registry && registry.findCustomEditor(td.getType(), null) != null) ?
+					value : tc.convertIfNecessary(value, td.getType(), td));
 		}
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	private ConstructorMapping getConstructorMapping(List<? extends ReadableMetadata> itemMetadatas) {
+		ConstructorMapping mapping = this.constructorMapping;
+		if (mapping == null || !mapping.shape.matches(itemMetadatas)) {
+			int[] itemIndexes = new int[this.constructorParameterNames.length];
+			for (int i = 0; i < itemIndexes.length; i++) {
+				String name = this.constructorParameterNames[i];
+				int index = findIndex(itemMetadatas, lowerCaseName(name));
+				if (index == -1) {
+					index = findIndex(itemMetadatas, underscoreName(name));
+				}
+				if (index == -1) {
+					throw new DataRetrievalFailureException(
+							"Unable to map constructor parameter '" + name + "' to a column or out-parameter");
+				}
+				itemIndexes[i] = index;
+			}
+			mapping = new ConstructorMapping(new ItemShape(itemMetadatas), itemIndexes);
+			this.constructorMapping = mapping;
+		}
+		return mapping;
+	}
+
 	private int findIndex(List<? extends ReadableMetadata> itemMetadatas, String name) {
 		int index = 0;
 		for (ReadableMetadata itemMetadata : itemMetadatas) {
@@ -128,4 +155,11 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return -1;
 	}
 
+
+	/**
+	 * The item indexes of the constructor parameters resolved for a result shape.
+	 */
+	private record ConstructorMapping(ItemShape shape, int[] itemIndexes) {
+	}
+
 }
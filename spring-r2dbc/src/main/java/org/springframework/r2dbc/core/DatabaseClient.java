@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -210,6 +210,41 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 */
 		GenericExecuteSpec bindProperties(Object source);
 
+		/**
+		 * Bind the parameter values from each of the given source maps as a
+		 * binding set of a batch {@link Statement}, and enter the execution stage.
+		 * <p>Source maps are grouped into batches of up to 256 binding sets,
+		 * each executed as a single {@link Statement} with one binding set per
+		 * source map, through {@link Statement#add()}.
+		 * @param batchSource the source maps of parameters, with keys as names
+		 * and each value either a scalar value or a {@link io.r2dbc.spi.Parameter}
+		 * @since 6.2
+		 * @see #bindBatch(Publisher, int)
+		 */
+		default UpdatedRowsFetchSpec bindBatch(Publisher<? extends Map<String, ?>> batchSource) {
+			return bindBatch(batchSource, 256);
+		}
+
+		/**
+		 * Bind the parameter values from each of the given source maps as a
+		 * binding set of a batch {@link Statement}, and enter the execution stage.
+		 * <p>Source maps are grouped into batches of up to the given size, each
+		 * executed as a single {@link Statement} with one binding set per source
+		 * map, through {@link Statement#add()}. Batches are executed one after
+		 * the other on the same {@link io.r2dbc.spi.Connection}, requesting
+		 * further source maps only as batches complete. Values bound through
+		 * {@link #bind} apply to all binding sets, with the values from the
+		 * source maps taking precedence.
+		 * <p>With named parameter expansion, every source map has to expand to
+		 * the same SQL within a batch: for example, collection values bound to
+		 * the same parameter need to have the same size.
+		 * @param batchSource the source maps of parameters, with keys as names
+		 * and each value either a scalar value or a {@link io.r2dbc.spi.Parameter}
+		 * @param batchSize the maximum number of binding sets per batch
+		 * @since 6.2
+		 */
+		UpdatedRowsFetchSpec bindBatch(Publisher<? extends Map<String, ?>> batchSource, int batchSize);
+
 		/**
 		 * Add the given filter to the end of the filter chain.
 		 * <p>Filter functions are typically used to invoke methods on the Statement
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,7 @@ import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -84,6 +85,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 	@Nullable
 	private final NamedParameterExpander namedParameterExpander;
 
+	private final Map<Class<?>, DataClassRowMapper<?>> rowMapperCache = new ConcurrentReferenceHashMap<>();
+
 
 	DefaultDatabaseClient(BindMarkersFactory bindMarkersFactory, ConnectionFactory connectionFactory,
 			ExecuteFunction executeFunction, boolean namedParameters) {
@@ -201,6 +204,18 @@ final class DefaultDatabaseClient implements DatabaseClient {
 				.collect(Collectors.summingLong(Number::longValue));
 	}
 
+	/**
+	 * Obtain a shared {@link DataClassRowMapper} for the given mapped class,
+	 * reusing its resolved column mapping across queries.
+	 * @param mappedClass the mapped class
+	 * @return the row mapper
+	 */
+	@SuppressWarnings("unchecked")
+	private <R> DataClassRowMapper<R> getRowMapper(Class<R> mappedClass) {
+		return (DataClassRowMapper<R>) this.rowMapperCache.computeIfAbsent(
+				mappedClass, clazz -> new DataClassRowMapper<>(clazz));
+	}
+
 	/**
 	 * Get SQL from a potential provider object.
 	 * @param object an object that is potentially an SqlProvider
@@ -336,6 +351,22 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
 		}
 
+		@Override
+		public UpdatedRowsFetchSpec bindBatch(Publisher<? extends Map<String, ?>> batchSource, int batchSize) {
+			assertNotPreparedOperation();
+			Assert.notNull(batchSource, "Batch source must not be null");
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+
+			return () -> Mono.defer(() -> {
+				String sql = getRequiredSql(this.sqlSupplier);
+				return inConnection(new DelegateConnectionFunction<>(() -> sql, connection ->
+						Flux.from(batchSource)
+								.buffer(batchSize)
+								.concatMap(batch -> executeBatch(connection, sql, batch), 1)
+								.collect(Collectors.summingLong(Long::longValue))));
+			});
+		}
+
 		@Override
 		public DefaultGenericExecuteSpec filter(StatementFilterFunction filter) {
 			Assert.notNull(filter, "StatementFilterFunction must not be null");
@@ -364,7 +395,7 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		@Override
 		public <R> FetchSpec<R> mapProperties(Class<R> mappedClass) {
 			Assert.notNull(mappedClass, "Mapped class must not be null");
-			return execute(this.sqlSupplier, result -> result.map(new DataClassRowMapper<>(mappedClass)));
+			return execute(this.sqlSupplier, result -> result.map(getRowMapper(mappedClass)));
 		}
 
 		@Override
@@ -402,7 +433,7 @@ final class DefaultDatabaseClient implements DatabaseClient {
 
 					List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
 					MapBindParameterSource namedBindings = retrieveParameters(
-							sql, parameterNames, remainderByName, remainderByIndex);
+							sql, parameterNames, this.byName, remainderByName, remainderByIndex);
 
 					PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
 							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
@@ -435,6 +466,72 @@ final class DefaultDatabaseClient implements DatabaseClient {
 					DefaultDatabaseClient.this.executeFunction);
 		}
 
+		private Mono<Long> executeBatch(Connection connection, String sql, List<? extends Map<String, ?>> batch) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing SQL batch statement [" + sql + "] with " + batch.size() + " binding sets");
+			}
+			Statement statement = createBatchStatement(connection, sql, batch);
+			return Flux.from(this.filterFunction.filter(statement, DefaultDatabaseClient.this.executeFunction))
+					.flatMap(Result::getRowsUpdated)
+					.cast(Number.class)
+					.collect(Collectors.summingLong(Number::longValue))
+					.checkpoint("SQL \"" + sql + "\" [DatabaseClient]");
+		}
+
+		private Statement createBatchStatement(Connection connection, String sql, List<? extends Map<String, ?>> batch) {
+			NamedParameterExpander namedParameterExpander = DefaultDatabaseClient.this.namedParameterExpander;
+			List<String> parameterNames = (namedParameterExpander != null ?
+					namedParameterExpander.getParameterNames(sql) : Collections.emptyList());
+
+			Statement statement = null;
+			String statementSql = null;
+			for (Map<String, ?> source : batch) {
+				Map<String, Parameter> byName = new LinkedHashMap<>(this.byName);
+				source.forEach((name, value) -> {
+					Assert.notNull(value, () -> String.format(
+							"Value for parameter %s must not be null. Use a typed Parameter instead.", name));
+					byName.put(name, resolveParameter(value));
+				});
+				Map<String, Parameter> remainderByName = byName;
+				Map<Integer, Parameter> remainderByIndex = this.byIndex;
+				PreparedOperation<String> operation = null;
+				String expanded = sql;
+
+				if (namedParameterExpander != null) {
+					remainderByName = new LinkedHashMap<>(byName);
+					remainderByIndex = new LinkedHashMap<>(this.byIndex);
+					MapBindParameterSource namedBindings = retrieveParameters(
+							sql, parameterNames, byName, remainderByName, remainderByIndex);
+					operation = namedParameterExpander.expand(
+							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
+					expanded = getRequiredSql(operation);
+				}
+
+				if (statement == null) {
+					if (logger.isTraceEnabled() && operation != null) {
+						logger.trace("Expanded SQL [" + expanded + "]");
+					}
+					statement = connection.createStatement(expanded);
+					statementSql = expanded;
+				}
+				else if (expanded.equals(statementSql)) {
+					statement.add();
+				}
+				else {
+					throw new InvalidDataAccessApiUsageException(String.format(
+							"Expanded SQL [%s] differs from [%s] within the same batch", expanded, statementSql));
+				}
+
+				if (operation != null) {
+					operation.bindTo(new StatementWrapper(statement));
+				}
+				bindByName(statement, remainderByName);
+				bindByIndex(statement, remainderByIndex);
+			}
+			Assert.state(statement != null, "Empty batch");
+			return statement;
+		}
+
 		private <T> FetchSpec<T> execute(Supplier<String> sqlSupplier, Function<Result, Publisher<T>> resultAdapter) {
 			ResultFunction resultHandler = getResultFunction(sqlSupplier);
 			return new DefaultFetchSpec<>(DefaultDatabaseClient.this, resultHandler,
@@ -449,11 +546,13 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		private MapBindParameterSource retrieveParameters(String sql, List<String> parameterNames,
-				Map<String, Parameter> remainderByName, Map<Integer, Parameter> remainderByIndex) {
+				Map<String, Parameter> byName, Map<String, Parameter> remainderByName,
+				Map<Integer, Parameter> remainderByIndex) {
 
 			Map<String, Parameter> namedBindings = CollectionUtils.newLinkedHashMap(parameterNames.size());
 			for (String parameterName : parameterNames) {
-				Parameter parameter = getParameter(remainderByName, remainderByIndex, parameterNames, parameterName);
+				Parameter parameter = getParameter(
+						byName, remainderByName, remainderByIndex, parameterNames, parameterName);
 				if (parameter == null) {
 					throw new InvalidDataAccessApiUsageException(
 							String.format("No parameter specified for [%s] in query [%s]", parameterName, sql));
@@ -464,12 +563,12 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		@Nullable
-		private Parameter getParameter(Map<String, Parameter> remainderByName,
+		private Parameter getParameter(Map<String, Parameter> byName, Map<String, Parameter> remainderByName,
 				Map<Integer, Parameter> remainderByIndex, List<String> parameterNames, String parameterName) {
 
-			if (this.byName.containsKey(parameterName)) {
+			if (byName.containsKey(parameterName)) {
 				remainderByName.remove(parameterName);
-				return this.byName.get(parameterName);
+				return byName.get(parameterName);
 			}
 
 			int index = parameterNames.indexOf(parameterName);
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.r2dbc.connection;
+
+import java.time.Duration;
+
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.when;
+
+/**
+ * Tests for {@link PooledConnectionFactory}.
+ */
+class PooledConnectionFactoryTests {
+
+	private final PooledConnectionFactory pool = new PooledConnectionFactory(
+			H2ConnectionFactory.inMemory("pooled-connection-factory"));
+
+
+	@AfterEach
+	void close() {
+		this.pool.destroy();
+	}
+
+
+	@Test
+	void shouldReuseReleasedConnection() {
+		Connection first = this.pool.create().block();
+		Object target = ((Wrapped<?>) first).unwrap();
+		assertThat(this.pool.getActiveCount()).isEqualTo(1);
+
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+		assertThat(this.pool.getActiveCount()).isEqualTo(0);
+		assertThat(this.pool.getIdleCount()).isEqualTo(1);
+
+		Connection second = this.pool.create().block();
+		assertThat(second).isNotSameAs(first);
+		assertThat(((Wrapped<?>) second).unwrap()).isSameAs(target);
+		assertThat(this.pool.getCreatedConnectionCount()).isEqualTo(1);
+		assertThat(this.pool.getPoolSize()).isEqualTo(1);
+
+		Mono.from(second.close()).as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	void shouldRejectUseOfClosedConnectionHandle() {
+		Connection connection = this.pool.create().block();
+		Mono.from(connection.close()).as(StepVerifier::create).verifyComplete();
+		Mono.from(connection.close()).as(StepVerifier::create).verifyComplete();
+
+		assertThat(this.pool.getIdleCount()).isEqualTo(1);
+		assertThatIllegalStateException().isThrownBy(() -> connection.createStatement("SELECT 1"));
+	}
+
+	@Test
+	void shouldWaitForReleasedConnectionIfExhausted() {
+		this.pool.setMaxSize(1);
+		Connection first = this.pool.create().block();
+
+		this.pool.create().as(StepVerifier::create)
+				.then(() -> {
+					assertThat(this.pool.getPendingAcquireCount()).isEqualTo(1);
+					Mono.from(first.close()).subscribe();
+				})
+				.consumeNextWith(connection -> Mono.from(connection.close()).subscribe())
+				.verifyComplete();
+
+		assertThat(this.pool.getCreatedConnectionCount()).isEqualTo(1);
+		assertThat(this.pool.getPendingAcquireCount()).isEqualTo(0);
+	}
+
+	@Test
+	void shouldTimeOutIfExhausted() {
+		this.pool.setMaxSize(1);
+		this.pool.setAcquireTimeout(Duration.ofMillis(50));
+		Connection first = this.pool.create().block();
+
+		this.pool.create().as(StepVerifier::create).verifyError(R2dbcTimeoutException.class);
+		assertThat(this.pool.getPendingAcquireCount()).isEqualTo(0);
+
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+		assertThat(this.pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldReturnConnectionOfCancelledAcquisition() {
+		this.pool.setMaxSize(1);
+		Connection first = this.pool.create().block();
+
+		this.pool.create().as(StepVerifier::create).thenCancel().verify();
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+
+		assertThat(this.pool.getActiveCount()).isEqualTo(0);
+		assertThat(this.pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldEvictIdleConnectionsBeyondMinIdle() {
+		this.pool.setMinIdle(1);
+		this.pool.setMaxIdleTime(Duration.ZERO);
+		this.pool.warmup().as(StepVerifier::create).expectNext(1).verifyComplete();
+
+		Connection first = this.pool.create().block();
+		Connection second = this.pool.create().block();
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+		Mono.from(second.close()).as(StepVerifier::create).verifyComplete();
+
+		assertThat(this.pool.getIdleCount()).isEqualTo(1);
+		assertThat(this.pool.getPoolSize()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldValidateIdleConnectionWithQuery() {
+		this.pool.setValidationQuery("SELECT 1");
+		Connection first = this.pool.create().block();
+		Object target = ((Wrapped<?>) first).unwrap();
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+
+		this.pool.create().as(StepVerifier::create)
+				.consumeNextWith(connection -> {
+					assertThat(((Wrapped<?>) connection).unwrap()).isSameAs(target);
+					Mono.from(connection.close()).subscribe();
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	void shouldCloseInvalidIdleConnection() {
+		Connection invalid = mockConnection(false);
+		Connection valid = mockConnection(true);
+		ConnectionFactory connectionFactory = mock();
+		when(connectionFactory.create()).thenReturn((Mono) Mono.just(invalid), (Mono) Mono.just(valid));
+		PooledConnectionFactory pool = new PooledConnectionFactory(connectionFactory);
+
+		Connection first = pool.create().block();
+		Mono.from(first.close()).as(StepVerifier::create).verifyComplete();
+
+		pool.create().as(StepVerifier::create)
+				.consumeNextWith(connection -> assertThat(((Wrapped<?>) connection).unwrap()).isSameAs(valid))
+				.verifyComplete();
+		verify(invalid).close();
+		assertThat(pool.getPoolSize()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	void shouldRollBackPendingTransactionOnRelease() {
+		Connection target = mockConnection(true);
+		when(target.isAutoCommit()).thenReturn(false);
+		ConnectionFactory connectionFactory = mock();
+		when(connectionFactory.create()).thenReturn((Mono) Mono.just(target));
+		PooledConnectionFactory pool = new PooledConnectionFactory(connectionFactory);
+
+		Connection connection = pool.create().block();
+		Mono.from(connection.close()).as(StepVerifier::create).verifyComplete();
+
+		verify(target).rollbackTransaction();
+		verify(target).setAutoCommit(true);
+		verify(target, never()).close();
+		assertThat(pool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldParticipateInTransactionManagement() {
+		DatabaseClient client = DatabaseClient.create(this.pool);
+		client.sql("CREATE TABLE pooled (id INT)").then().as(StepVerifier::create).verifyComplete();
+		TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(this.pool));
+
+		client.sql("INSERT INTO pooled VALUES (1)").then()
+				.then(client.sql("INSERT INTO pooled VALUES (2)").then())
+				.as(operator::transactional)
+				.as(StepVerifier::create)
+				.verifyComplete();
+
+		client.sql("SELECT COUNT(*) FROM pooled").mapValue(Long.class).one()
+				.as(StepVerifier::create).expectNext(2L).verifyComplete();
+		assertThat(this.pool.getCreatedConnectionCount()).isEqualTo(1);
+		assertThat(this.pool.getActiveCount()).isEqualTo(0);
+	}
+
+	@Test
+	void shouldFailAcquisitionAfterClose() {
+		Connection connection = this.pool.create().block();
+		this.pool.close().as(StepVerifier::create).verifyComplete();
+
+		this.pool.create().as(StepVerifier::create).verifyError(R2dbcNonTransientResourceException.class);
+		Mono.from(connection.close()).as(StepVerifier::create).verifyComplete();
+		assertThat(this.pool.getPoolSize()).isEqualTo(0);
+	}
+
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static Connection mockConnection(boolean valid) {
+		Connection connection = mock();
+		when(connection.isAutoCommit()).thenReturn(true);
+		when(connection.validate(ValidationDepth.LOCAL)).thenReturn((Mono) Mono.just(valid));
+		when(connection.rollbackTransaction()).thenReturn((Mono) Mono.empty());
+		when(connection.setAutoCommit(true)).thenReturn((Mono) Mono.empty());
+		when(connection.close()).thenReturn((Mono) Mono.empty());
+		return connection;
+	}
+
+}
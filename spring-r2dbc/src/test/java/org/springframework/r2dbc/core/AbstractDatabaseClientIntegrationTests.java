@@ -136,6 +136,28 @@ abstract class AbstractDatabaseClientIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void executeBatchInsert() {
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		Flux<Map<String, Object>> batchSource = Flux.range(1, 5).map(id ->
+				Map.of("id", id, "name", "SET" + id, "manual", Parameters.in(Integer.class)));
+
+		databaseClient.sql("INSERT INTO legoset (id, name, manual) VALUES(:id, :name, :manual)")
+				.bindBatch(batchSource, 2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(5L)
+				.verifyComplete();
+
+		databaseClient.sql("SELECT name FROM legoset ORDER BY id")
+				.mapValue(String.class)
+				.all()
+				.as(StepVerifier::create)
+				.expectNext("SET1", "SET2", "SET3", "SET4", "SET5")
+				.verifyComplete();
+	}
+
 	@Test
 	void shouldTranslateDuplicateKeyException() {
 		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
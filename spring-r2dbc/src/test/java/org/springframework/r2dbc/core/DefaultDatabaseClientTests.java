@@ -18,6 +18,7 @@ package org.springframework.r2dbc.core;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.Connection;
@@ -43,6 +44,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.r2dbc.core.binding.BindTarget;
@@ -253,6 +255,47 @@ class DefaultDatabaseClientTests {
 		verify(statement).bind(0, Parameters.in("foo"));
 	}
 
+	@Test
+	void bindBatchShouldAddBindingSetsPerBatch() {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+		Statement statement = mockStatementFor("INSERT INTO person (name, age) VALUES ($1, $2)", result);
+
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO person (name, age) VALUES (:name, :age)")
+				.bind("age", 42)
+				.bindBatch(Flux.just(Map.of("name", "Walter"), Map.of("name", "Jesse"),
+						Map.of("name", "Skyler", "age", 40)), 2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(2L)
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(statement);
+		inOrder.verify(statement).bind(0, Parameters.in("Walter"));
+		inOrder.verify(statement).bind(1, Parameters.in(42));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in("Jesse"));
+		inOrder.verify(statement).bind(1, Parameters.in(42));
+		inOrder.verify(statement).execute();
+		inOrder.verify(statement).bind(0, Parameters.in("Skyler"));
+		inOrder.verify(statement).bind(1, Parameters.in(40));
+		inOrder.verify(statement).execute();
+		verify(statement, times(1)).add();
+	}
+
+	@Test
+	void bindBatchShouldRejectDifferentExpansionWithinBatch() {
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("SELECT * FROM person WHERE id IN (:ids)")
+				.bindBatch(Flux.just(Map.of("ids", List.of(1, 2)), Map.of("ids", List.of(3))))
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void rowsUpdatedShouldEmitSingleValue() {
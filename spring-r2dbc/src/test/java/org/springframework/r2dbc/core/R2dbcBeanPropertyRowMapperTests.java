@@ -16,7 +16,11 @@
 
 package org.springframework.r2dbc.core;
 
+import java.beans.PropertyEditorSupport;
+import java.util.List;
+
 import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.ReadableMetadata;
 import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockOutParameters;
 import io.r2dbc.spi.test.MockRow;
@@ -26,6 +30,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +106,56 @@ class R2dbcBeanPropertyRowMapperTests {
 						+ "'java.lang.String' for property 'address'; simulating type mismatch for address");
 	}
 
+	@Test
+	void mappingRowsWithDifferentShapes() {
+		BeanPropertyRowMapper<ExtendedPerson> mapper = new BeanPropertyRowMapper<>(ExtendedPerson.class);
+
+		ExtendedPerson extended = mapper.apply(EXTENDED_PERSON_ROW);
+		assertThat(extended.address).as("address").isEqualTo("123 Sesame Street");
+
+		ExtendedPerson reordered = mapper.apply(REORDERED_PERSON_ROW);
+		assertThat(reordered.firstName).as("firstName").isEqualTo("John");
+		assertThat(reordered.lastName).as("lastName").isEqualTo("Doe");
+		assertThat(reordered.age).as("age").isEqualTo(30);
+		assertThat(reordered.address).as("address").isNull();
+
+		ExtendedPerson simple = mapper.apply(SIMPLE_PERSON_ROW);
+		assertThat(simple.firstName).as("firstName").isEqualTo("John");
+		assertThat(simple.address).as("address").isNull();
+	}
+
+	@Test
+	void mappingRowWithConversion() {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+
+		Person result = mapper.apply(STRING_AGE_PERSON_ROW);
+
+		assertThat(result.firstName).as("firstName").isEqualTo("John");
+		assertThat(result.age).as("age").isEqualTo(30);
+	}
+
+	@Test
+	void mappingRowWithCustomEditor() {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class) {
+			@Override
+			protected Person constructMappedInstance(Readable readable, List<? extends ReadableMetadata> itemMetadatas, TypeConverter tc) {
+				((BeanWrapper) tc).registerCustomEditor(String.class, new PropertyEditorSupport() {
+					@Override
+					public void setAsText(String text) {
+						setValue(text.toUpperCase());
+					}
+				});
+				return super.constructMappedInstance(readable, itemMetadatas, tc);
+			}
+		};
+
+		Person result = mapper.apply(SIMPLE_PERSON_ROW);
+
+		assertThat(result.firstName).as("firstName").isEqualTo("JOHN");
+		assertThat(result.lastName).as("lastName").isEqualTo("DOE");
+		assertThat(result.age).as("age").isEqualTo(30);
+	}
+
 	@ParameterizedTest
 	@CsvSource({
 			"age, age",
@@ -213,6 +269,26 @@ class R2dbcBeanPropertyRowMapperTests {
 			.identified(3, String.class, "123 Sesame Street")
 			.build();
 
+	private static final MockRow REORDERED_PERSON_ROW = MockRow.builder()
+			.metadata(MockRowMetadata.builder()
+					.columnMetadata(MockColumnMetadata.builder().name("age").javaType(Integer.class).build())
+					.columnMetadata(MockColumnMetadata.builder().name("last_name").javaType(String.class).build())
+					.columnMetadata(MockColumnMetadata.builder().name("firstName").javaType(String.class).build())
+					.build())
+			.identified(0, int.class, 30)
+			.identified(1, String.class, "Doe")
+			.identified(2, String.class, "John")
+			.build();
+
+	private static final MockRow STRING_AGE_PERSON_ROW = MockRow.builder()
+			.metadata(MockRowMetadata.builder()
+					.columnMetadata(MockColumnMetadata.builder().name("firstName").javaType(String.class).build())
+					.columnMetadata(MockColumnMetadata.builder().name("age").javaType(String.class).build())
+					.build())
+			.identified(0, String.class, "John")
+			.identified(1, Object.class, "30")
+			.build();
+
 	private static final MockRow EMAIL_PERSON_ROW = buildRowWithExtraColumn("EMail", String.class,
 			String.class, "mail@example.org");
 
@@ -86,6 +86,37 @@ class R2dbcDataClassRowMapperTests {
 		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
 	}
 
+	@Test
+	void staticQueryWithDataRecordAndDifferentShapes() {
+		DataClassRowMapper<RecordPerson> mapper = new DataClassRowMapper<>(RecordPerson.class);
+		MockRow reorderedRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("balance").javaType(BigDecimal.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(long.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("name").javaType(String.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("birth_date").javaType(Date.class).build())
+						.build())
+				.identified(0, BigDecimal.class, new BigDecimal("42.00"))
+				.identified(1, long.class, 33)
+				.identified(2, String.class, "Forrest")
+				.identified(3, Date.class, new Date(3443443L))
+				.build();
+
+		RecordPerson person = mapper.apply(MOCK_ROW);
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+
+		person = mapper.apply(reorderedRow);
+		assertThat(person.name()).isEqualTo("Forrest");
+		assertThat(person.age()).isEqualTo(33L);
+		assertThat(person.birth_date()).usingComparator(Date::compareTo).isEqualTo(new Date(3443443L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("42.00"));
+
+		person = mapper.apply(MOCK_ROW);
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
 
 	static class ConstructorPerson {
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Benchmark for the overhead of {@link Transactional @Transactional} method
+ * invocations through a {@link TransactionInterceptor}, against a no-op
+ * {@link PlatformTransactionManager}, compared to a plain proxy invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionInterceptorBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"plainProxy", "transactional"})
+		public String mode;
+
+		public TransactionalService service;
+
+		@Setup
+		public void setup() {
+			ProxyFactory proxyFactory = new ProxyFactory(new DefaultTransactionalService());
+			if (this.mode.equals("transactional")) {
+				proxyFactory.addAdvice(new TransactionInterceptor(
+						new NoOpTransactionManager(), new AnnotationTransactionAttributeSource()));
+			}
+			this.service = (TransactionalService) proxyFactory.getProxy();
+		}
+	}
+
+
+	@Benchmark
+	public int invoke(BenchmarkState state) {
+		return state.service.increment(42);
+	}
+
+	@Benchmark
+	public int invokeReadOnly(BenchmarkState state) {
+		return state.service.get();
+	}
+
+
+	public interface TransactionalService {
+
+		int increment(int value);
+
+		int get();
+	}
+
+
+	public static class DefaultTransactionalService implements TransactionalService {
+
+		private int value;
+
+		@Override
+		@Transactional
+		public int increment(int value) {
+			this.value += value;
+			return this.value;
+		}
+
+		@Override
+		@Transactional(readOnly = true)
+		public int get() {
+			return this.value;
+		}
+	}
+
+
+	private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(@Nullable TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+
+}
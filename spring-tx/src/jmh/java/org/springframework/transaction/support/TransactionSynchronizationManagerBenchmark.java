@@ -0,0 +1,205 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * Benchmark for the per-thread transaction state kept by
+ * {@link TransactionSynchronizationManager}, running 100k short transactions
+ * as separate tasks, each on a fresh thread in case of virtual threads.
+ *
+ * <p>Run with {@code -prof gc} to compare the memory allocated per
+ * transaction. The {@code virtual} variant requires a JDK with virtual
+ * threads, that is, JDK 21 or later.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionSynchronizationManagerBenchmark {
+
+	private static final int TASK_COUNT = 100_000;
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"platform", "virtual"})
+		public String threads;
+
+		public ExecutorService executor;
+
+		public NoOpTransactionManager transactionManager;
+
+		public TransactionDefinition required;
+
+		public TransactionDefinition requiresNew;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			if (this.threads.equals("virtual")) {
+				try {
+					this.executor = (ExecutorService) Executors.class
+							.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+				}
+				catch (NoSuchMethodException ex) {
+					throw new IllegalStateException("Virtual threads require JDK 21 or later", ex);
+				}
+			}
+			else {
+				this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+			}
+			this.transactionManager = new NoOpTransactionManager();
+			this.required = new DefaultTransactionDefinition();
+			DefaultTransactionDefinition requiresNew = new DefaultTransactionDefinition(
+					TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			requiresNew.setReadOnly(true);
+			requiresNew.setName("requiresNew");
+			this.requiresNew = requiresNew;
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.executor.shutdown();
+		}
+	}
+
+
+	/**
+	 * Run 100k tasks, each with a transaction that registers a synchronization
+	 * and looks up its resource a few times, measuring the time per task.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TASK_COUNT)
+	public void transactionPerTask(BenchmarkState state) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[TASK_COUNT];
+		for (int i = 0; i < TASK_COUNT; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> runTransaction(state, state.required), state.executor);
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	/**
+	 * Run 100k tasks, each with a transaction that suspends an outer one,
+	 * measuring the time per task.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TASK_COUNT)
+	public void nestedTransactionPerTask(BenchmarkState state) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[TASK_COUNT];
+		for (int i = 0; i < TASK_COUNT; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> {
+				TransactionStatus outer = state.transactionManager.getTransaction(state.required);
+				runTransaction(state, state.requiresNew);
+				state.transactionManager.commit(outer);
+			}, state.executor);
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	private static void runTransaction(BenchmarkState state, TransactionDefinition definition) {
+		TransactionStatus status = state.transactionManager.getTransaction(definition);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {});
+		for (int i = 0; i < 3; i++) {
+			TransactionSynchronizationManager.getResource(NoOpTransactionManager.RESOURCE_KEY);
+		}
+		TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+		state.transactionManager.commit(status);
+	}
+
+
+	/**
+	 * Transaction manager that binds a resource like a resource-local
+	 * transaction manager would, without doing any actual work.
+	 */
+	@SuppressWarnings("serial")
+	public static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		static final Object RESOURCE_KEY = new Object();
+
+		@Override
+		protected Object doGetTransaction() {
+			return new NoOpTransaction(TransactionSynchronizationManager.getResource(RESOURCE_KEY));
+		}
+
+		@Override
+		protected boolean isExistingTransaction(Object transaction) {
+			return (((NoOpTransaction) transaction).resource != null);
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+			Object resource = new Object();
+			TransactionSynchronizationManager.bindResource(RESOURCE_KEY, resource);
+			((NoOpTransaction) transaction).resource = resource;
+		}
+
+		@Override
+		protected Object doSuspend(Object transaction) {
+			((NoOpTransaction) transaction).resource = null;
+			return TransactionSynchronizationManager.unbindResource(RESOURCE_KEY);
+		}
+
+		@Override
+		protected void doResume(@Nullable Object transaction, Object suspendedResources) {
+			TransactionSynchronizationManager.bindResource(RESOURCE_KEY, suspendedResources);
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doCleanupAfterCompletion(Object transaction) {
+			TransactionSynchronizationManager.unbindResource(RESOURCE_KEY);
+		}
+	}
+
+
+	private static class NoOpTransaction {
+
+		@Nullable
+		Object resource;
+
+		NoOpTransaction(@Nullable Object resource) {
+			this.resource = resource;
+		}
+	}
+
+}
@@ -56,6 +56,7 @@ import org.springframework.transaction.support.CallbackPreferringPlatformTransac
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -196,6 +197,16 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<Method, TransactionPlan> transactionPlanCache =
+			new ConcurrentReferenceHashMap<>(1024);
+
+	/**
+	 * Whether the transaction manager for a method may be resolved once,
+	 * that is, whether the resolution methods have not been overridden for
+	 * choosing a transaction manager per invocation.
+	 */
+	private final boolean transactionManagerPlannable;
+
 
 	protected TransactionAspectSupport() {
 		if (reactiveStreamsPresent) {
@@ -204,6 +215,15 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		else {
 			this.reactiveAdapterRegistry = null;
 		}
+		this.transactionManagerPlannable =
+				!isOverridden("determineTransactionManager", TransactionAttribute.class, Class.class) &&
+				!isOverridden("determineTransactionManager", TransactionAttribute.class) &&
+				!isOverridden("getTransactionManager");
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... paramTypes) {
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, paramTypes);
+		return (method != null && method.getDeclaringClass() != TransactionAspectSupport.class);
 	}
 
 
@@ -214,6 +234,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionManagerBeanName(@Nullable String transactionManagerBeanName) {
 		this.transactionManagerBeanName = transactionManagerBeanName;
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -235,6 +256,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionManager(@Nullable TransactionManager transactionManager) {
 		this.transactionManager = transactionManager;
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -263,6 +285,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		NameMatchTransactionAttributeSource tas = new NameMatchTransactionAttributeSource();
 		tas.setProperties(transactionAttributes);
 		this.transactionAttributeSource = tas;
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -275,6 +298,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionAttributeSources(TransactionAttributeSource... transactionAttributeSources) {
 		this.transactionAttributeSource = new CompositeTransactionAttributeSource(transactionAttributeSources);
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -288,6 +312,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	public void setTransactionAttributeSource(@Nullable TransactionAttributeSource transactionAttributeSource) {
 		this.transactionAttributeSource = transactionAttributeSource;
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -304,6 +329,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	@Override
 	public void setBeanFactory(@Nullable BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
+		this.transactionPlanCache.clear();
 	}
 
 	/**
@@ -348,9 +374,10 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 			final InvocationCallback invocation) throws Throwable {
 
 		// If the transaction attribute is null, the method is non-transactional.
-		TransactionAttributeSource tas = getTransactionAttributeSource();
-		final TransactionAttribute txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
-		final TransactionManager tm = determineTransactionManager(txAttr, targetClass);
+		TransactionPlan plan = getTransactionPlan(method, targetClass);
+		final TransactionAttribute txAttr = plan.transactionAttribute;
+		final TransactionManager tm = (plan.transactionManagerResolved ? plan.transactionManager :
+				determineTransactionManager(txAttr, targetClass));
 
 		if (this.reactiveAdapterRegistry != null && tm instanceof ReactiveTransactionManager rtm) {
 			boolean isSuspendingFunction = KotlinDetector.isSuspendingFunction(method);
@@ -380,11 +407,12 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 
 		PlatformTransactionManager ptm = asPlatformTransactionManager(tm);
-		final String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		final String joinpointIdentification = plan.joinpointIdentification;
 
 		if (txAttr == null || !(ptm instanceof CallbackPreferringPlatformTransactionManager cpptm)) {
 			// Standard transaction demarcation with getTransaction and commit/rollback calls.
-			TransactionInfo txInfo = createTransactionIfNecessary(ptm, txAttr, joinpointIdentification);
+			TransactionInfo txInfo = createTransactionIfNecessary(
+					ptm, plan.namedTransactionAttribute, joinpointIdentification);
 
 			Object retVal;
 			try {
@@ -492,11 +520,44 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 	}
 
+	/**
+	 * Return the transaction plan for the given method and target class,
+	 * creating it on first invocation.
+	 */
+	private TransactionPlan getTransactionPlan(Method method, @Nullable Class<?> targetClass) {
+		TransactionPlan head = this.transactionPlanCache.get(method);
+		for (TransactionPlan plan = head; plan != null; plan = plan.next) {
+			if (plan.targetClass == targetClass) {
+				return plan;
+			}
+		}
+		TransactionPlan plan = createTransactionPlan(method, targetClass, head);
+		this.transactionPlanCache.put(method, plan);
+		return plan;
+	}
+
+	private TransactionPlan createTransactionPlan(
+			Method method, @Nullable Class<?> targetClass, @Nullable TransactionPlan next) {
+
+		TransactionAttributeSource tas = getTransactionAttributeSource();
+		TransactionAttribute txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
+		TransactionManager tm = (this.transactionManagerPlannable ?
+				determineTransactionManager(txAttr, targetClass) : null);
+		String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		TransactionAttribute namedTxAttr = txAttr;
+		if (txAttr != null && txAttr.getName() == null) {
+			namedTxAttr = new NamedTransactionAttribute(txAttr, joinpointIdentification);
+		}
+		return new TransactionPlan(targetClass, txAttr, namedTxAttr, this.transactionManagerPlannable, tm,
+				joinpointIdentification, next);
+	}
+
 	/**
 	 * Clear the transaction manager cache.
 	 */
 	protected void clearTransactionManagerCache() {
 		this.transactionManagerCache.clear();
+		this.transactionPlanCache.clear();
 		this.beanFactory = null;
 	}
 
@@ -880,6 +941,70 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	}
 
 
+	/**
+	 * Everything needed for a transactional invocation of a specific method on a
+	 * specific target class, resolved on first invocation: the transaction attribute
+	 * with its rollback rules, the transaction manager and the transaction name.
+	 * Plans for further target classes of the same method are chained.
+	 */
+	private static final class TransactionPlan {
+
+		@Nullable
+		final Class<?> targetClass;
+
+		@Nullable
+		final TransactionAttribute transactionAttribute;
+
+		@Nullable
+		final TransactionAttribute namedTransactionAttribute;
+
+		final boolean transactionManagerResolved;
+
+		@Nullable
+		final TransactionManager transactionManager;
+
+		final String joinpointIdentification;
+
+		@Nullable
+		final TransactionPlan next;
+
+		TransactionPlan(@Nullable Class<?> targetClass, @Nullable TransactionAttribute transactionAttribute,
+				@Nullable TransactionAttribute namedTransactionAttribute, boolean transactionManagerResolved,
+				@Nullable TransactionManager transactionManager, String joinpointIdentification,
+				@Nullable TransactionPlan next) {
+
+			this.targetClass = targetClass;
+			this.transactionAttribute = transactionAttribute;
+			this.namedTransactionAttribute = namedTransactionAttribute;
+			this.transactionManagerResolved = transactionManagerResolved;
+			this.transactionManager = transactionManager;
+			this.joinpointIdentification = joinpointIdentification;
+			this.next = next;
+		}
+	}
+
+
+	/**
+	 * Transaction attribute that exposes the joinpoint identification as
+	 * transaction name, for attributes that do not specify a name.
+	 */
+	@SuppressWarnings("serial")
+	private static final class NamedTransactionAttribute extends DelegatingTransactionAttribute {
+
+		private final String name;
+
+		NamedTransactionAttribute(TransactionAttribute targetAttribute, String name) {
+			super(targetAttribute);
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+
+
 	/**
 	 * Internal holder class for a Throwable in a callback transaction model.
 	 */
@@ -39,6 +39,7 @@ import org.springframework.transaction.TransactionExecutionListener;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.TransactionSuspensionNotSupportedException;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionSynchronizationManager.TransactionCharacteristics;
 import org.springframework.util.Assert;
 
 /**
@@ -573,12 +574,11 @@ public abstract class AbstractPlatformTransactionManager
 	 */
 	protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
 		if (status.isNewSynchronization()) {
-			TransactionSynchronizationManager.setActualTransactionActive(status.hasTransaction());
-			TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(
-					definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT ?
-							definition.getIsolationLevel() : null);
-			TransactionSynchronizationManager.setCurrentTransactionReadOnly(definition.isReadOnly());
-			TransactionSynchronizationManager.setCurrentTransactionName(definition.getName());
+			TransactionSynchronizationManager.setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+					definition.getName(), definition.isReadOnly(),
+					(definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT ?
+							definition.getIsolationLevel() : null),
+					status.hasTransaction()));
 			TransactionSynchronizationManager.initSynchronization();
 		}
 	}
@@ -619,16 +619,12 @@ public abstract class AbstractPlatformTransactionManager
 				if (transaction != null) {
 					suspendedResources = doSuspend(transaction);
 				}
-				String name = TransactionSynchronizationManager.getCurrentTransactionName();
-				TransactionSynchronizationManager.setCurrentTransactionName(null);
-				boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
-				TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
-				Integer isolationLevel = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
-				TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
-				boolean wasActive = TransactionSynchronizationManager.isActualTransactionActive();
-				TransactionSynchronizationManager.setActualTransactionActive(false);
-				return new SuspendedResourcesHolder(
-						suspendedResources, suspendedSynchronizations, name, readOnly, isolationLevel, wasActive);
+				TransactionCharacteristics characteristics =
+						TransactionSynchronizationManager.getCurrentTransactionCharacteristics();
+				TransactionSynchronizationManager.setCurrentTransactionCharacteristics(TransactionCharacteristics.NONE);
+				return new SuspendedResourcesHolder(suspendedResources, suspendedSynchronizations,
+						characteristics.name(), characteristics.readOnly(), characteristics.isolationLevel(),
+						characteristics.actualTransactionActive());
 			}
 			catch (RuntimeException | Error ex) {
 				// doSuspend failed - original transaction is still active...
@@ -667,10 +663,9 @@ public abstract class AbstractPlatformTransactionManager
 			}
 			List<TransactionSynchronization> suspendedSynchronizations = resourcesHolder.suspendedSynchronizations;
 			if (suspendedSynchronizations != null) {
-				TransactionSynchronizationManager.setActualTransactionActive(resourcesHolder.wasActive);
-				TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(resourcesHolder.isolationLevel);
-				TransactionSynchronizationManager.setCurrentTransactionReadOnly(resourcesHolder.readOnly);
-				TransactionSynchronizationManager.setCurrentTransactionName(resourcesHolder.name);
+				TransactionSynchronizationManager.setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+						resourcesHolder.name, resourcesHolder.readOnly, resourcesHolder.isolationLevel,
+						resourcesHolder.wasActive));
 				doResumeSynchronization(suspendedSynchronizations);
 			}
 		}
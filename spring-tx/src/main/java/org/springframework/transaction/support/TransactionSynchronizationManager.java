@@ -73,23 +73,12 @@ import org.springframework.util.Assert;
  */
 public abstract class TransactionSynchronizationManager {
 
-	private static final ThreadLocal<Map<Object, Object>> resources =
-			new NamedThreadLocal<>("Transactional resources");
-
-	private static final ThreadLocal<Set<TransactionSynchronization>> synchronizations =
-			new NamedThreadLocal<>("Transaction synchronizations");
-
-	private static final ThreadLocal<String> currentTransactionName =
-			new NamedThreadLocal<>("Current transaction name");
-
-	private static final ThreadLocal<Boolean> currentTransactionReadOnly =
-			new NamedThreadLocal<>("Current transaction read-only status");
-
-	private static final ThreadLocal<Integer> currentTransactionIsolationLevel =
-			new NamedThreadLocal<>("Current transaction isolation level");
-
-	private static final ThreadLocal<Boolean> actualTransactionActive =
-			new NamedThreadLocal<>("Actual transaction active");
+	/**
+	 * Resources, synchronizations and transaction characteristics of the current
+	 * thread, held in a single ThreadLocal which is removed once empty again.
+	 */
+	private static final ThreadLocal<TransactionState> transactionState =
+			new NamedThreadLocal<>("Transaction state");
 
 
 	//-------------------------------------------------------------------------
@@ -106,7 +95,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #hasResource
 	 */
 	public static Map<Object, Object> getResourceMap() {
-		Map<Object, Object> map = resources.get();
+		TransactionState state = transactionState.get();
+		Map<Object, Object> map = (state != null ? state.resources : null);
 		return (map != null ? Collections.unmodifiableMap(map) : Collections.emptyMap());
 	}
 
@@ -140,7 +130,8 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doGetResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
+		TransactionState state = transactionState.get();
+		Map<Object, Object> map = (state != null ? state.resources : null);
 		if (map == null) {
 			return null;
 		}
@@ -150,7 +141,8 @@ public abstract class TransactionSynchronizationManager {
 			map.remove(actualKey);
 			// Remove entire ThreadLocal if empty...
 			if (map.isEmpty()) {
-				resources.remove();
+				state.resources = null;
+				removeStateIfEmpty(state);
 			}
 			value = null;
 		}
@@ -167,11 +159,12 @@ public abstract class TransactionSynchronizationManager {
 	public static void bindResource(Object key, Object value) throws IllegalStateException {
 		Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
 		Assert.notNull(value, "Value must not be null");
-		Map<Object, Object> map = resources.get();
-		// set ThreadLocal Map if none found
+		TransactionState state = obtainState();
+		Map<Object, Object> map = state.resources;
+		// set Map if none found
 		if (map == null) {
 			map = new HashMap<>();
-			resources.set(map);
+			state.resources = map;
 		}
 		Object oldValue = map.put(actualKey, value);
 		// Transparently suppress a ResourceHolder that was marked as void...
@@ -216,14 +209,16 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doUnbindResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
+		TransactionState state = transactionState.get();
+		Map<Object, Object> map = (state != null ? state.resources : null);
 		if (map == null) {
 			return null;
 		}
 		Object value = map.remove(actualKey);
 		// Remove entire ThreadLocal if empty...
 		if (map.isEmpty()) {
-			resources.remove();
+			state.resources = null;
+			removeStateIfEmpty(state);
 		}
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder resourceHolder && resourceHolder.isVoid()) {
@@ -243,7 +238,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #registerSynchronization
 	 */
 	public static boolean isSynchronizationActive() {
-		return (synchronizations.get() != null);
+		return (currentSynchronizations() != null);
 	}
 
 	/**
@@ -255,7 +250,7 @@ public abstract class TransactionSynchronizationManager {
 		if (isSynchronizationActive()) {
 			throw new IllegalStateException("Cannot activate transaction synchronization - already active");
 		}
-		synchronizations.set(new LinkedHashSet<>());
+		obtainState().synchronizations = new LinkedHashSet<>();
 	}
 
 	/**
@@ -272,7 +267,7 @@ public abstract class TransactionSynchronizationManager {
 			throws IllegalStateException {
 
 		Assert.notNull(synchronization, "TransactionSynchronization must not be null");
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		Set<TransactionSynchronization> synchs = currentSynchronizations();
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -287,7 +282,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization
 	 */
 	public static List<TransactionSynchronization> getSynchronizations() throws IllegalStateException {
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		Set<TransactionSynchronization> synchs = currentSynchronizations();
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -314,10 +309,18 @@ public abstract class TransactionSynchronizationManager {
 	 * @throws IllegalStateException if synchronization is not active
 	 */
 	public static void clearSynchronization() throws IllegalStateException {
-		if (!isSynchronizationActive()) {
+		TransactionState state = transactionState.get();
+		if (state == null || state.synchronizations == null) {
 			throw new IllegalStateException("Cannot deactivate transaction synchronization - not active");
 		}
-		synchronizations.remove();
+		state.synchronizations = null;
+		removeStateIfEmpty(state);
+	}
+
+	@Nullable
+	private static Set<TransactionSynchronization> currentSynchronizations() {
+		TransactionState state = transactionState.get();
+		return (state != null ? state.synchronizations : null);
 	}
 
 
@@ -332,7 +335,9 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getName()
 	 */
 	public static void setCurrentTransactionName(@Nullable String name) {
-		currentTransactionName.set(name);
+		TransactionCharacteristics current = getCurrentTransactionCharacteristics();
+		setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+				name, current.readOnly(), current.isolationLevel(), current.actualTransactionActive()));
 	}
 
 	/**
@@ -343,7 +348,7 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static String getCurrentTransactionName() {
-		return currentTransactionName.get();
+		return getCurrentTransactionCharacteristics().name();
 	}
 
 	/**
@@ -354,7 +359,9 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#isReadOnly()
 	 */
 	public static void setCurrentTransactionReadOnly(boolean readOnly) {
-		currentTransactionReadOnly.set(readOnly ? Boolean.TRUE : null);
+		TransactionCharacteristics current = getCurrentTransactionCharacteristics();
+		setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+				current.name(), readOnly, current.isolationLevel(), current.actualTransactionActive()));
 	}
 
 	/**
@@ -370,7 +377,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization#beforeCommit(boolean)
 	 */
 	public static boolean isCurrentTransactionReadOnly() {
-		return (currentTransactionReadOnly.get() != null);
+		return getCurrentTransactionCharacteristics().readOnly();
 	}
 
 	/**
@@ -390,7 +397,9 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getIsolationLevel()
 	 */
 	public static void setCurrentTransactionIsolationLevel(@Nullable Integer isolationLevel) {
-		currentTransactionIsolationLevel.set(isolationLevel);
+		TransactionCharacteristics current = getCurrentTransactionCharacteristics();
+		setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+				current.name(), current.readOnly(), isolationLevel, current.actualTransactionActive()));
 	}
 
 	/**
@@ -412,7 +421,7 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static Integer getCurrentTransactionIsolationLevel() {
-		return currentTransactionIsolationLevel.get();
+		return getCurrentTransactionCharacteristics().isolationLevel();
 	}
 
 	/**
@@ -422,7 +431,9 @@ public abstract class TransactionSynchronizationManager {
 	 * with an actual transaction; {@code false} to reset that marker
 	 */
 	public static void setActualTransactionActive(boolean active) {
-		actualTransactionActive.set(active ? Boolean.TRUE : null);
+		TransactionCharacteristics current = getCurrentTransactionCharacteristics();
+		setCurrentTransactionCharacteristics(new TransactionCharacteristics(
+				current.name(), current.readOnly(), current.isolationLevel(), active));
 	}
 
 	/**
@@ -437,7 +448,41 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #isSynchronizationActive()
 	 */
 	public static boolean isActualTransactionActive() {
-		return (actualTransactionActive.get() != null);
+		return getCurrentTransactionCharacteristics().actualTransactionActive();
+	}
+
+	/**
+	 * Return all characteristics of the current transaction at once.
+	 * @see #getCurrentTransactionName()
+	 * @see #isCurrentTransactionReadOnly()
+	 * @see #getCurrentTransactionIsolationLevel()
+	 * @see #isActualTransactionActive()
+	 * @since 6.2
+	 */
+	static TransactionCharacteristics getCurrentTransactionCharacteristics() {
+		TransactionState state = transactionState.get();
+		return (state != null ? state.characteristics : TransactionCharacteristics.NONE);
+	}
+
+	/**
+	 * Expose all characteristics of the current transaction at once.
+	 * Called by the transaction manager on transaction begin, suspension
+	 * and resumption, instead of setting each characteristic individually.
+	 * @param characteristics the characteristics to expose, or
+	 * {@link TransactionCharacteristics#NONE} to reset them
+	 * @since 6.2
+	 */
+	static void setCurrentTransactionCharacteristics(TransactionCharacteristics characteristics) {
+		if (characteristics.equals(TransactionCharacteristics.NONE)) {
+			TransactionState state = transactionState.get();
+			if (state != null) {
+				state.characteristics = TransactionCharacteristics.NONE;
+				removeStateIfEmpty(state);
+			}
+		}
+		else {
+			obtainState().characteristics = characteristics;
+		}
 	}
 
 
@@ -451,11 +496,62 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #setActualTransactionActive
 	 */
 	public static void clear() {
-		synchronizations.remove();
-		currentTransactionName.remove();
-		currentTransactionReadOnly.remove();
-		currentTransactionIsolationLevel.remove();
-		actualTransactionActive.remove();
+		TransactionState state = transactionState.get();
+		if (state != null) {
+			state.synchronizations = null;
+			state.characteristics = TransactionCharacteristics.NONE;
+			removeStateIfEmpty(state);
+		}
+	}
+
+	private static TransactionState obtainState() {
+		TransactionState state = transactionState.get();
+		if (state == null) {
+			state = new TransactionState();
+			transactionState.set(state);
+		}
+		return state;
+	}
+
+	private static void removeStateIfEmpty(TransactionState state) {
+		if (state.resources == null && state.synchronizations == null &&
+				state.characteristics == TransactionCharacteristics.NONE) {
+			transactionState.remove();
+		}
+	}
+
+
+	/**
+	 * The characteristics of the current transaction, replaced as a whole
+	 * whenever one of them changes.
+	 * @param name the name of the transaction, if any
+	 * @param readOnly whether the transaction is marked as read-only
+	 * @param isolationLevel the isolation level of the transaction, if any
+	 * @param actualTransactionActive whether an actual transaction is active
+	 * @since 6.2
+	 */
+	record TransactionCharacteristics(@Nullable String name, boolean readOnly,
+			@Nullable Integer isolationLevel, boolean actualTransactionActive) {
+
+		/**
+		 * Characteristics for no transaction.
+		 */
+		static final TransactionCharacteristics NONE = new TransactionCharacteristics(null, false, null, false);
+	}
+
+
+	/**
+	 * The transaction state of a thread.
+	 */
+	private static final class TransactionState {
+
+		@Nullable
+		Map<Object, Object> resources;
+
+		@Nullable
+		Set<TransactionSynchronization> synchronizations;
+
+		TransactionCharacteristics characteristics = TransactionCharacteristics.NONE;
 	}
 
 }
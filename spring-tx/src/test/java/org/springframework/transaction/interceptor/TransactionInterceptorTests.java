@@ -18,12 +18,15 @@ package org.springframework.transaction.interceptor;
 
 import java.io.Serializable;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -34,6 +37,8 @@ import org.springframework.transaction.TransactionStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -257,6 +262,51 @@ class TransactionInterceptorTests extends AbstractTransactionAspectTests {
 		verify(beanFactory, times(1)).getBean(TransactionManager.class);
 	}
 
+	@Test
+	void transactionAttributeResolvedOncePerMethodAndTargetClass() throws Exception {
+		TransactionAttributeSource tas = mock();
+		given(tas.getTransactionAttribute(any(), any())).willReturn(new DefaultTransactionAttribute());
+		PlatformTransactionManager ptm = mock();
+		TransactionInterceptor ti = new TransactionInterceptor(ptm, tas);
+
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.addAdvice(ti);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+		proxy.getName();
+		proxy.getName();
+
+		verify(tas, times(1)).getTransactionAttribute(ITestBean.class.getMethod("getName"), TestBean.class);
+		verify(ptm, times(2)).getTransaction(argThat(definition ->
+				(TestBean.class.getName() + ".getName").equals(definition.getName())));
+	}
+
+	@Test
+	void transactionManagerDeterminedPerInvocationIfOverridden() {
+		PlatformTransactionManager first = mock();
+		PlatformTransactionManager second = mock();
+		AtomicInteger invocations = new AtomicInteger();
+		@SuppressWarnings("serial")
+		TransactionInterceptor ti = new TransactionInterceptor() {
+			@Override
+			protected TransactionManager determineTransactionManager(
+					@Nullable TransactionAttribute txAttr, @Nullable Class<?> targetClass) {
+				return (invocations.getAndIncrement() == 0 ? first : second);
+			}
+		};
+		Properties attributes = new Properties();
+		attributes.setProperty("getName", "PROPAGATION_REQUIRED");
+		ti.setTransactionAttributes(attributes);
+
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.addAdvice(ti);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+		proxy.getName();
+		proxy.getName();
+
+		verify(first).getTransaction(any());
+		verify(second).getTransaction(any());
+	}
+
 
 	private TransactionInterceptor createTransactionInterceptor(BeanFactory beanFactory,
 			String transactionManagerName, PlatformTransactionManager transactionManager) {
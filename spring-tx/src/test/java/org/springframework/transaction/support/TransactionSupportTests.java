@@ -328,6 +328,43 @@ class TransactionSupportTests {
 		assertThat(template3).isEqualTo(template2);
 	}
 
+	@Test
+	void transactionCharacteristicsSuspendedAndResumed() {
+		TestTransactionManager tm = new TestTransactionManager(false, true);
+		tm.setTransactionSynchronization(AbstractPlatformTransactionManager.SYNCHRONIZATION_ALWAYS);
+		TransactionTemplate outer = new TransactionTemplate(tm);
+		outer.setPropagationBehavior(PROPAGATION_SUPPORTS);
+		outer.setName("outer");
+		outer.setReadOnly(true);
+		TransactionTemplate inner = new TransactionTemplate(tm);
+		inner.setName("inner");
+		inner.setIsolationLevel(ISOLATION_SERIALIZABLE);
+
+		outer.executeWithoutResult(outerStatus -> {
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("outer");
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+
+			inner.executeWithoutResult(innerStatus -> {
+				assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("inner");
+				assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+				assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())
+						.isEqualTo(ISOLATION_SERIALIZABLE);
+				assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			});
+
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("outer");
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+		});
+
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		assertThat(tm.commit).isTrue();
+	}
+
 
 	@Nested
 	class AbstractPlatformTransactionManagerConfigurationTests {
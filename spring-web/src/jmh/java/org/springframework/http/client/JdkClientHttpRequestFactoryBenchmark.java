@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import org.springframework.web.client.RestClient;
+
+/**
+ * Benchmark for {@link RestClient} calls fanned out concurrently through a
+ * shared {@link JdkClientHttpRequestFactory} against a local Reactor Netty
+ * server, comparing HTTP/1.1 connections with HTTP/2 (cleartext) multiplexing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdkClientHttpRequestFactoryBenchmark {
+
+	@Benchmark
+	public void fanOutGet(BenchmarkState state, Blackhole bh) throws Exception {
+		List<Future<String>> results = new ArrayList<>(state.fanOut);
+		for (int i = 0; i < state.fanOut; i++) {
+			results.add(state.callers.submit(() -> state.restClient.get().uri("/")
+					.retrieve().body(String.class)));
+		}
+		for (Future<String> result : results) {
+			bh.consume(result.get());
+		}
+	}
+
+	@Benchmark
+	public void fanOutPost(BenchmarkState state, Blackhole bh) throws Exception {
+		List<Future<String>> results = new ArrayList<>(state.fanOut);
+		for (int i = 0; i < state.fanOut; i++) {
+			results.add(state.callers.submit(() -> state.restClient.post().uri("/").body(state.payload)
+					.retrieve().body(String.class)));
+		}
+		for (Future<String> result : results) {
+			bh.consume(result.get());
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"HTTP_1_1", "HTTP_2"})
+		public HttpClient.Version version;
+
+		@Param({"50"})
+		public int fanOut;
+
+		public String payload = "a".repeat(1024);
+
+		public DisposableServer server;
+
+		public ExecutorService callers;
+
+		public RestClient restClient;
+
+		@Setup
+		public void setup() {
+			this.server = HttpServer.create()
+					.host("localhost")
+					.port(0)
+					.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+					.handle((request, response) -> response.sendString(
+							request.receive().aggregate().asString().defaultIfEmpty("Hello World")))
+					.bindNow();
+			this.callers = Executors.newFixedThreadPool(this.fanOut);
+			HttpClient httpClient = HttpClient.newBuilder().version(this.version).build();
+			this.restClient = RestClient.builder()
+					.requestFactory(new JdkClientHttpRequestFactory(httpClient))
+					.baseUrl("http://localhost:" + this.server.port())
+					.build();
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.callers.shutdownNow();
+			this.server.disposeNow();
+		}
+	}
+
+}
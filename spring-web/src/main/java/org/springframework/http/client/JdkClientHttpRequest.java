@@ -28,6 +28,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
@@ -92,12 +93,13 @@ class JdkClientHttpRequest extends AbstractStreamingClientHttpRequest {
 	@Override
 	@SuppressWarnings("NullAway")
 	protected ClientHttpResponse executeInternal(HttpHeaders headers, @Nullable Body body) throws IOException {
+		CompletableFuture<HttpResponse<InputStream>> responseFuture = null;
 		try {
 			HttpRequest request = buildRequest(headers, body);
 			HttpResponse<InputStream> response;
 			if (this.timeout != null) {
-				response = this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-						.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+				responseFuture = this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+				response = responseFuture.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
 			}
 			else {
 				response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
@@ -108,6 +110,7 @@ class JdkClientHttpRequest extends AbstractStreamingClientHttpRequest {
 			throw ex.getCause();
 		}
 		catch (InterruptedException ex) {
+			cancel(responseFuture);
 			Thread.currentThread().interrupt();
 			throw new IOException("Request was interrupted: " + ex.getMessage(), ex);
 		}
@@ -128,10 +131,22 @@ class JdkClientHttpRequest extends AbstractStreamingClientHttpRequest {
 			}
 		}
 		catch (TimeoutException ex) {
+			cancel(responseFuture);
 			throw new IOException("Request timed out: " + ex.getMessage(), ex);
 		}
 	}
 
+	/**
+	 * Cancel the exchange of an abandoned request, so that its connection,
+	 * or its stream on a multiplexed HTTP/2 connection, is released rather
+	 * than left occupied until the server eventually responds.
+	 */
+	private static void cancel(@Nullable CompletableFuture<?> responseFuture) {
+		if (responseFuture != null) {
+			responseFuture.cancel(true);
+		}
+	}
+
 
 	private HttpRequest buildRequest(HttpHeaders headers, @Nullable Body body) {
 		HttpRequest.Builder builder = HttpRequest.newBuilder().uri(this.uri);
@@ -140,7 +155,7 @@ class JdkClientHttpRequest extends AbstractStreamingClientHttpRequest {
 		}
 
 		headers.forEach((headerName, headerValues) -> {
-			if (!DISALLOWED_HEADERS.contains(headerName.toLowerCase())) {
+			if (!DISALLOWED_HEADERS.contains(headerName)) {
 				for (String headerValue : headerValues) {
 					builder.header(headerName, headerValue);
 				}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2023 the original author or authors.
+ * Copyright 2023-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,21 @@ import org.springframework.util.Assert;
  * {@link ClientHttpRequestFactory} implementation based on the Java
  * {@link HttpClient}.
  *
+ * <p>The {@code HttpClient} prefers HTTP/2 by default, multiplexing concurrent
+ * requests to the same origin over a single connection where the server
+ * supports it. Use a single factory instance, and therefore a single
+ * {@code HttpClient}, for all requests to a set of origins in order to
+ * benefit from this; the version and other connection settings can be
+ * customized through {@link HttpClient#newBuilder()}.
+ *
+ * <p>Request bodies are streamed to the {@code HttpClient} from a separate
+ * thread obtained from the given {@link Executor}. The default
+ * {@link SimpleAsyncTaskExecutor} starts a new thread for each request with
+ * a body; on JDK 21, consider passing a
+ * {@link org.springframework.core.task.VirtualThreadTaskExecutor} instead,
+ * which is also a good fit for the threads calling {@code RestClient} when
+ * fanning out many concurrent requests.
+ *
  * @author Marten Deinum
  * @author Arjen Poutsma
  * @since 6.1
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.http.codec;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.reactivestreams.Publisher;
@@ -33,6 +34,7 @@ import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpLogging;
 import org.springframework.http.MediaType;
 import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
@@ -124,6 +126,9 @@ public class EncoderHttpMessageWriter<T> implements HttpMessageWriter<T> {
 				inputStream, message.bufferFactory(), elementType, contentType, hints);
 
 		if (inputStream instanceof Mono) {
+			if (isChunkedEncoding()) {
+				return writeChunks(body, message, hints);
+			}
 			return body
 					.singleOrEmpty()
 					.switchIfEmpty(Mono.defer(() -> {
@@ -152,6 +157,38 @@ public class EncoderHttpMessageWriter<T> implements HttpMessageWriter<T> {
 		return message.writeWith(body);
 	}
 
+	private boolean isChunkedEncoding() {
+		return (this.encoder instanceof AbstractJackson2Encoder jacksonEncoder && jacksonEncoder.getChunkSize() > 0);
+	}
+
+	/**
+	 * Write a single value that the encoder may split into several chunks.
+	 * Looks ahead by two buffers at most: a single buffer gets a Content-Length,
+	 * while several buffers are written as they arrive, without collecting them.
+	 */
+	private Mono<Void> writeChunks(Flux<DataBuffer> body, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+		return body
+				.buffer(2)
+				.switchOnFirst((signal, bufferLists) -> {
+					List<DataBuffer> first = signal.get();
+					if (first == null) {
+						return (signal.isOnComplete() ? Mono.defer(() -> {
+							message.getHeaders().setContentLength(0);
+							return message.setComplete();
+						}) : bufferLists.then());
+					}
+					if (first.size() == 1) {
+						message.getHeaders().setContentLength(first.get(0).readableByteCount());
+					}
+					return message.writeWith(bufferLists
+							.concatMapIterable(Function.identity())
+							.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger))
+							.doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+				})
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+				.then();
+	}
+
 	@Nullable
 	private MediaType updateContentType(ReactiveHttpOutputMessage message, @Nullable MediaType mediaType) {
 		MediaType result = message.getHeaders().getContentType();
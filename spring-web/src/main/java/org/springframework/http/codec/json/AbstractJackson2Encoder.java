@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.http.codec.json;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -38,6 +40,8 @@ import com.fasterxml.jackson.databind.ser.FilterProvider;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.context.ContextView;
 
 import org.springframework.core.MethodParameter;
@@ -47,6 +51,7 @@ import org.springframework.core.codec.EncodingException;
 import org.springframework.core.codec.Hints;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageEncoder;
@@ -86,6 +91,10 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private int chunkSize = -1;
+
+	private Scheduler blockingOperationScheduler = Schedulers.boundedElastic();
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -104,6 +113,49 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		this.streamingMediaTypes.addAll(mediaTypes);
 	}
 
+	/**
+	 * Configure a chunk size, in bytes, for encoding single values. When set,
+	 * each value is emitted as a sequence of {@link DataBuffer DataBuffers}
+	 * holding at most the given number of bytes, as Jackson produces them,
+	 * instead of being serialized in full into a single buffer first. Buffers
+	 * are only produced as they are requested, so that a large payload is not
+	 * held in memory as a whole.
+	 * <p>This applies to single value ({@link Mono}) input only. As Jackson
+	 * serialization is blocking, it is performed on the
+	 * {@link #setBlockingOperationScheduler blocking operation scheduler}.
+	 * Note that a value encoded into several buffers is written without a
+	 * {@code Content-Length} header.
+	 * <p>By default this is set to -1, in which case each value is encoded
+	 * into a single {@code DataBuffer}.
+	 * @param chunkSize the maximum number of bytes per buffer, or -1 to disable
+	 * @since 6.2
+	 */
+	public void setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize == -1 || chunkSize > 0, "'chunkSize' must be a positive number, or -1");
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Return the {@link #setChunkSize configured} chunk size.
+	 * @since 6.2
+	 */
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	/**
+	 * Set the Reactor {@link Scheduler} to serialize values on when encoding
+	 * them in {@link #setChunkSize chunks}. By default,
+	 * {@link Schedulers#boundedElastic()} is used, but this property allows for
+	 * changing it to an externally managed scheduler.
+	 * @since 6.2
+	 * @see Schedulers#boundedElastic
+	 */
+	public void setBlockingOperationScheduler(Scheduler blockingOperationScheduler) {
+		Assert.notNull(blockingOperationScheduler, "'blockingOperationScheduler' must not be null");
+		this.blockingOperationScheduler = blockingOperationScheduler;
+	}
+
 
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
@@ -154,6 +206,10 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 					Hints.merge(hints, ContextView.class.getName(), contextView);
 
 			if (inputStream instanceof Mono) {
+				if (this.chunkSize > 0) {
+					return Mono.from(inputStream)
+							.flatMapMany(value -> encodeValueInChunks(value, bufferFactory, elementType, mimeType, hintsToUse));
+				}
 				return Mono.from(inputStream)
 						.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hintsToUse))
 						.flux();
@@ -223,6 +279,42 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 	public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory,
 			ResolvableType valueType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(getObjectMapper().getFactory()._getBufferRecycler());
+		try {
+			writeValue(value, byteBuilder, valueType, mimeType, hints);
+
+			byte[] bytes = byteBuilder.toByteArray();
+			DataBuffer buffer = bufferFactory.allocateBuffer(bytes.length);
+			buffer.write(bytes);
+			Hints.touchDataBuffer(buffer, hints, logger);
+
+			return buffer;
+		}
+		finally {
+			byteBuilder.release();
+		}
+	}
+
+	/**
+	 * Encode the given value into a sequence of buffers, each holding at most
+	 * {@link #setChunkSize chunkSize} bytes. Jackson writes on a thread of the
+	 * {@link #setBlockingOperationScheduler blocking operation scheduler},
+	 * blocking whenever there is no demand for further buffers.
+	 */
+	private Flux<DataBuffer> encodeValueInChunks(Object value, DataBufferFactory bufferFactory,
+			ResolvableType valueType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		int chunkSize = this.chunkSize;
+		return Flux.from(DataBufferUtils.outputStreamPublisher(
+						outputStream -> writeValue(value, new ChunkLimitingOutputStream(outputStream, chunkSize),
+								valueType, mimeType, hints),
+						bufferFactory, this.blockingOperationScheduler::schedule, chunkSize))
+				.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
+	}
+
+	private void writeValue(Object value, OutputStream outputStream,
+			ResolvableType valueType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
 		Class<?> jsonView = null;
 		FilterProvider filters = null;
 		if (value instanceof MappingJacksonValue mappingJacksonValue) {
@@ -242,35 +334,22 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 			writer = writer.with(filters);
 		}
 
-		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(writer.getFactory()._getBufferRecycler());
-		try {
-			JsonEncoding encoding = getJsonEncoding(mimeType);
-
-			logValue(hints, value);
-
-			try (JsonGenerator generator = mapper.getFactory().createGenerator(byteBuilder, encoding)) {
-				writer.writeValue(generator, value);
-				generator.flush();
-			}
-			catch (InvalidDefinitionException ex) {
-				throw new CodecException("Type definition error: " + ex.getType(), ex);
-			}
-			catch (JsonProcessingException ex) {
-				throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
-			}
-			catch (IOException ex) {
-				throw new IllegalStateException("Unexpected I/O error while writing to byte array builder", ex);
-			}
+		JsonEncoding encoding = getJsonEncoding(mimeType);
 
-			byte[] bytes = byteBuilder.toByteArray();
-			DataBuffer buffer = bufferFactory.allocateBuffer(bytes.length);
-			buffer.write(bytes);
-			Hints.touchDataBuffer(buffer, hints, logger);
+		logValue(hints, value);
 
-			return buffer;
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, encoding)) {
+			writer.writeValue(generator, value);
+			generator.flush();
 		}
-		finally {
-			byteBuilder.release();
+		catch (InvalidDefinitionException ex) {
+			throw new CodecException("Type definition error: " + ex.getType(), ex);
+		}
+		catch (JsonProcessingException ex) {
+			throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unexpected I/O error while writing to output stream", ex);
 		}
 	}
 
@@ -432,6 +511,31 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 	}
 
 
+	/**
+	 * {@link OutputStream} that passes larger writes on in slices of at most
+	 * the chunk size, so that each of them results in a separate buffer.
+	 */
+	private static class ChunkLimitingOutputStream extends FilterOutputStream {
+
+		private final int chunkSize;
+
+		ChunkLimitingOutputStream(OutputStream out, int chunkSize) {
+			super(out);
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				int count = Math.min(len, this.chunkSize);
+				this.out.write(b, off, count);
+				off += count;
+				len -= count;
+			}
+		}
+	}
+
+
 	private static class JsonArrayJoinHelper {
 
 		private static final byte[] COMMA_SEPARATOR = {','};
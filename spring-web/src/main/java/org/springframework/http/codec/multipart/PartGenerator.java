@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -408,7 +408,8 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 				DataBufferUtils.release(buffer);
 			}
 			this.content.clear();
-			Flux<DataBuffer> content = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+			// Wrap on each subscription, so that the content can be read more than once
+			Flux<DataBuffer> content = Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
 			emitPart(DefaultParts.part(this.headers, content));
 		}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.support.CompactHeadersMap;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -151,6 +152,10 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 
 		private static final long serialVersionUID = 3410708522401046302L;
 
+		ServletResponseHttpHeaders() {
+			super(new CompactHeadersMap());
+		}
+
 		@Override
 		public boolean containsKey(Object key) {
 			return (super.containsKey(key) || (get(key) != null));
@@ -0,0 +1,617 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.support;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Compact {@code MultiValueMap} implementation for HTTP headers, storing
+ * header names and values in flat arrays in insertion order.
+ *
+ * <p>Header names are matched case-insensitively, using a pre-computed hash
+ * of their ASCII lower case form, without creating lower case copies of the
+ * names. Since a header usually has a single value, such a value is stored
+ * as is, and only turned into a list when the header gets a second value,
+ * or when a list obtained through {@link #get(Object)} is modified.
+ * Read-only operations never change how values are stored, and
+ * {@link #getFirst(String)} and {@link #set(String, String)} do not allocate.
+ *
+ * <p>Lookups are linear scans, which is efficient for the typical number of
+ * headers of an HTTP message, but this implementation is not intended for
+ * messages with a very large number of distinct headers.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 6.2
+ * @see HttpHeaders#HttpHeaders(MultiValueMap)
+ */
+@SuppressWarnings("serial")
+public final class CompactHeadersMap implements MultiValueMap<String, String>, Serializable {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+
+	private String[] names;
+
+	private int[] hashes;
+
+	// either a non-null String for a single value, or an ArrayList of values
+	private Object[] values;
+
+	private int size;
+
+
+	/**
+	 * Create a new, empty instance with a default initial capacity.
+	 */
+	public CompactHeadersMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new, empty instance with the given initial capacity.
+	 * @param initialCapacity the expected number of distinct header names
+	 */
+	public CompactHeadersMap(int initialCapacity) {
+		int capacity = Math.max(initialCapacity, 1);
+		this.names = new String[capacity];
+		this.hashes = new int[capacity];
+		this.values = new Object[capacity];
+	}
+
+
+	// MultiValueMap
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		int index = indexOf(key);
+		if (index == -1) {
+			return null;
+		}
+		Object value = this.values[index];
+		if (value instanceof String singleValue) {
+			return singleValue;
+		}
+		List<String> list = asList(value);
+		return (!list.isEmpty() ? list.get(0) : null);
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		if (index == -1) {
+			append(key, hash, (value != null ? value : newList(null)));
+		}
+		else {
+			valuesAsList(index).add(value);
+		}
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		if (index == -1) {
+			append(key, hash, new ArrayList<>(values));
+		}
+		else {
+			valuesAsList(index).addAll(values);
+		}
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		values.forEach(this::addAll);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		Object newValue = (value != null ? value : newList(null));
+		if (index == -1) {
+			append(key, hash, newValue);
+		}
+		else {
+			this.values[index] = newValue;
+		}
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		values.forEach(this::set);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Map<String, String> singleValueMap = CollectionUtils.newLinkedHashMap(this.size);
+		for (int i = 0; i < this.size; i++) {
+			Object value = this.values[i];
+			if (value instanceof String singleValue) {
+				singleValueMap.put(this.names[i], singleValue);
+			}
+			else {
+				List<String> list = asList(value);
+				singleValueMap.put(this.names[i], (!list.isEmpty() ? list.get(0) : null));
+			}
+		}
+		return singleValueMap;
+	}
+
+
+	// Map
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (key instanceof String headerName && indexOf(headerName) != -1);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < this.size; i++) {
+			if (valuesEqual(i, value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		if (key instanceof String headerName) {
+			int index = indexOf(headerName);
+			if (index != -1) {
+				return valuesView(index);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, @Nullable List<String> value) {
+		if (value == null) {
+			value = new ArrayList<>(2);
+		}
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		if (index == -1) {
+			append(key, hash, value);
+			return null;
+		}
+		List<String> previous = valuesView(index);
+		this.names[index] = key;
+		this.values[index] = value;
+		return previous;
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		if (key instanceof String headerName) {
+			int index = indexOf(headerName);
+			if (index != -1) {
+				List<String> previous = valuesView(index);
+				removeAt(index);
+				return previous;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		map.forEach(this::put);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.names, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		this.size = 0;
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<String> iterator() {
+				return new HeaderIterator<>() {
+					@Override
+					String element(int index) {
+						return names[index];
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<List<String>> iterator() {
+				return new HeaderIterator<>() {
+					@Override
+					List<String> element(int index) {
+						return valuesView(index);
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, List<String>>> iterator() {
+				return new HeaderIterator<>() {
+					@Override
+					Entry<String, List<String>> element(int index) {
+						return new HeaderEntry(index);
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Map<?, ?> that) || this.size != that.size()) {
+			return false;
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (!valuesEqual(i, that.get(this.names[i]))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (int i = 0; i < this.size; i++) {
+			result += Objects.hashCode(this.names[i]) ^ valuesHashCode(i);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return HttpHeaders.formatHeaders(this);
+	}
+
+
+	// internal helpers
+
+	private int indexOf(String key) {
+		return indexOf(key, hash(key));
+	}
+
+	private int indexOf(String key, int hash) {
+		int[] hashes = this.hashes;
+		String[] names = this.names;
+		for (int i = 0; i < this.size; i++) {
+			if (hashes[i] == hash && names[i].equalsIgnoreCase(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void append(String key, int hash, Object value) {
+		if (this.size == this.names.length) {
+			int capacity = this.size * 2;
+			this.names = Arrays.copyOf(this.names, capacity);
+			this.hashes = Arrays.copyOf(this.hashes, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+		this.names[this.size] = key;
+		this.hashes[this.size] = hash;
+		this.values[this.size] = value;
+		this.size++;
+	}
+
+	private void removeAt(int index) {
+		int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.names, index + 1, this.names, index, moved);
+			System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+		}
+		this.size--;
+		this.names[this.size] = null;
+		this.values[this.size] = null;
+	}
+
+	/**
+	 * Return the values at the given index as a mutable list, replacing a
+	 * single value with a list, so that changes to it are reflected in this map.
+	 */
+	private List<String> valuesAsList(int index) {
+		Object value = this.values[index];
+		if (value instanceof String singleValue) {
+			List<String> list = newList(singleValue);
+			this.values[index] = list;
+			return list;
+		}
+		return asList(value);
+	}
+
+	/**
+	 * Return the values at the given index as a list, without replacing a
+	 * single value: it is exposed through a {@link SingleValueList} instead.
+	 */
+	private List<String> valuesView(int index) {
+		Object value = this.values[index];
+		if (value instanceof String singleValue) {
+			return new SingleValueList(this.names[index], index, singleValue);
+		}
+		return asList(value);
+	}
+
+	private boolean valuesEqual(int index, @Nullable Object other) {
+		Object value = this.values[index];
+		if (value instanceof String singleValue) {
+			return (other instanceof List<?> list && list.size() == 1 && singleValue.equals(list.get(0)));
+		}
+		return asList(value).equals(other);
+	}
+
+	private int valuesHashCode(int index) {
+		Object value = this.values[index];
+		if (value instanceof String singleValue) {
+			// same as the hash code of a List with the single value
+			return 31 + singleValue.hashCode();
+		}
+		return asList(value).hashCode();
+	}
+
+	/**
+	 * Return the index of the given header name, checking the given index
+	 * first, as a header is usually still at the index it was found at.
+	 */
+	private int findIndex(String key, int expectedIndex) {
+		if (expectedIndex < this.size && this.names[expectedIndex] == key) {
+			return expectedIndex;
+		}
+		return indexOf(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<String> asList(Object value) {
+		return (List<String>) value;
+	}
+
+	private static List<String> newList(@Nullable String value) {
+		List<String> list = new ArrayList<>(2);
+		list.add(value);
+		return list;
+	}
+
+	/**
+	 * Calculate the hash code of the ASCII lower case form of the given name.
+	 */
+	private static int hash(String name) {
+		int hash = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				c += ('a' - 'A');
+			}
+			hash = 31 * hash + c;
+		}
+		return hash;
+	}
+
+
+	private abstract class HeaderIterator<T> implements Iterator<T> {
+
+		private int next = 0;
+
+		private int current = -1;
+
+		@Override
+		public boolean hasNext() {
+			return (this.next < size);
+		}
+
+		@Override
+		public T next() {
+			if (this.next >= size) {
+				throw new NoSuchElementException();
+			}
+			this.current = this.next++;
+			return element(this.current);
+		}
+
+		@Override
+		public void remove() {
+			if (this.current == -1) {
+				throw new IllegalStateException("No current header in iterator");
+			}
+			removeAt(this.current);
+			this.next = this.current;
+			this.current = -1;
+		}
+
+		abstract T element(int index);
+	}
+
+
+	/**
+	 * List view of a single header value, turning it into a list stored in
+	 * this map only once the view is modified.
+	 */
+	private final class SingleValueList extends AbstractList<String> implements RandomAccess {
+
+		private final String key;
+
+		private final int index;
+
+		private final String value;
+
+		@Nullable
+		private List<String> list;
+
+		SingleValueList(String key, int index, String value) {
+			this.key = key;
+			this.index = index;
+			this.value = value;
+		}
+
+		@Override
+		public String get(int index) {
+			if (this.list != null) {
+				return this.list.get(index);
+			}
+			Objects.checkIndex(index, 1);
+			return this.value;
+		}
+
+		@Override
+		public int size() {
+			return (this.list != null ? this.list.size() : 1);
+		}
+
+		@Override
+		public String set(int index, String element) {
+			return modifiableList().set(index, element);
+		}
+
+		@Override
+		public void add(int index, String element) {
+			modifiableList().add(index, element);
+			this.modCount++;
+		}
+
+		@Override
+		public String remove(int index) {
+			String previous = modifiableList().remove(index);
+			this.modCount++;
+			return previous;
+		}
+
+		private List<String> modifiableList() {
+			if (this.list == null) {
+				this.list = newList(this.value);
+				// store the list, unless the header has been changed in the meantime
+				int index = findIndex(this.key, this.index);
+				if (index != -1 && values[index] == this.value) {
+					values[index] = this.list;
+				}
+			}
+			return this.list;
+		}
+	}
+
+
+	private class HeaderEntry implements Entry<String, List<String>> {
+
+		private final String key;
+
+		private final int index;
+
+		HeaderEntry(int index) {
+			this.key = names[index];
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		public List<String> getValue() {
+			int index = findIndex(this.key, this.index);
+			return (index != -1 ? valuesView(index) : null);
+		}
+
+		@Override
+		public List<String> setValue(List<String> value) {
+			List<String> previous = put(this.key, value);
+			return (previous != null ? previous : List.of());
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof Map.Entry<?, ?> that &&
+					this.key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue())));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.key.hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return this.key + "=" + getValue();
+		}
+	}
+
+}
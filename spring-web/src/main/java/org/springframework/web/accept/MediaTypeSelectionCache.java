@@ -0,0 +1,115 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.accept;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache for the selection of the media type of a response, given the media
+ * types acceptable to the client and the media types the handler can produce.
+ * Most clients send the same 'Accept' header for the same handlers, so the
+ * outcome of the selection can be reused across requests.
+ *
+ * <p>The selection itself is delegated to the given function, which is only
+ * invoked on a cache miss.
+ *
+ * @since 6.2
+ */
+public final class MediaTypeSelectionCache {
+
+	private final ConcurrentLruCache<Key, Selection> cache;
+
+
+	/**
+	 * Create a new {@code MediaTypeSelectionCache}.
+	 * @param capacity the maximum number of selections to cache
+	 * @param selector the function to select the media type, given the
+	 * acceptable and the producible media types
+	 */
+	public MediaTypeSelectionCache(int capacity,
+			BiFunction<List<MediaType>, List<MediaType>, Selection> selector) {
+
+		Assert.notNull(selector, "Selector must not be null");
+		this.cache = new ConcurrentLruCache<>(capacity,
+				key -> selector.apply(key.acceptableTypes, key.producibleTypes));
+	}
+
+
+	/**
+	 * Return the selection for the given acceptable and producible media types,
+	 * computing it if it is not cached yet.
+	 * @param acceptableTypes the media types acceptable to the client
+	 * @param producibleTypes the media types the handler can produce
+	 * @return the selection (never {@code null})
+	 */
+	public Selection get(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+		return this.cache.get(new Key(acceptableTypes, producibleTypes));
+	}
+
+
+	/**
+	 * Outcome of the selection of a response media type.
+	 * @param hasCompatibleTypes whether any acceptable and producible types are compatible
+	 * @param mediaType the selected media type, or {@code null} if none
+	 */
+	public record Selection(boolean hasCompatibleTypes, @Nullable MediaType mediaType) {
+
+		/**
+		 * Selection for the case of no compatible media types.
+		 */
+		public static final Selection NONE = new Selection(false, null);
+	}
+
+
+	/**
+	 * Cache key for a selection. Holds immutable copies of the given lists,
+	 * so that it is not affected by later changes to the lists of a request.
+	 */
+	private static final class Key {
+
+		private final List<MediaType> acceptableTypes;
+
+		private final List<MediaType> producibleTypes;
+
+		private final int hashCode;
+
+		Key(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+			this.acceptableTypes = List.copyOf(acceptableTypes);
+			this.producibleTypes = List.copyOf(producibleTypes);
+			this.hashCode = 31 * this.acceptableTypes.hashCode() + this.producibleTypes.hashCode();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof Key that &&
+					this.acceptableTypes.equals(that.acceptableTypes) &&
+					this.producibleTypes.equals(that.producibleTypes)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
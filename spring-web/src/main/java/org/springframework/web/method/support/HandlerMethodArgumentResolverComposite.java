@@ -16,7 +16,9 @@
 
 package org.springframework.web.method.support;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +28,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
 
 /**
  * Resolves method parameters by delegating to a list of registered
@@ -43,12 +46,15 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<Method, BoundArgumentResolvers> boundArgumentResolvers = new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
 	 */
 	public HandlerMethodArgumentResolverComposite addResolver(HandlerMethodArgumentResolver resolver) {
 		this.argumentResolvers.add(resolver);
+		this.boundArgumentResolvers.clear();
 		return this;
 	}
 
@@ -61,6 +67,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			Collections.addAll(this.argumentResolvers, resolvers);
+			this.boundArgumentResolvers.clear();
 		}
 		return this;
 	}
@@ -73,6 +80,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 
 		if (resolvers != null) {
 			this.argumentResolvers.addAll(resolvers);
+			this.boundArgumentResolvers.clear();
 		}
 		return this;
 	}
@@ -91,6 +99,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	public void clear() {
 		this.argumentResolvers.clear();
 		this.argumentResolverCache.clear();
+		this.boundArgumentResolvers.clear();
 	}
 
 
@@ -141,4 +150,40 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return result;
 	}
 
+	/**
+	 * Return the registered resolver for each parameter of the given handler
+	 * method, with {@code null} elements for unsupported parameters.
+	 * <p>The resolvers are cached per handler {@link Method}, rather than looked
+	 * up for each parameter on every request.
+	 * @param handlerMethod the handler method to resolve arguments for
+	 * @since 6.2
+	 */
+	public HandlerMethodArgumentResolver[] getArgumentResolvers(HandlerMethod handlerMethod) {
+		MethodParameter[] parameters = handlerMethod.getMethodParameters();
+		BoundArgumentResolvers bound = this.boundArgumentResolvers.get(handlerMethod.getMethod());
+		if (bound != null && bound.isFor(parameters)) {
+			return bound.resolvers();
+		}
+		HandlerMethodArgumentResolver[] resolvers = new HandlerMethodArgumentResolver[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			resolvers[i] = getArgumentResolver(parameters[i]);
+		}
+		if (bound == null) {
+			this.boundArgumentResolvers.put(handlerMethod.getMethod(), new BoundArgumentResolvers(parameters, resolvers));
+		}
+		return resolvers;
+	}
+
+
+	/**
+	 * The resolvers for the parameters of a handler method.
+	 */
+	private record BoundArgumentResolvers(MethodParameter[] parameters, HandlerMethodArgumentResolver[] resolvers) {
+
+		boolean isFor(MethodParameter[] parameters) {
+			// Copies of a handler method share its parameters
+			return (this.parameters == parameters || Arrays.equals(this.parameters, parameters));
+		}
+	}
+
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.http.codec.multipart.FormFieldPart;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Spring MultipartHttpServletRequest adapter, wrapping a Servlet HttpServletRequest
+ * and the {@link Part} objects parsed from its body by
+ * {@link StreamingServletMultipartResolver}.
+ *
+ * <p>Parts can either be accessed through the {@code MultipartHttpServletRequest}
+ * API, which parses the entire request, or be consumed one at a time, in arrival
+ * order, through {@link #getPartStream()}. Only one of the two styles can be
+ * used for a given request.
+ *
+ * @since 6.2
+ * @see StreamingServletMultipartResolver
+ */
+public class StreamingMultipartHttpServletRequest extends DefaultMultipartHttpServletRequest {
+
+	private final Flux<Part> parts;
+
+	private final List<Part> consumedParts = new ArrayList<>();
+
+	private boolean partStreamConsumed;
+
+
+	/**
+	 * Create a new StreamingMultipartHttpServletRequest wrapper for the given request.
+	 * @param request the servlet request to wrap
+	 * @param parts the parts parsed from the request body
+	 * @param lazyParsing whether multipart parsing should be triggered lazily on
+	 * first access of multipart files or parameters, or of the part stream
+	 * @throws MultipartException if an immediate parsing attempt failed
+	 */
+	public StreamingMultipartHttpServletRequest(HttpServletRequest request, Flux<Part> parts, boolean lazyParsing)
+			throws MultipartException {
+
+		super(request);
+		this.parts = parts;
+		if (!lazyParsing) {
+			parseRequest();
+		}
+	}
+
+
+	/**
+	 * Return the parts of this request, in arrival order, as they are parsed
+	 * from the request body. Each part is fully received, i.e. either held in
+	 * memory or written to a temporary file, before it is returned.
+	 * <p>This method can only be used with lazy parsing, and can not be combined
+	 * with access to multipart files or parameters for the same request.
+	 * @throws IllegalStateException if the request body has already been parsed
+	 */
+	public Stream<Part> getPartStream() {
+		if (this.partStreamConsumed || isResolved()) {
+			throw new IllegalStateException("Multipart request has already been parsed");
+		}
+		this.partStreamConsumed = true;
+		return this.parts
+				.doOnNext(this::addConsumedPart)
+				.onErrorMap(this::translateParseFailure)
+				.toStream(1);
+	}
+
+	private synchronized void addConsumedPart(Part part) {
+		this.consumedParts.add(part);
+	}
+
+	private void parseRequest() {
+		if (this.partStreamConsumed) {
+			throw new IllegalStateException("Multipart request has already been consumed as part stream");
+		}
+		this.partStreamConsumed = true;
+		try {
+			List<Part> parts = this.parts.doOnNext(this::addConsumedPart).collectList().block();
+			MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+			Map<String, String[]> parameters = new LinkedHashMap<>();
+			Map<String, String> parameterContentTypes = new LinkedHashMap<>();
+			if (parts != null) {
+				for (Part part : parts) {
+					if (part instanceof FormFieldPart formFieldPart) {
+						String name = part.name();
+						String[] values = parameters.get(name);
+						parameters.put(name, (values != null ?
+								ObjectUtils.addObjectToArray(values, formFieldPart.value()) :
+								new String[] {formFieldPart.value()}));
+						MediaType contentType = part.headers().getContentType();
+						if (contentType != null) {
+							parameterContentTypes.put(name, contentType.toString());
+						}
+					}
+					else {
+						files.add(part.name(), new PartMultipartFile(part));
+					}
+				}
+			}
+			setMultipartFiles(files);
+			setMultipartParameters(parameters);
+			setMultipartParameterContentTypes(parameterContentTypes);
+		}
+		catch (Throwable ex) {
+			throw translateParseFailure(ex);
+		}
+	}
+
+	private MultipartException translateParseFailure(Throwable ex) {
+		if (ex instanceof MultipartException multipartException) {
+			return multipartException;
+		}
+		Throwable cause = ex;
+		do {
+			if (cause instanceof DataBufferLimitException) {
+				return new MaxUploadSizeExceededException(-1, ex);
+			}
+			cause = cause.getCause();
+		}
+		while (cause != null);
+		return new MultipartException("Failed to parse multipart servlet request", ex);
+	}
+
+	@Override
+	protected void initializeMultipart() {
+		parseRequest();
+	}
+
+	@Override
+	@Nullable
+	public HttpHeaders getMultipartHeaders(String paramOrFileName) {
+		MultipartFile file = getFile(paramOrFileName);
+		if (file instanceof PartMultipartFile partFile) {
+			return partFile.part.headers();
+		}
+		return super.getMultipartHeaders(paramOrFileName);
+	}
+
+	/**
+	 * Delete the temporary storage of all parts parsed so far.
+	 * Called by {@link StreamingServletMultipartResolver#cleanupMultipart}.
+	 */
+	synchronized void deleteParts() {
+		for (Part part : this.consumedParts) {
+			try {
+				part.delete().block();
+			}
+			catch (Throwable ex) {
+				LogFactory.getLog(getClass()).warn("Failed to perform cleanup of multipart items", ex);
+			}
+		}
+		this.consumedParts.clear();
+	}
+
+
+	/**
+	 * Spring MultipartFile adapter, wrapping a {@link Part}.
+	 * <p>The size of a part is not known up front. It is determined once, either
+	 * when the content is read through {@link #getBytes()}, or by counting the
+	 * bytes of the content on the first call to {@link #getSize()}.
+	 */
+	private static class PartMultipartFile implements MultipartFile {
+
+		private final Part part;
+
+		private volatile long size = -1;
+
+		public PartMultipartFile(Part part) {
+			this.part = part;
+		}
+
+		@Override
+		public String getName() {
+			return this.part.name();
+		}
+
+		@Override
+		@Nullable
+		public String getOriginalFilename() {
+			return (this.part instanceof FilePart filePart ? filePart.filename() : null);
+		}
+
+		@Override
+		@Nullable
+		public String getContentType() {
+			MediaType contentType = this.part.headers().getContentType();
+			return (contentType != null ? contentType.toString() : null);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			long size = this.size;
+			if (size != -1) {
+				return (size == 0);
+			}
+			Boolean hasContent = this.part.content()
+					.map(buffer -> {
+						int count = buffer.readableByteCount();
+						DataBufferUtils.release(buffer);
+						return count;
+					})
+					.filter(count -> count > 0)
+					.hasElements()
+					.block();
+			return !Boolean.TRUE.equals(hasContent);
+		}
+
+		@Override
+		public long getSize() {
+			long size = this.size;
+			if (size == -1) {
+				Long count = this.part.content()
+						.map(buffer -> {
+							long byteCount = buffer.readableByteCount();
+							DataBufferUtils.release(buffer);
+							return byteCount;
+						})
+						.reduce(0L, Long::sum)
+						.block();
+				size = (count != null ? count : 0);
+				this.size = size;
+			}
+			return size;
+		}
+
+		@Override
+		public byte[] getBytes() throws IOException {
+			DataBuffer buffer = DataBufferUtils.join(this.part.content()).block();
+			if (buffer == null) {
+				this.size = 0;
+				return new byte[0];
+			}
+			try {
+				byte[] bytes = new byte[buffer.readableByteCount()];
+				buffer.read(bytes);
+				this.size = bytes.length;
+				return bytes;
+			}
+			finally {
+				DataBufferUtils.release(buffer);
+			}
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			Iterator<DataBuffer> buffers = this.part.content().toIterable(1).iterator();
+			return new SequenceInputStream(new Enumeration<>() {
+				@Override
+				public boolean hasMoreElements() {
+					return buffers.hasNext();
+				}
+				@Override
+				public InputStream nextElement() {
+					return buffers.next().asInputStream(true);
+				}
+			});
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException, IllegalStateException {
+			transferTo(dest.toPath());
+		}
+
+		@Override
+		public void transferTo(Path dest) throws IOException, IllegalStateException {
+			if (this.part instanceof FilePart filePart) {
+				filePart.transferTo(dest).block();
+			}
+			else {
+				DataBufferUtils.write(this.part.content(), dest).block();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import jakarta.servlet.http.HttpServletRequest;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.multipart.DefaultPartHttpMessageReader;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+/**
+ * {@link MultipartResolver} implementation that parses the request body
+ * itself, rather than delegating to the Servlet container, using the same
+ * multipart parser as {@link DefaultPartHttpMessageReader} in WebFlux.
+ *
+ * <p>Parts are parsed in arrival order, while reading the servlet input
+ * stream. Parts larger than the {@linkplain #setMaxInMemorySize maximum
+ * in-memory size} are written to a temporary file in the
+ * {@linkplain #setFileStorageDirectory file storage directory}, so that
+ * memory usage stays bounded regardless of the size of the upload.
+ * Applications can either access the parsed parts through the
+ * {@link MultipartHttpServletRequest} API, or iterate over them as they
+ * arrive via {@link StreamingMultipartHttpServletRequest#getPartStream()}.
+ *
+ * <p>Since the multipart content is parsed by this resolver, no
+ * "multipart-config" section is required for the affected servlet.
+ * Note that this resolver requires Reactor on the classpath.
+ *
+ * @since 6.2
+ * @see StreamingMultipartHttpServletRequest
+ * @see DefaultPartHttpMessageReader
+ */
+public class StreamingServletMultipartResolver implements MultipartResolver {
+
+	private static final ResolvableType PART_TYPE = ResolvableType.forClass(Part.class);
+
+
+	private final DefaultPartHttpMessageReader partReader = new DefaultPartHttpMessageReader();
+
+	private int bufferSize = 8192;
+
+	private boolean resolveLazily = false;
+
+	private boolean strictServletCompliance = false;
+
+
+	/**
+	 * Configure the maximum amount of memory that is allowed per part.
+	 * When the limit is exceeded, the part is written to a temporary file.
+	 * <p>By default this is set to 256K.
+	 * @see DefaultPartHttpMessageReader#setMaxInMemorySize(int)
+	 */
+	public void setMaxInMemorySize(int maxInMemorySize) {
+		this.partReader.setMaxInMemorySize(maxInMemorySize);
+	}
+
+	/**
+	 * Configure the maximum amount of memory allowed per headers section of
+	 * each part.
+	 * <p>By default this is set to 10K.
+	 * @see DefaultPartHttpMessageReader#setMaxHeadersSize(int)
+	 */
+	public void setMaxHeadersSize(int maxHeadersSize) {
+		this.partReader.setMaxHeadersSize(maxHeadersSize);
+	}
+
+	/**
+	 * Configure the maximum amount of disk space allowed for file parts.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 * @see DefaultPartHttpMessageReader#setMaxDiskUsagePerPart(long)
+	 */
+	public void setMaxDiskUsagePerPart(long maxDiskUsagePerPart) {
+		this.partReader.setMaxDiskUsagePerPart(maxDiskUsagePerPart);
+	}
+
+	/**
+	 * Specify the maximum number of parts allowed in a given multipart request.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 * @see DefaultPartHttpMessageReader#setMaxParts(int)
+	 */
+	public void setMaxParts(int maxParts) {
+		this.partReader.setMaxParts(maxParts);
+	}
+
+	/**
+	 * Set the directory used to store parts larger than
+	 * {@link #setMaxInMemorySize(int) maxInMemorySize}.
+	 * <p>By default, a directory named {@code spring-multipart} is created
+	 * under the system temporary directory.
+	 * @throws IOException if an I/O error occurs, or the parent directory
+	 * does not exist
+	 * @see DefaultPartHttpMessageReader#setFileStorageDirectory(Path)
+	 */
+	public void setFileStorageDirectory(Path fileStorageDirectory) throws IOException {
+		this.partReader.setFileStorageDirectory(fileStorageDirectory);
+	}
+
+	/**
+	 * Set the character set used to decode headers.
+	 * <p>Defaults to UTF-8.
+	 * @see DefaultPartHttpMessageReader#setHeadersCharset(Charset)
+	 */
+	public void setHeadersCharset(Charset headersCharset) {
+		this.partReader.setHeadersCharset(headersCharset);
+	}
+
+	/**
+	 * Set the size of the buffers used to read the servlet input stream.
+	 * <p>Defaults to 8K.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set whether to resolve the multipart request lazily at the time of
+	 * file or parameter access, or when iterating over the
+	 * {@linkplain StreamingMultipartHttpServletRequest#getPartStream() part stream}.
+	 * <p>Default is "false", resolving the multipart elements immediately, throwing
+	 * corresponding exceptions at the time of the {@link #resolveMultipart} call.
+	 * Switch this to "true" for lazy multipart parsing, which is required for
+	 * consuming parts in arrival order.
+	 */
+	public void setResolveLazily(boolean resolveLazily) {
+		this.resolveLazily = resolveLazily;
+	}
+
+	/**
+	 * Specify whether this resolver should only kick in for
+	 * "multipart/form-data" requests.
+	 * <p>Default is "false", processing any request with a "multipart/"
+	 * content type.
+	 * @see StandardServletMultipartResolver#setStrictServletCompliance(boolean)
+	 */
+	public void setStrictServletCompliance(boolean strictServletCompliance) {
+		this.strictServletCompliance = strictServletCompliance;
+	}
+
+
+	@Override
+	public boolean isMultipart(HttpServletRequest request) {
+		return StringUtils.startsWithIgnoreCase(request.getContentType(),
+				(this.strictServletCompliance ? MediaType.MULTIPART_FORM_DATA_VALUE : "multipart/"));
+	}
+
+	@Override
+	public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+		ServletInputMessage inputMessage = new ServletInputMessage(request, this.bufferSize);
+		Flux<Part> parts = this.partReader.read(PART_TYPE, inputMessage, Hints.none());
+		return new StreamingMultipartHttpServletRequest(request, parts, this.resolveLazily);
+	}
+
+	@Override
+	public void cleanupMultipart(MultipartHttpServletRequest request) {
+		if (request instanceof StreamingMultipartHttpServletRequest streamingRequest) {
+			streamingRequest.deleteParts();
+		}
+	}
+
+
+	/**
+	 * Adapts the servlet request body to a {@link ReactiveHttpInputMessage}
+	 * for use with {@link DefaultPartHttpMessageReader}.
+	 */
+	private static class ServletInputMessage implements ReactiveHttpInputMessage {
+
+		private final HttpServletRequest request;
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private final int bufferSize;
+
+		public ServletInputMessage(HttpServletRequest request, int bufferSize) {
+			this.request = request;
+			this.bufferSize = bufferSize;
+			String contentType = request.getContentType();
+			if (contentType != null) {
+				this.headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+			}
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public Flux<DataBuffer> getBody() {
+			return DataBufferUtils.readInputStream(this.request::getInputStream,
+					DefaultDataBufferFactory.sharedInstance, this.bufferSize);
+		}
+	}
+
+}
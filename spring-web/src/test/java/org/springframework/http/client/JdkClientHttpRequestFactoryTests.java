@@ -17,7 +17,19 @@
 package org.springframework.http.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,6 +41,7 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.lang.Nullable;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 
 /**
  * @author Marten Deinum
@@ -86,4 +99,69 @@ class JdkClientHttpRequestFactoryTests extends AbstractHttpRequestFactoryTests {
 		}
 	}
 
+	@Test
+	void cancelExchangeOnReadTimeout() throws Exception {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			CompletableFuture<Void> connectionClosed = acceptWithoutResponse(serverSocket, new CountDownLatch(1));
+			JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+			requestFactory.setReadTimeout(Duration.ofMillis(500));
+			URI uri = URI.create("http://localhost:" + serverSocket.getLocalPort() + "/delay");
+			ClientHttpRequest request = requestFactory.createRequest(uri, HttpMethod.GET);
+
+			assertThatIOException().isThrownBy(request::execute);
+			assertThat(connectionClosed).succeedsWithin(Duration.ofSeconds(5));
+		}
+	}
+
+	@Test
+	void cancelExchangeOnInterrupt() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			CountDownLatch requestReceived = new CountDownLatch(1);
+			CompletableFuture<Void> connectionClosed = acceptWithoutResponse(serverSocket, requestReceived);
+			JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+			requestFactory.setReadTimeout(Duration.ofSeconds(30));
+			URI uri = URI.create("http://localhost:" + serverSocket.getLocalPort() + "/delay");
+			ClientHttpRequest request = requestFactory.createRequest(uri, HttpMethod.GET);
+
+			Future<?> result = executor.submit(() -> {
+				assertThatIOException().isThrownBy(request::execute).withMessageStartingWith("Request was interrupted");
+			});
+			assertThat(requestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+			result.cancel(true);
+
+			// well before the read timeout, which would otherwise end the exchange
+			assertThat(connectionClosed).succeedsWithin(Duration.ofSeconds(5));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Accept a single connection and consume the request without ever
+	 * responding, completing once the client closes or resets the connection.
+	 */
+	private static CompletableFuture<Void> acceptWithoutResponse(ServerSocket serverSocket, CountDownLatch requestReceived) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				serverSocket.setSoTimeout(10_000);
+				try (Socket socket = serverSocket.accept()) {
+					socket.setSoTimeout(10_000);
+					InputStream inputStream = socket.getInputStream();
+					byte[] buffer = new byte[1024];
+					while (inputStream.read(buffer) != -1) {
+						requestReceived.countDown();
+					}
+				}
+			}
+			catch (SocketException ex) {
+				// connection reset by the client
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+	}
+
 }
@@ -37,6 +37,7 @@ import org.springframework.core.codec.CharSequenceEncoder;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.ReflectionUtils;
@@ -48,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.core.ResolvableType.forClass;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.TEXT_HTML;
 import static org.springframework.http.MediaType.TEXT_PLAIN;
 import static org.springframework.http.MediaType.TEXT_XML;
@@ -164,6 +166,17 @@ class EncoderHttpMessageWriterTests {
 		assertThat(this.response.getHeaders().getContentLength()).isEqualTo(4);
 	}
 
+	@Test
+	void noContentLengthForMonoBodyEncodedInChunks() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setChunkSize(2);
+		HttpMessageWriter<String> writer = new EncoderHttpMessageWriter<>(encoder);
+		writer.write(Mono.just("body"), forClass(String.class), APPLICATION_JSON, this.response, NO_HINTS).block();
+
+		assertThat(this.response.getHeaders().getContentLength()).isEqualTo(-1);
+		StepVerifier.create(this.response.getBodyAsString()).expectNext("\"body\"").verifyComplete();
+	}
+
 	@Test // gh-22952
 	void monoBodyDoesNotCancelEncodedFlux() {
 		Mono<String> inputStream = Mono.just("body")
@@ -286,6 +286,42 @@ class Jackson2JsonEncoderTests extends AbstractEncoderTests<Jackson2JsonEncoder>
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@Test
+	void encodeInChunks() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setChunkSize(10);
+
+		Flux<DataBuffer> result = encoder.encode(Mono.just(new Pojo("foofoo", "barbar")), this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), MimeTypeUtils.APPLICATION_JSON, Collections.emptyMap());
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectString("{\"foo\":\"fo"))
+				.consumeNextWith(expectString("ofoo\",\"bar"))
+				.consumeNextWith(expectString("\":\"barbar\""))
+				.consumeNextWith(expectString("}"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void encodeInChunksOnDemand() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setChunkSize(10);
+
+		Flux<DataBuffer> result = encoder.encode(Mono.just(new Pojo("foofoo", "barbar")), this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), MimeTypeUtils.APPLICATION_JSON, Collections.emptyMap());
+
+		StepVerifier.create(result, 1)
+				.consumeNextWith(expectString("{\"foo\":\"fo"))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void invalidChunkSize() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> this.encoder.setChunkSize(0));
+	}
+
 	@Test
 	void encodeAscii() {
 		Mono<Object> input = Mono.just(new Pojo("foo", "bar"));
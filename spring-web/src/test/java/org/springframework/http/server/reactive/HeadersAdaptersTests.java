@@ -34,6 +34,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import org.springframework.http.support.CompactHeadersMap;
 import org.springframework.http.support.JettyHeadersAdapter;
 import org.springframework.http.support.Netty4HeadersAdapter;
 import org.springframework.http.support.Netty5HeadersAdapter;
@@ -138,6 +139,7 @@ class HeadersAdaptersTests {
 	static Stream<Arguments> headers() {
 		return Stream.of(
 				arguments(named("Map", CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH)))),
+				arguments(named("Compact", new CompactHeadersMap(1))),
 				arguments(named("Netty", new Netty4HeadersAdapter(new DefaultHttpHeaders()))),
 				arguments(named("Netty", new Netty5HeadersAdapter(io.netty5.handler.codec.http.headers.HttpHeaders.newHeaders()))),
 				arguments(named("Tomcat", new TomcatHeadersAdapter(new MimeHeaders()))),
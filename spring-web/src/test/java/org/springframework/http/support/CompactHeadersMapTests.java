@@ -0,0 +1,149 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.support;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompactHeadersMap}.
+ */
+class CompactHeadersMapTests {
+
+	private final CompactHeadersMap headers = new CompactHeadersMap(2);
+
+
+	@Test
+	void caseInsensitiveLookup() {
+		this.headers.set("Content-Type", "text/plain");
+		assertThat(this.headers.getFirst("content-type")).isEqualTo("text/plain");
+		assertThat(this.headers.getFirst("CONTENT-TYPE")).isEqualTo("text/plain");
+		assertThat(this.headers.containsKey("Content-type")).isTrue();
+		assertThat(this.headers.keySet()).containsExactly("Content-Type");
+	}
+
+	@Test
+	void growBeyondInitialCapacity() {
+		for (int i = 0; i < 20; i++) {
+			this.headers.add("X-Header-" + i, "value" + i);
+		}
+		assertThat(this.headers).hasSize(20);
+		assertThat(this.headers.getFirst("x-header-19")).isEqualTo("value19");
+		assertThat(this.headers.keySet()).startsWith("X-Header-0", "X-Header-1");
+	}
+
+	@Test
+	void singleValueListIsLive() {
+		this.headers.set("Accept", "text/plain");
+		List<String> values = this.headers.get("accept");
+		assertThat(values).containsExactly("text/plain");
+
+		values.add("application/json");
+		assertThat(this.headers.get("Accept")).containsExactly("text/plain", "application/json");
+	}
+
+	@Test
+	void singleValueListDetachedBySet() {
+		this.headers.set("Accept", "text/plain");
+		List<String> values = this.headers.get("Accept");
+		this.headers.set("Accept", "text/html");
+
+		values.add("application/json");
+		assertThat(values).containsExactly("text/plain", "application/json");
+		assertThat(this.headers.get("Accept")).containsExactly("text/html");
+	}
+
+	@Test
+	void entryValuesAreLive() {
+		this.headers.set("Accept", "text/plain");
+		this.headers.add("Accept-Language", "en");
+		this.headers.add("Accept-Language", "de");
+
+		for (Map.Entry<String, List<String>> entry : this.headers.entrySet()) {
+			entry.getValue().add("*");
+		}
+		assertThat(this.headers.get("Accept")).containsExactly("text/plain", "*");
+		assertThat(this.headers.get("Accept-Language")).containsExactly("en", "de", "*");
+	}
+
+	@Test
+	void containsValue() {
+		this.headers.set("Accept", "text/plain");
+		this.headers.add("Accept-Language", "en");
+		this.headers.add("Accept-Language", "de");
+
+		assertThat(this.headers.containsValue(List.of("text/plain"))).isTrue();
+		assertThat(this.headers.containsValue(List.of("en", "de"))).isTrue();
+		assertThat(this.headers.containsValue(List.of("text/html"))).isFalse();
+		assertThat(this.headers.containsValue("text/plain")).isFalse();
+	}
+
+	@Test
+	void setReplacesValues() {
+		this.headers.add("Accept", "text/plain");
+		this.headers.add("Accept", "application/json");
+		this.headers.set("ACCEPT", "text/html");
+		assertThat(this.headers.get("Accept")).containsExactly("text/html");
+		assertThat(this.headers).hasSize(1);
+	}
+
+	@Test
+	void removeKeepsOrder() {
+		this.headers.set("A", "a");
+		this.headers.set("B", "b");
+		this.headers.set("C", "c");
+		assertThat(this.headers.remove("b")).containsExactly("b");
+		assertThat(this.headers.keySet()).containsExactly("A", "C");
+		assertThat(this.headers.remove("b")).isNull();
+	}
+
+	@Test
+	void equalsOtherMap() {
+		this.headers.add("Accept", "text/plain");
+		this.headers.add("Accept", "application/json");
+		this.headers.set("Host", "example.org");
+
+		Map<String, List<String>> other = new LinkedHashMap<>();
+		other.put("Accept", List.of("text/plain", "application/json"));
+		other.put("Host", List.of("example.org"));
+
+		assertThat(this.headers).isEqualTo(other);
+		assertThat(this.headers.hashCode()).isEqualTo(other.hashCode());
+		assertThat(this.headers.toSingleValueMap()).containsExactly(
+				Map.entry("Accept", "text/plain"), Map.entry("Host", "example.org"));
+	}
+
+	@Test
+	void backingHttpHeaders() {
+		HttpHeaders httpHeaders = new HttpHeaders(this.headers);
+		httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+		httpHeaders.setContentLength(42);
+
+		assertThat(httpHeaders.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(httpHeaders.getContentLength()).isEqualTo(42);
+		assertThat(this.headers.getFirst("content-length")).isEqualTo("42");
+	}
+
+}
@@ -64,6 +64,18 @@ class HeaderContentNegotiationStrategyTests {
 				.containsExactly("text/html", "text/x-c", "text/x-dvi;q=0.8", "text/plain;q=0.5");
 	}
 
+	@Test
+	void resolveMediaTypesFromCache() throws Exception {
+		this.servletRequest.addHeader("Accept", "text/plain; q=0.5, text/html");
+		List<MediaType> mediaTypes = this.strategy.resolveMediaTypes(this.webRequest);
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.addHeader("Accept", "text/plain; q=0.5, text/html");
+		List<MediaType> cachedMediaTypes = this.strategy.resolveMediaTypes(new ServletWebRequest(otherRequest));
+
+		assertThat(cachedMediaTypes).isSameAs(mediaTypes).isUnmodifiable();
+	}
+
 	@Test  // gh-32483
 	void resolveMediaTypesWithMaxElements() throws Exception {
 		String acceptHeaderValue = "text/plain, text/html,".repeat(25);
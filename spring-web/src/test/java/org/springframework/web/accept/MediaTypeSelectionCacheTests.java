@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.accept;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.accept.MediaTypeSelectionCache.Selection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MediaTypeSelectionCache}.
+ */
+class MediaTypeSelectionCacheTests {
+
+	private final AtomicInteger selections = new AtomicInteger();
+
+	private final MediaTypeSelectionCache cache = new MediaTypeSelectionCache(16, (acceptable, producible) -> {
+		this.selections.incrementAndGet();
+		return new Selection(true, producible.get(0));
+	});
+
+
+	@Test
+	void selectionIsComputedOnceForEqualTypes() {
+		Selection selection = this.cache.get(List.of(MediaType.ALL), List.of(MediaType.APPLICATION_JSON));
+		assertThat(selection.mediaType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+		assertThat(this.cache.get(new ArrayList<>(List.of(MediaType.ALL)), new ArrayList<>(List.of(MediaType.APPLICATION_JSON))))
+				.isSameAs(selection);
+		assertThat(this.selections).hasValue(1);
+	}
+
+	@Test
+	void cachedSelectionIsNotAffectedByChangesToTypes() {
+		List<MediaType> acceptableTypes = new ArrayList<>(List.of(MediaType.ALL));
+		List<MediaType> producibleTypes = new ArrayList<>(List.of(MediaType.APPLICATION_JSON));
+		Selection selection = this.cache.get(acceptableTypes, producibleTypes);
+
+		producibleTypes.set(0, MediaType.APPLICATION_XML);
+		assertThat(this.cache.get(acceptableTypes, producibleTypes).mediaType()).isEqualTo(MediaType.APPLICATION_XML);
+		assertThat(this.cache.get(List.of(MediaType.ALL), List.of(MediaType.APPLICATION_JSON))).isSameAs(selection);
+		assertThat(this.selections).hasValue(2);
+	}
+
+}
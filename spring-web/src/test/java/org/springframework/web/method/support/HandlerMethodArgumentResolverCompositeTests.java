@@ -22,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.web.method.HandlerMethod;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -81,6 +82,21 @@ class HandlerMethodArgumentResolverCompositeTests {
 				this.resolverComposite.resolveArgument(paramStr, null, null, null));
 	}
 
+	@Test
+	void getArgumentResolvers() throws Exception {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class);
+		this.resolverComposite.addResolver(intResolver);
+		HandlerMethod handlerMethod = new HandlerMethod(this, "handle", Integer.class, String.class);
+
+		HandlerMethodArgumentResolver[] resolvers = this.resolverComposite.getArgumentResolvers(handlerMethod);
+		assertThat(resolvers).containsExactly(intResolver, null);
+		assertThat(this.resolverComposite.getArgumentResolvers(new InvocableHandlerMethod(handlerMethod))).isSameAs(resolvers);
+
+		StubArgumentResolver stringResolver = new StubArgumentResolver(String.class);
+		this.resolverComposite.addResolver(stringResolver);
+		assertThat(this.resolverComposite.getArgumentResolvers(handlerMethod)).containsExactly(intResolver, stringResolver);
+	}
+
 
 	@SuppressWarnings("unused")
 	private void handle(Integer arg1, String arg2) {
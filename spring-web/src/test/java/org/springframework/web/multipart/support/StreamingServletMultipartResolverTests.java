@@ -0,0 +1,150 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.http.codec.multipart.FormFieldPart;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link StreamingServletMultipartResolver}.
+ */
+class StreamingServletMultipartResolverTests {
+
+	private static final String BOUNDARY = "simple-boundary";
+
+	private static final String BODY = """
+			--simple-boundary\r
+			Content-Disposition: form-data; name="text"\r
+			\r
+			text value\r
+			--simple-boundary\r
+			Content-Disposition: form-data; name="file"; filename="foo.txt"\r
+			Content-Type: text/plain\r
+			\r
+			file content\r
+			--simple-boundary--\r
+			""";
+
+
+	private final StreamingServletMultipartResolver resolver = new StreamingServletMultipartResolver();
+
+
+	@Test
+	void isMultipart() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+		assertThat(this.resolver.isMultipart(request)).isFalse();
+
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		assertThat(this.resolver.isMultipart(request)).isTrue();
+
+		request.setContentType("multipart/mixed; boundary=" + BOUNDARY);
+		assertThat(this.resolver.isMultipart(request)).isTrue();
+
+		this.resolver.setStrictServletCompliance(true);
+		assertThat(this.resolver.isMultipart(request)).isFalse();
+	}
+
+	@Test
+	void resolveMultipart() throws Exception {
+		MultipartHttpServletRequest request = this.resolver.resolveMultipart(createRequest(BODY));
+
+		assertThat(request.getParameter("text")).isEqualTo("text value");
+		MultipartFile file = request.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getOriginalFilename()).isEqualTo("foo.txt");
+		assertThat(file.getContentType()).isEqualTo("text/plain");
+		assertThat(file.isEmpty()).isFalse();
+		assertThat(file.getSize()).isEqualTo(12);
+		assertThat(file.getBytes()).isEqualTo("file content".getBytes(StandardCharsets.UTF_8));
+		assertThat(file.getInputStream().readAllBytes()).isEqualTo("file content".getBytes(StandardCharsets.UTF_8));
+
+		this.resolver.cleanupMultipart(request);
+	}
+
+	@Test
+	void resolveMultipartToDisk(@TempDir Path tempDir) throws Exception {
+		this.resolver.setMaxInMemorySize(11);
+		this.resolver.setFileStorageDirectory(tempDir);
+		MultipartHttpServletRequest request = this.resolver.resolveMultipart(createRequest(BODY));
+
+		MultipartFile file = request.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getSize()).isEqualTo(12);
+		assertThat(file.getResource().contentLength()).isEqualTo(12);
+		assertThat(file.isEmpty()).isFalse();
+		Path dest = tempDir.resolve("dest.txt");
+		file.transferTo(dest);
+		assertThat(Files.readString(dest)).isEqualTo("file content");
+
+		this.resolver.cleanupMultipart(request);
+		try (var files = Files.list(tempDir)) {
+			assertThat(files).containsExactly(dest);
+		}
+	}
+
+	@Test
+	void partStream() {
+		this.resolver.setResolveLazily(true);
+		StreamingMultipartHttpServletRequest request =
+				(StreamingMultipartHttpServletRequest) this.resolver.resolveMultipart(createRequest(BODY));
+
+		List<Part> parts = request.getPartStream().collect(Collectors.toList());
+		assertThat(parts).hasSize(2);
+		assertThat(parts.get(0)).isInstanceOf(FormFieldPart.class);
+		assertThat(parts.get(1)).isInstanceOf(FilePart.class);
+		assertThat(((FilePart) parts.get(1)).filename()).isEqualTo("foo.txt");
+
+		assertThatIllegalStateException().isThrownBy(request::getPartStream);
+		assertThatIllegalStateException().isThrownBy(() -> request.getFile("file"));
+
+		this.resolver.cleanupMultipart(request);
+	}
+
+	@Test
+	void maxHeadersSizeExceeded() {
+		this.resolver.setMaxHeadersSize(10);
+		assertThatExceptionOfType(MaxUploadSizeExceededException.class)
+				.isThrownBy(() -> this.resolver.resolveMultipart(createRequest(BODY)));
+	}
+
+
+	private static MockHttpServletRequest createRequest(String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+}
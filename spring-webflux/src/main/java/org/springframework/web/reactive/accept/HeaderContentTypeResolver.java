@@ -18,9 +18,11 @@ package org.springframework.web.reactive.accept;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.server.NotAcceptableStatusException;
 import org.springframework.web.server.ServerWebExchange;
@@ -33,18 +35,39 @@ import org.springframework.web.server.ServerWebExchange;
  */
 public class HeaderContentTypeResolver implements RequestedContentTypeResolver {
 
+	private static final int MEDIA_TYPES_CACHE_LIMIT = 64;
+
+
+	private final ConcurrentLruCache<String, List<MediaType>> mediaTypesCache =
+			new ConcurrentLruCache<>(MEDIA_TYPES_CACHE_LIMIT, HeaderContentTypeResolver::parseMediaTypes);
+
+
 	@Override
 	public List<MediaType> resolveMediaTypes(ServerWebExchange exchange) throws NotAcceptableStatusException {
+		List<String> headerValues = exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT);
+		if (CollectionUtils.isEmpty(headerValues)) {
+			return MEDIA_TYPE_ALL_LIST;
+		}
 		try {
-			List<MediaType> mediaTypes = exchange.getRequest().getHeaders().getAccept();
-			MimeTypeUtils.sortBySpecificity(mediaTypes);
-			return (!CollectionUtils.isEmpty(mediaTypes) ? mediaTypes : MEDIA_TYPE_ALL_LIST);
+			String headerValue = (headerValues.size() == 1 ? headerValues.get(0) : String.join(",", headerValues));
+			return this.mediaTypesCache.get(headerValue);
 		}
 		catch (InvalidMediaTypeException ex) {
-			String value = exchange.getRequest().getHeaders().getFirst("Accept");
+			String value = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
 			throw new NotAcceptableStatusException(
 					"Could not parse 'Accept' header [" + value + "]: " + ex.getMessage());
 		}
 	}
 
+	/**
+	 * Parse and sort the media types of the given 'Accept' header value.
+	 * <p>The result is cached by raw header value, since most clients send
+	 * the same few 'Accept' headers, and is therefore unmodifiable.
+	 */
+	private static List<MediaType> parseMediaTypes(String headerValue) {
+		List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValue);
+		MimeTypeUtils.sortBySpecificity(mediaTypes);
+		return (!CollectionUtils.isEmpty(mediaTypes) ? List.copyOf(mediaTypes) : MEDIA_TYPE_ALL_LIST);
+	}
+
 }
@@ -32,6 +32,8 @@ import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.accept.MediaTypeSelectionCache;
+import org.springframework.web.accept.MediaTypeSelectionCache.Selection;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.HandlerResult;
 import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
@@ -50,6 +52,8 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 	private static final List<MediaType> ALL_APPLICATION_MEDIA_TYPES =
 			List.of(MediaType.ALL, new MediaType("application"));
 
+	private static final int MEDIA_TYPE_SELECTION_CACHE_LIMIT = 256;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -57,6 +61,9 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 
 	private final ReactiveAdapterRegistry adapterRegistry;
 
+	private final MediaTypeSelectionCache mediaTypeSelectionCache =
+			new MediaTypeSelectionCache(MEDIA_TYPE_SELECTION_CACHE_LIMIT, this::computeMediaTypeSelection);
+
 	private int order = LOWEST_PRECEDENCE;
 
 
@@ -140,32 +147,9 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 
 		List<MediaType> producibleTypes = getProducibleTypes(exchange, producibleTypesSupplier);
 
-		Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
-		for (MediaType acceptable : acceptableTypes) {
-			for (MediaType producible : producibleTypes) {
-				if (acceptable.isCompatibleWith(producible)) {
-					compatibleMediaTypes.add(selectMoreSpecificMediaType(acceptable, producible));
-				}
-			}
-		}
-
-		List<MediaType> result = new ArrayList<>(compatibleMediaTypes);
-		MimeTypeUtils.sortBySpecificity(result);
-
-		MediaType selected = null;
-		for (MediaType mediaType : result) {
-			if (mediaType.isConcrete()) {
-				selected = mediaType;
-				break;
-			}
-			else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
-				selected = MediaType.APPLICATION_OCTET_STREAM;
-				break;
-			}
-		}
+		MediaType selected = this.mediaTypeSelectionCache.get(acceptableTypes, producibleTypes).mediaType();
 
 		if (selected != null) {
-			selected = selected.removeQualityValue();
 			if (logger.isDebugEnabled()) {
 				logger.debug(exchange.getLogPrefix() + "Using '" + selected + "' given " + acceptableTypes +
 						" and supported " + producibleTypes);
@@ -190,6 +174,34 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 		return (mediaTypes != null ? new ArrayList<>(mediaTypes) : producibleTypesSupplier.get());
 	}
 
+	/**
+	 * Select the media type to use for the response, given the acceptable and
+	 * producible media types, on a miss of the media type selection cache.
+	 */
+	private Selection computeMediaTypeSelection(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+		Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
+		for (MediaType acceptable : acceptableTypes) {
+			for (MediaType producible : producibleTypes) {
+				if (acceptable.isCompatibleWith(producible)) {
+					compatibleMediaTypes.add(selectMoreSpecificMediaType(acceptable, producible));
+				}
+			}
+		}
+
+		List<MediaType> result = new ArrayList<>(compatibleMediaTypes);
+		MimeTypeUtils.sortBySpecificity(result);
+
+		for (MediaType mediaType : result) {
+			if (mediaType.isConcrete()) {
+				return new Selection(true, mediaType.removeQualityValue());
+			}
+			else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
+				return new Selection(true, MediaType.APPLICATION_OCTET_STREAM);
+			}
+		}
+		return (result.isEmpty() ? Selection.NONE : new Selection(true, null));
+	}
+
 	private MediaType selectMoreSpecificMediaType(MediaType acceptable, MediaType producible) {
 		producible = producible.copyQualityValue(acceptable);
 		if (acceptable.isLessSpecific(producible)) {
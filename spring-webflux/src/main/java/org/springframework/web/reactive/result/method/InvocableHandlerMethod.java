@@ -77,6 +77,9 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private final HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
 
+	@Nullable
+	private volatile HandlerMethodArgumentResolver[] boundResolvers;
+
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 	private ReactiveAdapterRegistry reactiveAdapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
@@ -108,6 +111,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	public void setArgumentResolvers(List<? extends HandlerMethodArgumentResolver> resolvers) {
 		this.resolvers.addResolvers(resolvers);
+		this.boundResolvers = null;
 	}
 
 	/**
@@ -226,20 +230,26 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 
-		List<Mono<Object>> argMonos = new ArrayList<>(parameters.length);
 		for (MethodParameter parameter : parameters) {
 			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
+		}
+		HandlerMethodArgumentResolver[] resolvers = getBoundResolvers(parameters);
+
+		List<Mono<Object>> argMonos = new ArrayList<>(parameters.length);
+		for (int i = 0; i < parameters.length; i++) {
+			MethodParameter parameter = parameters[i];
 			Object providedArg = findProvidedArgument(parameter, providedArgs);
 			if (providedArg != null) {
 				argMonos.add(Mono.just(providedArg));
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = resolvers[i];
+			if (resolver == null) {
 				return Mono.error(new IllegalStateException(
 						formatArgumentError(parameter, "No suitable resolver")));
 			}
 			try {
-				argMonos.add(this.resolvers.resolveArgument(parameter, bindingContext, exchange)
+				argMonos.add(resolver.resolveArgument(parameter, bindingContext, exchange)
 						.defaultIfEmpty(NO_ARG_VALUE)
 						.doOnError(ex -> logArgumentErrorIfNecessary(exchange, parameter, ex)));
 			}
@@ -252,6 +262,22 @@ public class InvocableHandlerMethod extends HandlerMethod {
 				Stream.of(values).map(value -> value != NO_ARG_VALUE ? value : null).toArray());
 	}
 
+	/**
+	 * Return the resolver for each of the given parameters, looked up once per
+	 * instance, with {@code null} elements for unsupported parameters.
+	 */
+	private HandlerMethodArgumentResolver[] getBoundResolvers(MethodParameter[] parameters) {
+		HandlerMethodArgumentResolver[] resolvers = this.boundResolvers;
+		if (resolvers == null) {
+			resolvers = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				resolvers[i] = this.resolvers.getArgumentResolver(parameters[i]);
+			}
+			this.boundResolvers = resolvers;
+		}
+		return resolvers;
+	}
+
 	private void logArgumentErrorIfNecessary(ServerWebExchange exchange, MethodParameter parameter, Throwable ex) {
 		// Leave stack trace for later, if error is not handled...
 		String exMsg = ex.getMessage();
@@ -51,6 +51,27 @@ class HeaderContentTypeResolverTests {
 		assertThat(mediaTypes.get(3).toString()).isEqualTo("text/plain;q=0.5");
 	}
 
+	@Test
+	void resolveMediaTypesFromMultipleHeaderValues() {
+		List<MediaType> mediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/")
+						.header("accept", "text/plain; q=0.5, text/html", "text/x-dvi; q=0.8, text/x-c")));
+
+		assertThat(mediaTypes).map(Object::toString)
+				.containsExactly("text/html", "text/x-c", "text/x-dvi;q=0.8", "text/plain;q=0.5");
+	}
+
+	@Test
+	void resolveMediaTypesFromCache() {
+		String header = "text/plain; q=0.5, text/html";
+		List<MediaType> mediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header)));
+		List<MediaType> cachedMediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header)));
+
+		assertThat(cachedMediaTypes).isSameAs(mediaTypes).isUnmodifiable();
+	}
+
 	@Test
 	void resolveMediaTypesParseError() {
 		String header = "textplain; q=0.5";
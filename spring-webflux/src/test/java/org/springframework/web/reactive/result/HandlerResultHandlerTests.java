@@ -112,6 +112,21 @@ class HandlerResultHandlerTests {
 		assertThat(actual).isEqualTo(TEXT_PLAIN);
 	}
 
+	@Test
+	void selectMediaTypeForSameAcceptHeaderAndDifferentProducibleTypes() {
+		String accept = "application/json, text/plain; q=0.5";
+		MockServerWebExchange exchange1 = MockServerWebExchange.from(MockServerHttpRequest.get("/path").header("Accept", accept));
+		MockServerWebExchange exchange2 = MockServerWebExchange.from(MockServerHttpRequest.get("/path").header("Accept", accept));
+		MockServerWebExchange exchange3 = MockServerWebExchange.from(MockServerHttpRequest.get("/path").header("Accept", accept));
+
+		assertThat(this.resultHandler.selectMediaType(exchange1, () -> List.of(TEXT_PLAIN, APPLICATION_JSON)))
+				.isEqualTo(APPLICATION_JSON);
+		assertThat(this.resultHandler.selectMediaType(exchange2, () -> List.of(TEXT_PLAIN)))
+				.isEqualTo(TEXT_PLAIN);
+		assertThat(this.resultHandler.selectMediaType(exchange3, () -> List.of(TEXT_PLAIN, APPLICATION_JSON)))
+				.isEqualTo(APPLICATION_JSON);
+	}
+
 
 	@SuppressWarnings("WeakerAccess")
 	private static class TestResultHandler extends HandlerResultHandlerSupport {
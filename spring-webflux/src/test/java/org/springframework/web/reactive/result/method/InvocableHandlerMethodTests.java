@@ -48,6 +48,8 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.web.testfixture.http.server.reactive.MockServerHttpRequest.get;
 
 /**
@@ -92,6 +94,19 @@ class InvocableHandlerMethodTests {
 		assertHandlerResultValue(mono, "success");
 	}
 
+	@Test
+	void resolveArgWithResolverLookedUpOnce() {
+		HandlerMethodArgumentResolver resolver = stubResolver("value1");
+		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
+		InvocableHandlerMethod invocable = new InvocableHandlerMethod(new TestController(), method);
+		invocable.setArgumentResolvers(List.of(resolver));
+
+		assertHandlerResultValue(invocable.invoke(this.exchange, new BindingContext()), "success:value1");
+		assertHandlerResultValue(invocable.invoke(this.exchange, new BindingContext()), "success:value1");
+		verify(resolver, times(1)).supportsParameter(any());
+		verify(resolver, times(2)).resolveArgument(any(), any(), any());
+	}
+
 	@Test
 	void cannotResolveArg() {
 		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
@@ -60,6 +60,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.accept.MediaTypeSelectionCache;
+import org.springframework.web.accept.MediaTypeSelectionCache.Selection;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
@@ -91,6 +93,8 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 	private static final List<MediaType> ALL_APPLICATION_MEDIA_TYPES =
 			List.of(MediaType.ALL, new MediaType("application"));
 
+	private static final int MEDIA_TYPE_SELECTION_CACHE_LIMIT = 256;
+
 	private static final Type RESOURCE_REGION_LIST_TYPE =
 			new ParameterizedTypeReference<List<ResourceRegion>>() {}.getType();
 
@@ -104,6 +108,9 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 
 	private final Set<String> safeExtensions = new HashSet<>();
 
+	private final MediaTypeSelectionCache mediaTypeSelectionCache =
+			new MediaTypeSelectionCache(MEDIA_TYPE_SELECTION_CACHE_LIMIT, this::computeMediaTypeSelection);
+
 
 	/**
 	 * Constructor with list of converters only.
@@ -273,15 +280,14 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 						"No converter found for return value of type: " + valueType);
 			}
 
-			List<MediaType> compatibleMediaTypes = new ArrayList<>();
-			determineCompatibleMediaTypes(acceptableTypes, producibleTypes, compatibleMediaTypes);
+			Selection selection = this.mediaTypeSelectionCache.get(acceptableTypes, producibleTypes);
 
 			// For ProblemDetail, fall back on RFC 7807 format
-			if (compatibleMediaTypes.isEmpty() && ProblemDetail.class.isAssignableFrom(valueType)) {
-				determineCompatibleMediaTypes(this.problemMediaTypes, producibleTypes, compatibleMediaTypes);
+			if (!selection.hasCompatibleTypes() && ProblemDetail.class.isAssignableFrom(valueType)) {
+				selection = computeMediaTypeSelection(this.problemMediaTypes, producibleTypes);
 			}
 
-			if (compatibleMediaTypes.isEmpty()) {
+			if (!selection.hasCompatibleTypes()) {
 				if (logger.isDebugEnabled()) {
 					logger.debug("No match for " + acceptableTypes + ", supported: " + producibleTypes);
 				}
@@ -291,18 +297,7 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 				return;
 			}
 
-			MimeTypeUtils.sortBySpecificity(compatibleMediaTypes);
-
-			for (MediaType mediaType : compatibleMediaTypes) {
-				if (mediaType.isConcrete()) {
-					selectedMediaType = mediaType;
-					break;
-				}
-				else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
-					selectedMediaType = MediaType.APPLICATION_OCTET_STREAM;
-					break;
-				}
-			}
+			selectedMediaType = selection.mediaType();
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("Using '" + selectedMediaType + "', given " +
@@ -434,16 +429,34 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 		return this.contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
 	}
 
-	private void determineCompatibleMediaTypes(
-			List<MediaType> acceptableTypes, List<MediaType> producibleTypes, List<MediaType> mediaTypesToUse) {
-
+	/**
+	 * Select the media type to use for the response, given the acceptable and
+	 * producible media types, on a miss of the media type selection cache.
+	 */
+	private Selection computeMediaTypeSelection(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+		List<MediaType> compatibleMediaTypes = new ArrayList<>();
 		for (MediaType requestedType : acceptableTypes) {
 			for (MediaType producibleType : producibleTypes) {
 				if (requestedType.isCompatibleWith(producibleType)) {
-					mediaTypesToUse.add(getMostSpecificMediaType(requestedType, producibleType));
+					compatibleMediaTypes.add(getMostSpecificMediaType(requestedType, producibleType));
 				}
 			}
 		}
+		if (compatibleMediaTypes.isEmpty()) {
+			return Selection.NONE;
+		}
+
+		MimeTypeUtils.sortBySpecificity(compatibleMediaTypes);
+
+		for (MediaType mediaType : compatibleMediaTypes) {
+			if (mediaType.isConcrete()) {
+				return new Selection(true, mediaType);
+			}
+			else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
+				return new Selection(true, MediaType.APPLICATION_OCTET_STREAM);
+			}
+		}
+		return new Selection(true, null);
 	}
 
 	/**